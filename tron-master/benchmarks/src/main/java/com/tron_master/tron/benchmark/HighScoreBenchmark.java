@@ -0,0 +1,81 @@
+package com.tron_master.tron.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.tron_master.tron.model.data.HighScoreManager;
+import com.tron_master.tron.model.data.HighScoreManager.GameMode;
+import com.tron_master.tron.model.data.HighScoreManager.ScoreEntry;
+
+/**
+ * {@link HighScoreManager#addScore(int, GameMode)} on a table of a given size.
+ * Scores go to a temporary file (via {@code highscores.path}), which is refilled
+ * before every call so the table does not grow during a run.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HighScoreBenchmark {
+
+    /** Number of scores already in the table. */
+    @Param({"10", "100", "1000"})
+    public int existingScores;
+
+    private Path file;
+    private List<String> seed;
+
+    /** Point the manager at a temporary file and prepare its contents. */
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("tron-highscores", ".txt");
+        System.setProperty("highscores.path", file.toString());
+        seed = new ArrayList<>();
+        GameMode[] modes = GameMode.values();
+        for (int i = 0; i < existingScores; i++) {
+            seed.add(new ScoreEntry(i * 7 % 1000, modes[i % modes.length]).toString());
+        }
+    }
+
+    /** Restore the seeded table before each call. */
+    @Setup(Level.Invocation)
+    public void refill() throws IOException {
+        HighScoreManager.resetInstance();
+        HighScoreManager.getInstance();
+        Files.write(file, seed);
+    }
+
+    /** Remove the temporary file. */
+    @TearDown
+    public void tearDown() throws IOException {
+        System.clearProperty("highscores.path");
+        HighScoreManager.resetInstance();
+        Files.deleteIfExists(file);
+    }
+
+    /** Read, insert, sort and write back one score. */
+    @Benchmark
+    public void addScore() {
+        HighScoreManager.getInstance().addScore(500, GameMode.SURVIVAL);
+    }
+}
@@ -0,0 +1,99 @@
+package com.tron_master.tron.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.tron_master.tron.model.collision.CollisionEngine;
+import com.tron_master.tron.model.collision.OccupancyBitmapCollisionEngine;
+import com.tron_master.tron.model.collision.TrailGrid;
+import com.tron_master.tron.model.data.ColorValue;
+import com.tron_master.tron.model.data.Intersection;
+import com.tron_master.tron.model.object.Player;
+import com.tron_master.tron.model.object.PlayerHuman;
+
+/**
+ * Head tests of the {@link CollisionEngine} implementations against trails of growing length.
+ * The probe sits just above a zig-zag trail that is folded back onto the same rows, so
+ * its cells hold the whole trail but it never touches it (the common case in a match).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntersectsBenchmark {
+
+    private static final ColorValue COLOR = new ColorValue(1.0, 0.0, 0.0);
+    private static final int WIDTH = 800;
+    private static final int HEIGHT = 800;
+
+    /** Collision engine under test. */
+    @Param({"grid", "bitmap"})
+    public String engine;
+
+    /** Number of segments in the other player's trail. */
+    @Param({"10", "100", "1000", "10000"})
+    public int trailLength;
+
+    private CollisionEngine collisions;
+    private PlayerHuman probe;
+
+    /** Build the trail, index it and give the probe one fast step along it. */
+    @Setup
+    public void setUp() {
+        collisions = "bitmap".equals(engine)
+                ? new OccupancyBitmapCollisionEngine(WIDTH, HEIGHT)
+                : new TrailGrid(WIDTH, HEIGHT);
+        probe = new PlayerHuman(400, 398, 6, 0, COLOR, "survival");
+        PlayerHuman other = new PlayerHuman(10, 402, 3, 0, COLOR, "survival");
+        probe.setBounds(WIDTH, HEIGHT);
+        other.setBounds(WIDTH, HEIGHT);
+        int x = 10;
+        int y = 402;
+        for (int i = 0; i < trailLength; i++) {
+            if (i % 2 == 0) {
+                other.getPath().add(x, y, x + 20, y);
+                x += 20;
+            } else {
+                int ny = y == 402 ? 422 : 402;
+                other.getPath().add(x, y, x, ny);
+                y = ny;
+            }
+            if (x > 780) {
+                x = 10;
+            }
+        }
+        collisions.track(new Player[]{probe, other});
+        probe.move();
+    }
+
+    /**
+     * Test the probe's head position.
+     * @return the result, so the call is not eliminated
+     */
+    @Benchmark
+    public Intersection intersects() {
+        return collisions.intersects(probe);
+    }
+
+    /**
+     * Test every position the probe passed on its last step.
+     * @return the result, so the call is not eliminated
+     */
+    @Benchmark
+    public Intersection sweep() {
+        return collisions.sweep(probe);
+    }
+}
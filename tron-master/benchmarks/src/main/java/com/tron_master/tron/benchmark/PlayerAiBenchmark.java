@@ -0,0 +1,88 @@
+package com.tron_master.tron.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.tron_master.tron.controller.WallLayoutController;
+import com.tron_master.tron.model.collision.TrailGrid;
+import com.tron_master.tron.model.data.ColorValue;
+import com.tron_master.tron.model.object.Player;
+import com.tron_master.tron.model.object.PlayerAI;
+
+/**
+ * One {@link PlayerAI#move()} (which runs the proximity reaction) with 2 to 8 players
+ * on the story walls. Every opponent drags a trail, indexed by a {@link TrailGrid} as in a match.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerAiBenchmark {
+
+    private static final int SIZE = 600;
+    private static final int START_X = 300;
+    private static final int START_Y = 300;
+    private static final int TRAIL_SEGMENTS = 200;
+
+    /** Number of players in the match, the benchmarked AI included. */
+    @Param({"2", "4", "8"})
+    public int players;
+
+    private PlayerAI ai;
+
+    /** Place the players, give every opponent a trail and hand walls, roster and trail index to the AI. */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        Player[] roster = new Player[players];
+        for (int i = 0; i < players; i++) {
+            ColorValue color = new ColorValue(i / (double) players, 1.0, 0.0);
+            int x = 40 + i * (SIZE - 80) / players;
+            roster[i] = new PlayerAI(x, 40, 0, 3, color, "story");
+            roster[i].setBounds(SIZE, SIZE);
+        }
+        ai = (PlayerAI) roster[0];
+        ai.setX(START_X);
+        ai.setY(START_Y);
+        for (int i = 1; i < players; i++) {
+            int x = roster[i].getX();
+            int y = 40;
+            for (int s = 0; s < TRAIL_SEGMENTS; s++) {
+                int ny = s % 2 == 0 ? y + 2 : y;
+                roster[i].getPath().add(x, y, x + (s % 2), ny);
+                x += s % 2;
+                y = ny;
+            }
+        }
+        for (Player p : roster) {
+            p.addPlayers(roster);
+        }
+        ai.setWalls(WallLayoutController.loadStoryWalls());
+        new TrailGrid(SIZE, SIZE).track(roster);
+    }
+
+    /**
+     * Put the AI back at its start and let it decide and move once.
+     * @return new x, so the move is not eliminated
+     */
+    @Benchmark
+    public int move() {
+        ai.setX(START_X);
+        ai.setY(START_Y);
+        ai.move();
+        return ai.getX();
+    }
+}
@@ -0,0 +1,102 @@
+package com.tron_master.tron.benchmark;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.tron_master.tron.model.ai.AiScheduler;
+import com.tron_master.tron.model.data.MatchContext;
+import com.tron_master.tron.model.logic_strategy.GameLogic;
+import com.tron_master.tron.model.logic_strategy.SimulationEngine;
+import com.tron_master.tron.model.object.Player;
+
+/**
+ * One tick of a headless story match: {@link GameLogic#updateGame(Player[])} followed by the
+ * wall and portal checks of the strategy. A new match at the same level is started whenever
+ * one ends, so the figure averages over whole matches rather than an empty board.
+ *
+ * <p>{@code scheduler} compares the AI decisions without an {@link AiScheduler} (every AI
+ * decides in its own move), with the default scheduler on the ticking thread, and with a
+ * scheduler spreading each tick over {@value AiScheduler#MAX_WORKERS} threads.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UpdateGameBenchmark {
+
+    /** Number of players in the story match. */
+    @Param({"2", "4", "8"})
+    public int players;
+
+    /** Story level: the AIs use the heuristic below level 4 and the tree search from it. */
+    @Param({"1", "4"})
+    public int level;
+
+    /** How the AI decisions are made: "none", "caller" or "pool". */
+    @Param({"none", "caller", "pool"})
+    public String scheduler;
+
+    private SimulationEngine engine;
+    private ExecutorService pool;
+
+    /** Build the first match. */
+    @Setup
+    public void setUp() {
+        if ("pool".equals(scheduler)) {
+            pool = Executors.newFixedThreadPool(AiScheduler.MAX_WORKERS - 1,
+                    Thread.ofPlatform().name("tron-ai-", 0).daemon().factory());
+        }
+        start();
+    }
+
+    /** Start a match at the benchmarked level (a reset would go back to level 1). */
+    private void start() {
+        MatchContext context = new MatchContext();
+        context.setStoryLevel(level);
+        engine = SimulationEngine.story(players, context);
+        switch (scheduler) {
+            case "none" -> engine.getLogic().setAiScheduler(null);
+            case "pool" -> engine.getLogic().setAiScheduler(new AiScheduler(AiScheduler.DEFAULT_INTERVAL,
+                    AiScheduler.DEFAULT_TICK_BUDGET_NANOS, pool, AiScheduler.MAX_WORKERS));
+            default -> {
+                // GameLogic's own scheduler thinks on the ticking thread
+            }
+        }
+    }
+
+    /** Stop the worker threads, if any. */
+    @TearDown
+    public void tearDown() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Run one tick, starting a new match once the last one has ended.
+     * @return whether the match is still running
+     */
+    @Benchmark
+    public boolean updateGame() {
+        if (engine.isStopped()) {
+            start();
+        }
+        return engine.step();
+    }
+}
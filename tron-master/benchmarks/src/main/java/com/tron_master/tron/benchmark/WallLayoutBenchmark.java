@@ -0,0 +1,41 @@
+package com.tron_master.tron.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.tron_master.tron.controller.WallLayoutController;
+import com.tron_master.tron.model.object.Wall;
+
+/**
+ * {@link WallLayoutController#loadSurvivalWalls}: parsing the layout and cutting random gaps,
+ * which happens at every survival round.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WallLayoutBenchmark {
+
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    /**
+     * Load the survival walls.
+     * @return the walls, so the load is not eliminated
+     */
+    @Benchmark
+    public Wall[] loadSurvivalWalls() {
+        return WallLayoutController.loadSurvivalWalls(random);
+    }
+}
@@ -2,6 +2,7 @@ package com.tron_master.tron.controller;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import com.tron_master.tron.model.object.Player;
 import com.tron_master.tron.model.object.PlayerHuman;
@@ -20,6 +21,7 @@ public class PlayerController {
     private final List<PlayerHuman> humanPlayers = new ArrayList<>(); // store all human players
     private static final int VELOCITY = 3; // Default player velocity
     private boolean isRenderingEnabled = true;
+    private Executor inputExecutor = Runnable::run; // where player changes are applied
 
     /**
      * Create controller for given players.
@@ -64,36 +66,44 @@ public class PlayerController {
         // Get the player associated with the key press
         PlayerHuman targetPlayer = getPlayerForKey(key);
 
-        // Only process input if player exists and is alive
-        if (targetPlayer != null && targetPlayer.getAlive()) {
-            switch (key) {
-                case W, UP -> {
-                    targetPlayer.setVelocityX(0);
-                    targetPlayer.setVelocityY(-VELOCITY);
-                }
-                case A, LEFT -> {
-                    targetPlayer.setVelocityX(-VELOCITY);
-                    targetPlayer.setVelocityY(0);
-                }
-                case S, DOWN -> {
-                    targetPlayer.setVelocityX(0);
-                    targetPlayer.setVelocityY(VELOCITY);
-                }
-                case D, RIGHT -> {
-                    targetPlayer.setVelocityX(VELOCITY);
-                    targetPlayer.setVelocityY(0);
-                }
-                case Q, SPACE -> targetPlayer.jump();
-                case DIGIT1, B -> targetPlayer.startBoost();
-                default -> {
-                    // Ignore other keys
-                }
-            }
+        // Only process input if player exists; the move itself runs where the simulation runs
+        if (targetPlayer != null) {
+            inputExecutor.execute(() -> applyKey(targetPlayer, key));
             // Consume the event to prevent it from triggering focus traversal
             event.consume();
         }
     }
 
+    private void applyKey(PlayerHuman targetPlayer, KeyCode key) {
+        // Only alive players react to input
+        if (!targetPlayer.getAlive()) {
+            return;
+        }
+        switch (key) {
+            case W, UP -> {
+                targetPlayer.setVelocityX(0);
+                targetPlayer.setVelocityY(-VELOCITY);
+            }
+            case A, LEFT -> {
+                targetPlayer.setVelocityX(-VELOCITY);
+                targetPlayer.setVelocityY(0);
+            }
+            case S, DOWN -> {
+                targetPlayer.setVelocityX(0);
+                targetPlayer.setVelocityY(VELOCITY);
+            }
+            case D, RIGHT -> {
+                targetPlayer.setVelocityX(VELOCITY);
+                targetPlayer.setVelocityY(0);
+            }
+            case Q, SPACE -> targetPlayer.jump();
+            case DIGIT1, B -> targetPlayer.startBoost();
+            default -> {
+                // Ignore other keys
+            }
+        }
+    }
+
     private PlayerHuman getPlayerForKey(KeyCode key) {
         // If no human players, return null
         if (humanPlayers.isEmpty()) {
@@ -127,6 +137,15 @@ public class PlayerController {
         gameArea.setOnKeyPressed(this::handleKeyPress);
     }
 
+    /**
+     * Set where input is applied to the players, e.g. the simulation thread.
+     * By default it is applied directly on the calling thread.
+     * @param inputExecutor executor that runs player changes
+     */
+    public void setInputExecutor(Executor inputExecutor) {
+        this.inputExecutor = inputExecutor != null ? inputExecutor : Runnable::run;
+    }
+
     /**
      * Enable or disable rendering (used during countdowns).
      * @param renderingEnabled true to render players
@@ -1,21 +1,23 @@
 package com.tron_master.tron.controller;
 
-import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
+import java.util.random.RandomGenerator;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
 
 import com.tron_master.tron.model.data.ColorValue;
 import com.tron_master.tron.model.object.GameObjectFactory;
 import com.tron_master.tron.model.object.Portal;
 import com.tron_master.tron.model.object.Wall;
 
-import javafx.fxml.FXMLLoader;
-import javafx.scene.layout.Pane;
-import javafx.scene.shape.Rectangle;
-
 /**
  * Loads wall and portal layouts from FXML files designed in SceneBuilder.
  * FXML naming conventions:
@@ -24,6 +26,9 @@ import javafx.scene.shape.Rectangle;
  * - Portal exits: fx:id starting with "portal_exit_" (e.g., portal_exit_1)
  * Entrance and exit portals with matching suffix numbers are automatically linked.
  * Survival mode walls are loaded with random gaps cut into each wall segment.
+ *
+ * The FXML files are read as plain XML (only the Rectangle attributes are needed),
+ * so layouts load without the JavaFX toolkit, e.g. in a headless simulation.
  */
 public class WallLayoutController {
 
@@ -38,8 +43,6 @@ public class WallLayoutController {
     private static final int MIN_GAP_SIZE = 25;
     /** Maximum gap size for survival walls */
     private static final int MAX_GAP_SIZE = 45;
-    /** Random generator for gap placement */
-    private static final Random random = new Random();
 
     // ==================== Public API ====================
 
@@ -55,9 +58,10 @@ public class WallLayoutController {
     public static Wall[] loadStoryWalls()     { return loadWalls(STORY_FXML); }
     /**
      * Load walls for survival mode (with gaps).
+     * @param random source of the gap positions and sizes (the match's stream)
      * @return walls for survival mode (with gaps).
      */
-    public static Wall[] loadSurvivalWalls()  { return loadWallsWithGaps(SURVIVAL_FXML); }
+    public static Wall[] loadSurvivalWalls(RandomGenerator random) { return loadWallsWithGaps(SURVIVAL_FXML, random); }
     /**
      * Load portals for story mode.
      * @return portals for story mode.
@@ -93,13 +97,13 @@ public class WallLayoutController {
     // ==================== Internal Loading ====================
 
     private static Wall[] loadWalls(String fxmlPath) {
-        Pane root = loadFxml(fxmlPath);
-        if (root == null) return new Wall[0];
+        List<Rectangle> rects = loadRectangles(fxmlPath);
+        if (rects == null) return new Wall[0];
 
         List<Wall> walls = new ArrayList<>();
-        root.getChildren().stream()
-            .filter(node -> node instanceof Rectangle rect && !isPortal(rect.getId()))
-            .map(node -> toWall((Rectangle) node))
+        rects.stream()
+            .filter(rect -> !isPortal(rect.id()))
+            .map(WallLayoutController::toWall)
             .forEach(walls::add);
 
         return walls.toArray(Wall[]::new);
@@ -110,15 +114,14 @@ public class WallLayoutController {
      * Horizontal walls (width > height) get horizontal gaps.
      * Vertical walls (height > width) get vertical gaps.
      */
-    private static Wall[] loadWallsWithGaps(String fxmlPath) {
-        Pane root = loadFxml(fxmlPath);
-        if (root == null) return new Wall[0];
+    private static Wall[] loadWallsWithGaps(String fxmlPath, RandomGenerator random) {
+        List<Rectangle> rects = loadRectangles(fxmlPath);
+        if (rects == null) return new Wall[0];
 
         List<Wall> walls = new ArrayList<>();
-        root.getChildren().stream()
-            .filter(node -> node instanceof Rectangle rect && !isPortal(rect.getId()))
-            .map(node -> (Rectangle) node)
-            .forEach(rect -> splitWallWithGap(rect, walls));
+        rects.stream()
+            .filter(rect -> !isPortal(rect.id()))
+            .forEach(rect -> splitWallWithGap(rect, walls, random));
 
         return walls.toArray(Wall[]::new);
     }
@@ -127,13 +130,14 @@ public class WallLayoutController {
      * Splits a single wall rectangle into two segments with a random gap.
      * @param rect Original wall rectangle from FXML
      * @param walls List to add resulting wall segments to
+     * @param random source of the gap position and size
      */
-    private static void splitWallWithGap(Rectangle rect, List<Wall> walls) {
-        int x = (int) rect.getLayoutX();
-        int y = (int) rect.getLayoutY();
-        int width = (int) rect.getWidth();
-        int height = (int) rect.getHeight();
-        ColorValue color = "magenta".equals(rect.getUserData()) ? Wall.NEON_MAGENTA : Wall.NEON_CYAN;
+    private static void splitWallWithGap(Rectangle rect, List<Wall> walls, RandomGenerator random) {
+        int x = rect.x();
+        int y = rect.y();
+        int width = rect.width();
+        int height = rect.height();
+        ColorValue color = rect.color();
 
         boolean isHorizontal = width > height;
         int length = isHorizontal ? width : height;
@@ -173,24 +177,21 @@ public class WallLayoutController {
     }
 
     private static Portal[] loadPortals(String fxmlPath) {
-        Pane root = loadFxml(fxmlPath);
-        if (root == null) return new Portal[0];
+        List<Rectangle> rects = loadRectangles(fxmlPath);
+        if (rects == null) return new Portal[0];
 
         Map<String, Portal> entrances = new HashMap<>();
         Map<String, Portal> exits = new HashMap<>();
 
-        root.getChildren().stream()
-            .filter(node -> node instanceof Rectangle)
-            .map(node -> (Rectangle) node)
-            .forEach(rect -> {
-                String id = rect.getId();
-                if (id == null) return;
-                if (id.startsWith("portal_entrance_")) {
-                    entrances.put(id.substring(16), toPortal(rect, true));
-                } else if (id.startsWith("portal_exit_")) {
-                    exits.put(id.substring(12), toPortal(rect, false));
-                }
-            });
+        rects.forEach(rect -> {
+            String id = rect.id();
+            if (id == null) return;
+            if (id.startsWith("portal_entrance_")) {
+                entrances.put(id.substring(16), toPortal(rect, true));
+            } else if (id.startsWith("portal_exit_")) {
+                exits.put(id.substring(12), toPortal(rect, false));
+            }
+        });
 
         // Link matching entrance-exit pairs
         entrances.forEach((key, entrance) -> {
@@ -203,30 +204,68 @@ public class WallLayoutController {
         return all.toArray(Portal[]::new);
     }
 
-    private static Pane loadFxml(String path) {
-        try {
-            return new FXMLLoader(WallLayoutController.class.getResource(path)).load();
-        } catch (IOException e) {
+    /**
+     * Reads the Rectangle elements of a layout file.
+     * @param path classpath resource of the FXML layout
+     * @return rectangles in document order, or null if the file cannot be read
+     */
+    private static List<Rectangle> loadRectangles(String path) {
+        try (InputStream in = WallLayoutController.class.getResourceAsStream(path)) {
+            if (in == null) {
+                System.err.println("Failed to load FXML: " + path);
+                return null;
+            }
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            NodeList nodes = factory.newDocumentBuilder().parse(in).getElementsByTagName("Rectangle");
+            List<Rectangle> rects = new ArrayList<>(nodes.getLength());
+            for (int i = 0; i < nodes.getLength(); i++) {
+                Element e = (Element) nodes.item(i);
+                rects.add(new Rectangle(
+                    e.hasAttribute("fx:id") ? e.getAttribute("fx:id") : null,
+                    number(e, "layoutX"), number(e, "layoutY"),
+                    number(e, "width"), number(e, "height"),
+                    e.getAttribute("userData")));
+            }
+            return rects;
+        } catch (Exception e) {
             System.err.println("Failed to load FXML: " + path);
             return null;
         }
     }
 
+    private static int number(Element e, String attribute) {
+        String value = e.getAttribute(attribute);
+        return value.isEmpty() ? 0 : (int) Double.parseDouble(value);
+    }
+
     private static boolean isPortal(String id) {
         return id != null && id.startsWith("portal_");
     }
 
     private static Wall toWall(Rectangle rect) {
-        ColorValue color = "magenta".equals(rect.getUserData()) ? Wall.NEON_MAGENTA : Wall.NEON_CYAN;
-        return GameObjectFactory.createWall(
-            (int) rect.getLayoutX(), (int) rect.getLayoutY(),
-            (int) rect.getWidth(), (int) rect.getHeight(), color);
+        return GameObjectFactory.createWall(rect.x(), rect.y(), rect.width(), rect.height(), rect.color());
     }
 
     private static Portal toPortal(Rectangle rect, boolean isEntrance) {
-        int x = (int) rect.getLayoutX(), y = (int) rect.getLayoutY();
-        int w = (int) rect.getWidth(), h = (int) rect.getHeight();
+        int x = rect.x(), y = rect.y();
+        int w = rect.width(), h = rect.height();
         return isEntrance ? GameObjectFactory.createPortalEntrance(x, y, w, h)
                           : GameObjectFactory.createPortalExit(x, y, w, h);
     }
+
+    /**
+     * The attributes of one FXML Rectangle that matter for a layout.
+     * @param id fx:id (may be null)
+     * @param x layoutX
+     * @param y layoutY
+     * @param width rectangle width
+     * @param height rectangle height
+     * @param userData userData ("cyan" or "magenta")
+     */
+    private record Rectangle(String id, int x, int y, int width, int height, String userData) {
+        ColorValue color() {
+            return "magenta".equals(userData) ? Wall.NEON_MAGENTA : Wall.NEON_CYAN;
+        }
+    }
 }
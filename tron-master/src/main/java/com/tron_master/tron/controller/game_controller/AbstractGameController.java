@@ -1,16 +1,27 @@
 package com.tron_master.tron.controller.game_controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
 import com.tron_master.tron.Game;
 import com.tron_master.tron.controller.PlayerController;
 import com.tron_master.tron.controller.interfaces.PlayMenuController;
+import com.tron_master.tron.controller.metrics.GameMetrics;
 import com.tron_master.tron.controller.sound.SoundEffectListener;
+import com.tron_master.tron.model.logic_strategy.WorldSnapshot;
 import com.tron_master.tron.model.object.Player;
-import com.tron_master.tron.model.object.PlayerStateListener;
 import com.tron_master.tron.model.sound.SoundManager;
 import com.tron_master.tron.view.game_view.GameArea;
 
 import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 
 /**
  * Abstract base controller for all game modes using Template Method Pattern.
@@ -19,16 +30,34 @@ import javafx.application.Platform;
  * 
  * <p>Template methods define the algorithm structure:</p>
  * <ul>
- *   <li>{@link #gameTick()} - Main game loop iteration</li>
+ *   <li>{@link #gameTick()} - One logic step on the simulation thread</li>
+ *   <li>{@link #renderFrame(WorldSnapshot, double)} - One frame on the JavaFX application thread</li>
+ *   <li>{@link #handleSnapshotEvents(WorldSnapshot)} - Sound and game end for the events of a snapshot</li>
  *   <li>{@link #handleGameEnd()} - Process game completion</li>
  *   <li>{@link #doReset()} - Reset game to initial state</li>
  * </ul>
+ *
+ * <p>Every phase of the loop is timed into {@link #metrics}. F3 toggles an on-canvas
+ * overlay with the figures, F4 writes them to a CSV file in the user's home directory.</p>
  */
-public abstract class AbstractGameController implements PlayerStateListener {
+public abstract class AbstractGameController {
 
     protected PlayerController playerController;
     protected GameLoopTimer timer;
     protected SoundEffectListener soundListener;
+    /** Timings and load figures of this controller's game loop. */
+    protected final GameMetrics metrics = new GameMetrics();
+    private boolean metricsOverlay = false;
+    /** Game area the metrics keys are installed on. */
+    private GameArea metricsKeyTarget;
+
+    /**
+     * Length of one logic tick in nanoseconds (about 33 ms). The old pulse-driven loop
+     * ticked on every other 60 Hz pulse, so this keeps its 30 ticks per second.
+     */
+    protected static final long TICK_INTERVAL = 33_333_333;
+    /** Maximum logic ticks run to catch up after one wake-up of the simulation thread. */
+    protected static final int MAX_TICKS_PER_FRAME = 5;
 
     /**
      * Base constructor for shared controller setup.
@@ -48,14 +77,31 @@ public abstract class AbstractGameController implements PlayerStateListener {
     /** Check if game logic is still running */
     protected abstract boolean isGameRunning();
 
-    /** Execute game logic tick (call logic.tick()) */
+    /** Execute game logic tick (call logic.tick()) - runs on the simulation thread */
     protected abstract void doGameTick();
 
-    /** Render game objects (walls, portals, players, etc.) */
-    protected abstract void render();
+    /** Take a self-contained snapshot of the game logic (call logic.snapshot()) - while the simulation is stopped */
+    protected abstract WorldSnapshot takeSnapshot();
 
-    /** Update UI display (scores, boost, level, etc.) */
-    protected abstract void updateUI();
+    /**
+     * Fill a reusable snapshot after a tick (call logic.snapshot(recorder, target, carryOver)) - runs on the simulation thread
+     * @param recorder recorder of the current game loop
+     * @param target buffer to fill
+     * @param carryOver previous snapshot that was never rendered, or null
+     */
+    protected abstract void captureSnapshot(WorldSnapshot.Recorder recorder, WorldSnapshot target, WorldSnapshot carryOver);
+
+    /**
+     * Render game objects (walls, portals, players, etc.) from a snapshot
+     * @param snapshot latest snapshot published by the simulation
+     */
+    protected abstract void render(WorldSnapshot snapshot);
+
+    /**
+     * Update UI display (scores, boost, level, etc.) from a snapshot
+     * @param snapshot snapshot to show
+     */
+    protected abstract void updateUI(WorldSnapshot snapshot);
 
     /** Handle game end state (show game over, save scores, etc.) */
     protected abstract void handleGameEnd();
@@ -71,37 +117,135 @@ public abstract class AbstractGameController implements PlayerStateListener {
     /** Hook called after game ends - default does nothing */
     protected void afterGameEnd() {}
 
+    /**
+     * Hook called on the JavaFX application thread after a tick threw and the game loop
+     * was stopped - default reports the failure on standard error.
+     * @param failure exception thrown by the tick
+     */
+    protected void onSimulationFailed(RuntimeException failure) {
+        System.err.println("Game stopped after a failed tick: " + failure);
+        failure.printStackTrace();
+    }
+
     // ==================== Common Implementation (Template Method Pattern) ====================
 
     /**
      * Standard game loop timer - shared by all game modes.
+     * The logic runs on a {@link SimulationThread} at a fixed {@value #TICK_INTERVAL} ns
+     * step; this timer only consumes the snapshots it publishes and renders one frame
+     * per pulse on the JavaFX application thread.
      */
     protected class GameLoopTimer extends AnimationTimer {
-        private long lastUpdate = 0;
-        private static final long TICK_INTERVAL = 20_000_000; // 20ms
+        private final WorldSnapshot.Recorder recorder = new WorldSnapshot.Recorder();
+        private final SimulationThread<WorldSnapshot> simulation = new SimulationThread<>(
+                TICK_INTERVAL, MAX_TICKS_PER_FRAME, AbstractGameController.this::gameTick,
+                WorldSnapshot::new, (target, carryOver) -> timedCapture(recorder, target, carryOver));
+        private WorldSnapshot latest;
+
+        GameLoopTimer() {
+            simulation.setOnFailure(e -> Platform.runLater(() -> {
+                stop();
+                onSimulationFailed(e);
+            }));
+        }
 
         @Override
         public void handle(long now) {
-            if (now - lastUpdate >= TICK_INTERVAL && isGameRunning()) {
-                gameTick();
-                lastUpdate = now;
+            frame();
+        }
+
+        private void frame() {
+            WorldSnapshot published = simulation.take();
+            if (published != null) {
+                latest = published;
+            }
+            // keep redrawing while running (interpolation moves on); once stopped, only a new final frame
+            if (latest != null && (published != null || simulation.isRunning())) {
+                // once stopped, show the final positions rather than an in-between state
+                double alpha = simulation.isRunning()
+                        ? (System.nanoTime() - latest.createdNanos()) / (double) TICK_INTERVAL
+                        : 1.0;
+                renderFrame(latest, alpha);
+            }
+            if (published != null) {
+                handleSnapshotEvents(published);
             }
         }
 
+        @Override
+        public void start() {
+            simulation.start();
+            super.start();
+        }
+
+        /**
+         * Stop the simulation and the frame pulse. When the logic stops itself from
+         * the simulation thread, its final snapshot is still rendered.
+         */
         @Override
         public void stop() {
-            super.stop();
+            simulation.stop();
+            if (Platform.isFxApplicationThread()) {
+                recorder.detach();
+                super.stop();
+            } else {
+                Platform.runLater(() -> {
+                    simulation.stop(); // waits until the stopping wake-up has published its snapshot
+                    recorder.detach();
+                    frame();
+                    super.stop();
+                });
+            }
+        }
+
+        /**
+         * Check whether the simulation is started and has not been stopped since.
+         * @return true while running
+         */
+        public boolean isRunning() {
+            return simulation.isRunning();
+        }
+
+        /**
+         * Get the number of ticks dropped because the simulation fell too far behind.
+         * @return dropped tick count
+         */
+        public long getDroppedTicks() {
+            return simulation.getDroppedSteps();
+        }
+
+        /**
+         * Get the number of ticks run late to catch up.
+         * @return late tick count
+         */
+        public long getLateTicks() {
+            return simulation.getLateSteps();
+        }
+
+        /**
+         * Run a command (e.g. player input) on the simulation thread before the next tick.
+         * @param command command to run
+         */
+        public void submit(Runnable command) {
+            simulation.submit(command);
         }
     }
 
     /** Initialize the game timer */
     protected void initializeGameTimer() {
+        if (soundListener == null) {
+            soundListener = new SoundEffectListener();
+        }
         timer = new GameLoopTimer();
     }
 
     /** Start the game loop and request focus */
     protected void startGame() {
         beforeGameStart();
+        if (playerController != null) {
+            playerController.setInputExecutor(this::submitInput);
+        }
+        installMetricsKeys();
         if (timer != null) {
             timer.start();
         }
@@ -116,45 +260,135 @@ public abstract class AbstractGameController implements PlayerStateListener {
     }
 
     /**
-     * Main game tick - the core template method.
-     * Calls abstract methods in fixed order: logic -> UI -> render.
+     * Main game tick - runs one logic step on the simulation thread.
      */
     protected void gameTick() {
-        doGameTick();
-        updateUI();
-        render();
+        if (isGameRunning()) {
+            long allocated = GameMetrics.threadAllocatedBytes();
+            long start = System.nanoTime();
+            doGameTick();
+            metrics.record(GameMetrics.Phase.TICK, start);
+            metrics.countTick();
+            metrics.addAllocatedBytes(GameMetrics.threadAllocatedBytes() - allocated);
+        }
     }
 
-    // ==================== Observer Pattern Support ====================
+    private void timedCapture(WorldSnapshot.Recorder recorder, WorldSnapshot target, WorldSnapshot carryOver) {
+        long allocated = GameMetrics.threadAllocatedBytes();
+        long start = System.nanoTime();
+        captureSnapshot(recorder, target, carryOver);
+        metrics.record(GameMetrics.Phase.SNAPSHOT, start);
+        metrics.addAllocatedBytes(GameMetrics.threadAllocatedBytes() - allocated);
+    }
 
-    /** Register this controller as listener for player state changes */
-    protected void registerPlayerListeners() {
-        if (soundListener == null) {
-            soundListener = new SoundEffectListener();
+    /**
+     * Render one frame on the JavaFX application thread: UI -> render.
+     * @param snapshot latest snapshot published by the simulation
+     * @param alpha fraction of the next tick elapsed since the snapshot was taken
+     */
+    protected void renderFrame(WorldSnapshot snapshot, double alpha) {
+        long allocated = GameMetrics.threadAllocatedBytes();
+        updateMetrics(snapshot);
+        long start = System.nanoTime();
+        updateUI(snapshot);
+        metrics.record(GameMetrics.Phase.UPDATE_UI, start);
+        start = System.nanoTime();
+        getGameArea().setInterpolation(alpha);
+        render(snapshot);
+        metrics.record(GameMetrics.Phase.RENDER, start);
+        metrics.addAllocatedBytes(GameMetrics.threadAllocatedBytes() - allocated);
+    }
+
+    // ==================== Metrics ====================
+
+    private void updateMetrics(WorldSnapshot snapshot) {
+        if (timer != null) {
+            metrics.setTimestepCounters(timer.getDroppedTicks(), timer.getLateTicks());
         }
-        Player[] players = getPlayers();
-        if (players != null) {
-            for (Player player : players) {
-                if (player != null) {
-                    player.addStateListener(this);
-                    player.addStateListener(soundListener);
-                }
-            }
+        int segments = 0;
+        for (int i = 0; i < snapshot.playerCount(); i++) {
+            segments += snapshot.trailSize(i);
+        }
+        metrics.setTrailSegments(segments);
+        if (metrics.sample(System.nanoTime()) && metricsOverlay) {
+            getGameArea().setOverlay(metrics.getOverlayLines());
         }
     }
 
-    /** Unregister this controller from all player listeners */
-    protected void unregisterPlayerListeners() {
-        Player[] players = getPlayers();
-        if (players != null) {
-            for (Player player : players) {
-                if (player != null) {
-                    player.removeStateListener(this);
-                    if (soundListener != null) {
-                        player.removeStateListener(soundListener);
-                    }
-                }
-            }
+    private void installMetricsKeys() {
+        GameArea area = getGameArea();
+        if (area != null && area != metricsKeyTarget) {
+            area.addEventHandler(KeyEvent.KEY_PRESSED, this::handleMetricsKey);
+            metricsKeyTarget = area;
+        }
+    }
+
+    private void handleMetricsKey(KeyEvent event) {
+        if (event.getCode() == KeyCode.F3) {
+            toggleMetricsOverlay();
+        } else if (event.getCode() == KeyCode.F4) {
+            exportMetrics();
+        }
+    }
+
+    /** Show or hide the metrics overlay on the game area. */
+    public void toggleMetricsOverlay() {
+        metricsOverlay = !metricsOverlay;
+        getGameArea().setOverlay(metricsOverlay ? metrics.getOverlayLines() : null);
+    }
+
+    /**
+     * Write the metrics as CSV to a time-stamped file in the user's home directory
+     * and show the file name on the metrics overlay.
+     * @return written file, or null if it could not be written
+     */
+    public Path exportMetrics() {
+        String stamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        Path file = Path.of(System.getProperty("user.home"), "tron-metrics-" + stamp + ".csv");
+        try (Writer out = Files.newBufferedWriter(file)) {
+            metrics.writeCsv(out);
+            metrics.setNotice("saved ~/" + file.getFileName());
+            metricsOverlay = true;
+            getGameArea().setOverlay(metrics.getOverlayLines());
+            return file;
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println("Failed to write metrics: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * React to the player events of a rendered snapshot: play their sounds and, once the
+     * logic has stopped after a death, end the game.
+     * @param snapshot snapshot that has just been rendered
+     */
+    protected void handleSnapshotEvents(WorldSnapshot snapshot) {
+        if (soundListener != null) {
+            soundListener.onSnapshot(snapshot);
+        }
+        if (!snapshot.running() && snapshot.anyEvent(WorldSnapshot.DIED)) {
+            handleGameEnd();
+            afterGameEnd();
+        }
+    }
+
+    /** Update UI display from a fresh snapshot, e.g. after a reset while the game loop is stopped */
+    protected void updateUI() {
+        WorldSnapshot snapshot = takeSnapshot();
+        if (snapshot != null) {
+            updateUI(snapshot);
+        }
+    }
+
+    /**
+     * Run player input on the simulation thread while the game loop is running.
+     * @param command input command
+     */
+    protected void submitInput(Runnable command) {
+        if (timer != null) {
+            timer.submit(command);
+        } else {
+            command.run();
         }
     }
 
@@ -174,31 +408,7 @@ public abstract class AbstractGameController implements PlayerStateListener {
     /** Handle exit button click - return to play menu */
     public void onExitBtnClick() {
         SoundManager.getInstance().playSoundEffect("clic");
-        unregisterPlayerListeners();
         stopGame();
         Game.getPrimaryStage().setScene(new PlayMenuController().createPlayMenuScene());
     }
-
-    // ==================== PlayerStateListener Default Implementation ====================
-
-    @Override
-    public void onPlayerDied(Player player) {
-        Platform.runLater(() -> {
-            if (!isGameRunning()) {
-                handleGameEnd();
-                afterGameEnd();
-            }
-            playerController.renderPlayers();
-        });
-    }
-
-    @Override
-    public void onPlayerBoosted(Player player, int boostLeft) {
-        Platform.runLater(this::updateUI);
-    }
-
-    @Override
-    public void onPlayerJumped(Player player) {
-        // Default: do nothing, subclasses can override if needed
-    }
 }
@@ -0,0 +1,74 @@
+package com.tron_master.tron.controller.game_controller;
+
+/**
+ * Fixed-timestep accumulator for the game loop.
+ * Frame time is added to an accumulator and paid out in whole logic steps, so the
+ * simulation advances exactly once per step interval no matter how irregular the
+ * frame pulse is. A slow frame is caught up with several steps, up to a cap; time
+ * beyond the cap is dropped so an overloaded machine slows down instead of falling
+ * further and further behind.
+ */
+public class FixedTimestep {
+
+    private final long stepNanos;
+    private final int maxStepsPerFrame;
+    private long lastFrame = -1;
+    private long accumulator;
+    private long droppedSteps;
+
+    /**
+     * Create a timestep.
+     * @param stepNanos length of one logic step in nanoseconds
+     * @param maxStepsPerFrame maximum number of steps paid out per frame
+     */
+    public FixedTimestep(long stepNanos, int maxStepsPerFrame) {
+        this.stepNanos = stepNanos;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+    }
+
+    /**
+     * Account for a new frame and take the logic steps that are due.
+     * The first frame after a reset pays out one step.
+     * @param now frame timestamp in nanoseconds
+     * @return number of logic steps to run for this frame
+     */
+    public int advance(long now) {
+        if (lastFrame < 0) {
+            lastFrame = now - stepNanos;
+        }
+        accumulator += Math.max(0, now - lastFrame);
+        lastFrame = now;
+
+        long due = accumulator / stepNanos;
+        int steps = (int) Math.min(due, maxStepsPerFrame);
+        accumulator -= steps * stepNanos;
+        if (due > steps) {
+            droppedSteps += due - steps;
+            accumulator %= stepNanos;
+        }
+        return steps;
+    }
+
+    /**
+     * Fraction of the next step that has already elapsed, used to interpolate
+     * rendering between the previous and the current logic state.
+     * @return value in [0, 1)
+     */
+    public double alpha() {
+        return (double) accumulator / stepNanos;
+    }
+
+    /** Forget the previous frame, e.g. when the loop is restarted. */
+    public void reset() {
+        lastFrame = -1;
+        accumulator = 0;
+    }
+
+    /**
+     * Get the number of steps dropped because a frame exceeded the catch-up cap.
+     * @return dropped step count
+     */
+    public long getDroppedSteps() {
+        return droppedSteps;
+    }
+}
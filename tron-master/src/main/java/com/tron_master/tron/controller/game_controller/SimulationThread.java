@@ -0,0 +1,215 @@
+package com.tron_master.tron.controller.game_controller;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Runs the game logic on a dedicated thread, apart from the JavaFX application thread.
+ * The thread wakes up once per step interval, pays out the due steps through a
+ * {@link FixedTimestep}, and then publishes a snapshot of the result.
+ *
+ * <p>Snapshots are exchanged through a single lock-free slot: the simulation
+ * overwrites it with the newest snapshot and the reader takes whatever is there,
+ * so neither side ever waits for the other. Snapshots are reusable buffers: the one
+ * the reader held is handed back when it takes the next, and a snapshot still lying
+ * in the slot is taken back and passed to the capture as carry-over, so whatever it
+ * reported (e.g. events, changed trail segments) is folded into the next one instead of
+ * being lost. In steady state no snapshot is allocated.
+ * Commands from other threads (e.g. key presses) are queued and run on the
+ * simulation thread before the next step, so the model is only ever touched by
+ * one thread.</p>
+ *
+ * <p>A step or command that throws stops the simulation: no further step runs, and
+ * the exception is passed to the failure handler (see {@link #setOnFailure}).</p>
+ *
+ * @param <S> snapshot type
+ */
+public class SimulationThread<S> {
+
+    private final long stepNanos;
+    private final FixedTimestep timestep;
+    private final Runnable step;
+    private final Supplier<S> factory;
+    private final BiConsumer<S, S> capture;
+    private final AtomicReference<S> slot = new AtomicReference<>();
+    /** Buffer handed back by the reader. */
+    private final AtomicReference<S> recycled = new AtomicReference<>();
+    private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+    /** Buffer taken back from the slot; only touched by the simulation thread. */
+    private S spare;
+    /** Buffer the reader is currently using; only touched by the reader. */
+    private S held;
+    private ScheduledExecutorService executor;
+    private volatile Thread thread;
+    private volatile boolean running = false;
+    private volatile long droppedSteps;
+    private volatile long lateSteps;
+    private volatile Consumer<RuntimeException> onFailure;
+
+    /**
+     * Create a stopped simulation thread.
+     * @param stepNanos length of one step in nanoseconds
+     * @param maxStepsPerFrame maximum steps run to catch up after one wake-up
+     * @param step one logic step
+     * @param factory creates a new snapshot buffer when none can be reused
+     * @param capture fills a buffer (first argument) after the due steps have run; the
+     *                second argument is the unread previous snapshot, or null
+     */
+    public SimulationThread(long stepNanos, int maxStepsPerFrame, Runnable step,
+                            Supplier<S> factory, BiConsumer<S, S> capture) {
+        this.stepNanos = stepNanos;
+        this.timestep = new FixedTimestep(stepNanos, maxStepsPerFrame);
+        this.step = step;
+        this.factory = factory;
+        this.capture = capture;
+    }
+
+    /** Start stepping; does nothing if already running. */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        timestep.reset();
+        running = true;
+        executor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("tron-simulation").daemon().factory());
+        executor.scheduleAtFixedRate(this::wakeUp, 0, stepNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stop stepping. Called from another thread, this waits for a step in progress
+     * to finish; called from a step itself, the current wake-up still publishes its snapshot.
+     */
+    public void stop() {
+        ScheduledExecutorService toStop;
+        synchronized (this) {
+            running = false;
+            toStop = executor; // kept, so a later stop() still waits for a wake-up that stopped itself
+        }
+        if (toStop == null) {
+            return;
+        }
+        toStop.shutdown();
+        if (Thread.currentThread() != thread) {
+            try {
+                toStop.awaitTermination(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void wakeUp() {
+        thread = Thread.currentThread();
+        try {
+            for (Runnable command = commands.poll(); command != null; command = commands.poll()) {
+                command.run();
+            }
+            int steps = timestep.advance(System.nanoTime());
+            droppedSteps = timestep.getDroppedSteps();
+            if (steps > 1) {
+                lateSteps += steps - 1;
+            }
+            for (int i = 0; i < steps && running; i++) {
+                step.run();
+            }
+            if (steps > 0) {
+                publish();
+            }
+        } catch (RuntimeException e) {
+            // the model may be half updated, so stepping on would only pile up errors
+            stop();
+            Consumer<RuntimeException> handler = onFailure;
+            if (handler != null) {
+                handler.accept(e);
+            } else {
+                System.err.println("Simulation stopped: " + e);
+            }
+        }
+    }
+
+    private void publish() {
+        S carryOver = slot.getAndSet(null);
+        S target = spare;
+        if (target == null) {
+            target = recycled.getAndSet(null);
+        }
+        if (target == null) {
+            target = factory.get();
+        }
+        capture.accept(target, carryOver);
+        spare = carryOver;
+        slot.set(target);
+    }
+
+    /**
+     * Set the handler told when a step or command throws and the simulation stops.
+     * It runs on the simulation thread.
+     * @param onFailure failure handler, or null to only print the failure
+     */
+    public void setOnFailure(Consumer<RuntimeException> onFailure) {
+        this.onFailure = onFailure;
+    }
+
+    /**
+     * Queue a command to run on the simulation thread before the next step.
+     * Runs it immediately when the simulation is not running.
+     * @param command command to run
+     */
+    public void submit(Runnable command) {
+        if (running) {
+            commands.add(command);
+        } else {
+            command.run();
+        }
+    }
+
+    /**
+     * Take the newest snapshot published since the last call. The snapshot returned by
+     * the previous successful call is handed back for reuse and must no longer be read.
+     * Must always be called from the same reader thread.
+     * @return snapshot, or null if none was published in the meantime
+     */
+    public S take() {
+        S taken = slot.getAndSet(null);
+        if (taken != null) {
+            if (held != null) {
+                recycled.set(held);
+            }
+            held = taken;
+        }
+        return taken;
+    }
+
+    /**
+     * Get the number of steps dropped because the thread fell too far behind.
+     * @return dropped step count
+     */
+    public long getDroppedSteps() {
+        return droppedSteps;
+    }
+
+    /**
+     * Get the number of steps that ran late, i.e. to catch up after a late wake-up.
+     * @return late step count
+     */
+    public long getLateSteps() {
+        return lateSteps;
+    }
+
+    /**
+     * Check whether the simulation is started and has not been stopped since.
+     * @return true while running
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+}
@@ -6,6 +6,7 @@ import com.tron_master.tron.model.data.GameData;
 import com.tron_master.tron.model.data.GameState;
 import com.tron_master.tron.model.data.HighScoreManager;
 import com.tron_master.tron.model.logic_strategy.StoryLogicStrategy;
+import com.tron_master.tron.model.logic_strategy.WorldSnapshot;
 import com.tron_master.tron.model.object.Player;
 import com.tron_master.tron.view.game_view.GameArea;
 import com.tron_master.tron.view.game_view.StoryViewStrategy;
@@ -51,18 +52,28 @@ public class StoryGameController extends AbstractGameController {
     }
 
     @Override
-    protected void render() {
-        // Centralized scene rendering in GameArea
-        gameArea.renderScene(getPlayers());
+    protected WorldSnapshot takeSnapshot() {
+        return gameLogic != null ? gameLogic.snapshot() : null;
     }
 
     @Override
-    protected void updateUI() {
-        if (gameArea != null && gameLogic != null) {
+    protected void captureSnapshot(WorldSnapshot.Recorder recorder, WorldSnapshot target, WorldSnapshot carryOver) {
+        gameLogic.snapshot(recorder, target, carryOver);
+    }
+
+    @Override
+    protected void render(WorldSnapshot snapshot) {
+        // Centralized scene rendering in GameArea (walls/portals travel with the snapshot)
+        gameArea.renderScene(snapshot);
+    }
+
+    @Override
+    protected void updateUI(WorldSnapshot snapshot) {
+        if (gameArea != null && snapshot.playerCount() > 0) {
             gameArea.updateScoreDisplay(
-                gameLogic.getStoryScore(),
-                gameLogic.getBoostCount(),
-                gameLogic.getStoryLevel()
+                snapshot.score(0),
+                snapshot.boost(0),
+                snapshot.level()
             );
         }
     }
@@ -99,7 +110,6 @@ public class StoryGameController extends AbstractGameController {
             levelTransition.stop();
             levelTransition = null;
         }
-        unregisterPlayerListeners();
         GameData.getInstance().resetStoryData();
         initializeGameLogic(StoryLogicStrategy.getInitialPlayerCount());
         gameArea.setWalls(gameLogic.getWalls());
@@ -144,7 +154,6 @@ public class StoryGameController extends AbstractGameController {
         gameLogic = new StoryLogicStrategy(playerCount, GameConstant.GAME_AREA_WIDTH, GameConstant.GAME_AREA_HEIGHT);
         playerController = new PlayerController(gameLogic.getPlayers());
         playerController.setGameArea(gameArea);
-        registerPlayerListeners();
     }
 
     /**
@@ -156,7 +165,6 @@ public class StoryGameController extends AbstractGameController {
             return;
         }
         stopGame();
-        unregisterPlayerListeners();
         initializeGameLogic(gameLogic.getCurrentLevelPlayerCount());
         gameArea.setWalls(gameLogic.getWalls());
         gameArea.reset();
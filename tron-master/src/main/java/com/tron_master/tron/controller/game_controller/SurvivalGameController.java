@@ -5,6 +5,7 @@ import com.tron_master.tron.controller.PlayerController;
 import com.tron_master.tron.model.data.GameState;
 import com.tron_master.tron.model.data.HighScoreManager;
 import com.tron_master.tron.model.logic_strategy.SurvLogicStrategy;
+import com.tron_master.tron.model.logic_strategy.WorldSnapshot;
 import com.tron_master.tron.model.object.Player;
 import com.tron_master.tron.view.game_view.GameArea;
 import com.tron_master.tron.view.game_view.SurvViewStrategy;
@@ -46,19 +47,27 @@ public class SurvivalGameController extends AbstractGameController {
     }
 
     @Override
-    protected void render() {
-        // Update walls/portals and render the whole scene
-        gameArea.setWalls(gameLogic.getWalls());
-        gameArea.setPortals(gameLogic.getPortals());
-        gameArea.renderScene(getPlayers());
+    protected WorldSnapshot takeSnapshot() {
+        return gameLogic != null ? gameLogic.snapshot() : null;
+    }
+
+    @Override
+    protected void captureSnapshot(WorldSnapshot.Recorder recorder, WorldSnapshot target, WorldSnapshot carryOver) {
+        gameLogic.snapshot(recorder, target, carryOver);
+    }
+
+    @Override
+    protected void render(WorldSnapshot snapshot) {
+        // Centralized scene rendering in GameArea (walls/portals travel with the snapshot)
+        gameArea.renderScene(snapshot);
     }
 
     @Override
-    protected void updateUI() {
-        if (gameArea != null && gameLogic != null) {
+    protected void updateUI(WorldSnapshot snapshot) {
+        if (gameArea != null && snapshot.playerCount() > 0) {
             gameArea.updateScoreDisplay(
-                gameLogic.getScore(),
-                gameLogic.getBoostCount()
+                snapshot.score(0),
+                snapshot.boost(0)
             );
         }
     }
@@ -75,7 +84,6 @@ public class SurvivalGameController extends AbstractGameController {
 
     @Override
     protected void doReset() {
-        unregisterPlayerListeners();
         gameLogic.reset();
         gameArea.setWalls(gameLogic.getWalls());
         gameArea.setPortals(gameLogic.getPortals());
@@ -115,6 +123,5 @@ public class SurvivalGameController extends AbstractGameController {
     private void initializePlayerController() {
         playerController = new PlayerController(new Player[]{gameLogic.getPlayer()});
         playerController.setGameArea(gameArea);
-        registerPlayerListeners();
     }
 }
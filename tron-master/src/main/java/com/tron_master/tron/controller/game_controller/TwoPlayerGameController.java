@@ -4,6 +4,7 @@ import com.tron_master.tron.constant.GameConstant;
 import com.tron_master.tron.controller.PlayerController;
 import com.tron_master.tron.model.data.GameState;
 import com.tron_master.tron.model.logic_strategy.TwoPlayerLogicStrategy;
+import com.tron_master.tron.model.logic_strategy.WorldSnapshot;
 import com.tron_master.tron.model.object.Player;
 import com.tron_master.tron.model.sound.SoundManager;
 import com.tron_master.tron.view.game_view.GameArea;
@@ -51,19 +52,29 @@ public class TwoPlayerGameController extends AbstractGameController {
     }
 
     @Override
-    protected void render() {
-        gameArea.setWalls(gameLogic.getWalls());
-        gameArea.renderScene(getPlayers());
+    protected WorldSnapshot takeSnapshot() {
+        return gameLogic != null ? gameLogic.snapshot() : null;
+    }
+
+    @Override
+    protected void captureSnapshot(WorldSnapshot.Recorder recorder, WorldSnapshot target, WorldSnapshot carryOver) {
+        gameLogic.snapshot(recorder, target, carryOver);
+    }
+
+    @Override
+    protected void render(WorldSnapshot snapshot) {
+        // Centralized scene rendering in GameArea (walls/portals travel with the snapshot)
+        gameArea.renderScene(snapshot);
     }
 
     @Override
-    protected void updateUI() {
-        if (gameArea != null && gameLogic != null) {
+    protected void updateUI(WorldSnapshot snapshot) {
+        if (gameArea != null && snapshot.playerCount() > 1) {
             gameArea.updateScoresDisplay(
-                gameLogic.getP1Score(),
-                gameLogic.getP1BoostCount(),
-                gameLogic.getP2Score(),
-                gameLogic.getP2BoostCount()
+                snapshot.score(0),
+                snapshot.boost(0),
+                snapshot.score(1),
+                snapshot.boost(1)
             );
         }
     }
@@ -81,7 +92,6 @@ public class TwoPlayerGameController extends AbstractGameController {
         if (countdownTimeline != null) {
             countdownTimeline.stop();
         }
-        unregisterPlayerListeners();
         gameLogic.reset();
         gameArea.setWalls(gameLogic.getWalls());
         gameArea.reset();
@@ -135,7 +145,6 @@ public class TwoPlayerGameController extends AbstractGameController {
     private void initializePlayerController() {
         playerController = new PlayerController(gameLogic.getPlayers());
         playerController.setGameArea(gameArea);
-        registerPlayerListeners();
     }
 
     /**
@@ -0,0 +1,275 @@
+package com.tron_master.tron.controller.metrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.tron_master.tron.model.data.TrailBuffer;
+
+/**
+ * Timing and load figures of a running game, for diagnosing stutter.
+ * Every phase of the loop (logic tick, snapshot, HUD update, render) gets a
+ * {@link LatencyHistogram}; on top of that it counts ticks, dropped and late ticks,
+ * trail segments and the bytes allocated by the game threads.
+ *
+ * <p>Phases may be recorded from the simulation thread and the JavaFX thread at the
+ * same time. Once per second {@link #sample(long)} turns the counters into rates,
+ * keeps them as a row of the time series and refreshes the overlay text, so the
+ * overlay costs nothing between samples. {@link #writeCsv(Appendable)} exports the
+ * histograms and the time series.</p>
+ */
+public class GameMetrics {
+
+    /** Phases of the game loop that are timed. */
+    public enum Phase {
+        /** One logic tick on the simulation thread. */
+        TICK,
+        /** Filling the snapshot after the ticks of a wake-up. */
+        SNAPSHOT,
+        /** Updating the HUD from a snapshot. */
+        UPDATE_UI,
+        /** Drawing a snapshot on the canvas. */
+        RENDER
+    }
+
+    /** Number of one-second samples kept for the CSV export (one hour). */
+    public static final int MAX_SAMPLES = 3600;
+    private static final long SECOND = 1_000_000_000L;
+    private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN = allocationBean();
+
+    private final Map<Phase, LatencyHistogram> histograms = new EnumMap<>(Phase.class);
+    private final LongAdder ticks = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+    private final ArrayDeque<Sample> samples = new ArrayDeque<>();
+    private volatile long droppedTicks;
+    private volatile long lateTicks;
+    private volatile int trailSegments;
+
+    private long lastSampleNanos = -1;
+    private long lastTicks;
+    private long lastAllocated;
+    private List<String> overlayLines = List.of("collecting metrics...");
+    private String notice;
+
+    /** Create empty metrics. */
+    public GameMetrics() {
+        for (Phase phase : Phase.values()) {
+            histograms.put(phase, new LatencyHistogram());
+        }
+    }
+
+    // ==================== Recording ====================
+
+    /**
+     * Record the duration of a phase that started at {@code startNanos}.
+     * @param phase timed phase
+     * @param startNanos {@link System#nanoTime()} when the phase started
+     */
+    public void record(Phase phase, long startNanos) {
+        histograms.get(phase).record(System.nanoTime() - startNanos);
+    }
+
+    /** Count one completed logic tick. */
+    public void countTick() {
+        ticks.increment();
+    }
+
+    /**
+     * Add bytes allocated by one of the game threads.
+     * @param bytes allocated bytes (see {@link #threadAllocatedBytes()})
+     */
+    public void addAllocatedBytes(long bytes) {
+        if (bytes > 0) {
+            allocatedBytes.add(bytes);
+        }
+    }
+
+    /**
+     * Update the tick counters of the fixed timestep.
+     * @param dropped ticks dropped because the loop fell too far behind
+     * @param late ticks run late to catch up
+     */
+    public void setTimestepCounters(long dropped, long late) {
+        this.droppedTicks = dropped;
+        this.lateTicks = late;
+    }
+
+    /**
+     * Update the number of trail segments currently shown.
+     * @param segments total segments of all players
+     */
+    public void setTrailSegments(int segments) {
+        this.trailSegments = segments;
+    }
+
+    /**
+     * Get the bytes allocated so far by the calling thread, if the JVM can tell.
+     * @return allocated bytes, or 0 when not supported
+     */
+    public static long threadAllocatedBytes() {
+        return ALLOCATION_BEAN != null ? ALLOCATION_BEAN.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean sunBean && sunBean.isThreadAllocatedMemorySupported()) {
+            sunBean.setThreadAllocatedMemoryEnabled(true);
+            return sunBean;
+        }
+        return null;
+    }
+
+    // ==================== Sampling ====================
+
+    /**
+     * Take a one-second sample if a second has passed since the previous one.
+     * Call once per frame from the JavaFX application thread.
+     * @param now {@link System#nanoTime()}
+     * @return true if a new sample was taken
+     */
+    public boolean sample(long now) {
+        if (lastSampleNanos < 0) {
+            lastSampleNanos = now;
+            lastTicks = ticks.sum();
+            lastAllocated = allocatedBytes.sum();
+            return false;
+        }
+        long elapsed = now - lastSampleNanos;
+        if (elapsed < SECOND) {
+            return false;
+        }
+        long tickCount = ticks.sum();
+        long allocated = allocatedBytes.sum();
+        double seconds = (double) elapsed / SECOND;
+        Sample sample = new Sample(now, (tickCount - lastTicks) / seconds, droppedTicks, lateTicks,
+                trailSegments, (allocated - lastAllocated) / seconds,
+                histograms.get(Phase.TICK).percentile(99), histograms.get(Phase.RENDER).percentile(99));
+        lastSampleNanos = now;
+        lastTicks = tickCount;
+        lastAllocated = allocated;
+        if (samples.size() == MAX_SAMPLES) {
+            samples.removeFirst();
+        }
+        samples.addLast(sample);
+        overlayLines = formatOverlay(sample);
+        return true;
+    }
+
+    private List<String> formatOverlay(Sample sample) {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(Locale.ROOT, "TPS %.1f  dropped %d  late %d",
+                sample.ticksPerSecond(), sample.droppedTicks(), sample.lateTicks()));
+        for (Phase phase : Phase.values()) {
+            LatencyHistogram h = histograms.get(phase);
+            lines.add(String.format(Locale.ROOT, "%-9s p50 %6.2f  p99 %6.2f  max %6.2f ms",
+                    phase.name().toLowerCase(Locale.ROOT), millis(h.percentile(50)),
+                    millis(h.percentile(99)), millis(h.max())));
+        }
+        lines.add(String.format(Locale.ROOT, "segments %d  alloc %.1f KB/s",
+                sample.trailSegments(), sample.allocatedBytesPerSecond() / 1024));
+        lines.add(TrailBuffer.memoryUsage().toString());
+        return List.copyOf(lines);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    // ==================== Reading ====================
+
+    /**
+     * Get the histogram of a phase.
+     * @param phase timed phase
+     * @return live histogram
+     */
+    public LatencyHistogram histogram(Phase phase) {
+        return histograms.get(phase);
+    }
+
+    /**
+     * Get the number of ticks counted so far.
+     * @return tick count
+     */
+    public long getTicks() {
+        return ticks.sum();
+    }
+
+    /**
+     * Get the one-second samples taken so far, oldest first.
+     * @return copy of the time series
+     */
+    public List<Sample> getSamples() {
+        return List.copyOf(samples);
+    }
+
+    /**
+     * Get the overlay text of the latest sample, followed by the notice if there is one.
+     * @return lines to show
+     */
+    public List<String> getOverlayLines() {
+        if (notice == null) {
+            return overlayLines;
+        }
+        List<String> lines = new ArrayList<>(overlayLines);
+        lines.add(notice);
+        return List.copyOf(lines);
+    }
+
+    /**
+     * Show a line under the overlay text until it is replaced (e.g. where the metrics were exported).
+     * @param notice line to show, or null for none
+     */
+    public void setNotice(String notice) {
+        this.notice = notice;
+    }
+
+    /**
+     * Write the phase histograms and the time series as CSV.
+     * The first block has one row per phase, the second one row per one-second sample.
+     * @param out destination
+     */
+    public void writeCsv(Appendable out) {
+        try {
+            out.append("phase,count,mean_ns,p50_ns,p95_ns,p99_ns,max_ns\n");
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram h = histograms.get(phase);
+                out.append(String.format(Locale.ROOT, "%s,%d,%.0f,%d,%d,%d,%d%n",
+                        phase.name().toLowerCase(Locale.ROOT), h.count(), h.mean(),
+                        h.percentile(50), h.percentile(95), h.percentile(99), h.max()));
+            }
+            out.append('\n');
+            out.append("time_ns,ticks_per_second,dropped_ticks,late_ticks,trail_segments,"
+                    + "allocated_bytes_per_second,tick_p99_ns,render_p99_ns\n");
+            for (Sample s : samples) {
+                out.append(String.format(Locale.ROOT, "%d,%.2f,%d,%d,%d,%.0f,%d,%d%n",
+                        s.nanos(), s.ticksPerSecond(), s.droppedTicks(), s.lateTicks(), s.trailSegments(),
+                        s.allocatedBytesPerSecond(), s.tickP99Nanos(), s.renderP99Nanos()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * One row of the time series.
+     * @param nanos {@link System#nanoTime()} of the sample
+     * @param ticksPerSecond logic ticks per second since the previous sample
+     * @param droppedTicks ticks dropped so far
+     * @param lateTicks ticks run late so far
+     * @param trailSegments trail segments shown
+     * @param allocatedBytesPerSecond bytes allocated per second by the game threads
+     * @param tickP99Nanos 99th percentile tick duration so far
+     * @param renderP99Nanos 99th percentile render duration so far
+     */
+    public record Sample(long nanos, double ticksPerSecond, long droppedTicks, long lateTicks,
+                         int trailSegments, double allocatedBytesPerSecond,
+                         long tickP99Nanos, long renderP99Nanos) {}
+}
@@ -0,0 +1,102 @@
+package com.tron_master.tron.controller.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of durations in nanoseconds with power-of-two buckets: bucket {@code b}
+ * counts durations in {@code [2^(b-1), 2^b)}. Recording never allocates and may
+ * happen from any thread; percentiles are reported as the upper bound of the
+ * bucket they fall into, i.e. at most a factor of two too high.
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKETS = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /** Create an empty histogram. */
+    public LatencyHistogram() {
+        // buckets start at zero
+    }
+
+    /**
+     * Record one duration.
+     * @param nanos duration in nanoseconds (negative values count as 0)
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets.incrementAndGet(bucket(value));
+        count.increment();
+        total.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Get the number of recorded durations.
+     * @return sample count
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * Get the mean duration.
+     * @return mean in nanoseconds, or 0 when empty
+     */
+    public double mean() {
+        long n = count.sum();
+        return n == 0 ? 0 : (double) total.sum() / n;
+    }
+
+    /**
+     * Get the longest recorded duration.
+     * @return maximum in nanoseconds
+     */
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * Estimate a percentile.
+     * @param percentile percentile in (0, 100]
+     * @return upper bound of the bucket holding the percentile, capped at {@link #max()}; 0 when empty
+     */
+    public long percentile(double percentile) {
+        long n = count.sum();
+        if (n == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(n * percentile / 100.0);
+        long seen = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            seen += buckets.get(b);
+            if (seen >= Math.max(1, rank)) {
+                return Math.min(upperBound(b), max());
+            }
+        }
+        return max();
+    }
+
+    private static int bucket(long value) {
+        return value == 0 ? 0 : BUCKETS - Long.numberOfLeadingZeros(value);
+    }
+
+    private static long upperBound(int bucket) {
+        return bucket >= BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+
+    /** Forget all recorded durations. */
+    public void reset() {
+        for (int b = 0; b < BUCKETS; b++) {
+            buckets.set(b, 0);
+        }
+        count.reset();
+        total.reset();
+        max.reset();
+    }
+}
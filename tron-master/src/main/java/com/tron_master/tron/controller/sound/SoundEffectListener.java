@@ -1,5 +1,6 @@
 package com.tron_master.tron.controller.sound;
 
+import com.tron_master.tron.model.logic_strategy.WorldSnapshot;
 import com.tron_master.tron.model.object.Player;
 import com.tron_master.tron.model.object.PlayerStateListener;
 import com.tron_master.tron.model.sound.SoundManager;
@@ -43,4 +44,31 @@ public class SoundEffectListener implements PlayerStateListener {
     public void onPlayerJumped(Player player) {
         soundManager.playSoundEffect("jump");
     }
+    
+    /**
+     * Play teleport sound when player goes through a portal.
+     */
+    @Override
+    public void onPlayerTeleported(Player player) {
+        soundManager.playSoundEffect("teleport");
+    }
+
+    /**
+     * Play the sounds for the player events reported by a snapshot, one per kind of event.
+     * @param snapshot snapshot that has just been rendered
+     */
+    public void onSnapshot(WorldSnapshot snapshot) {
+        if (snapshot.anyEvent(WorldSnapshot.DIED)) {
+            soundManager.playSoundEffect("player_died");
+        }
+        if (snapshot.anyEvent(WorldSnapshot.BOOSTED)) {
+            soundManager.playSoundEffect("boost");
+        }
+        if (snapshot.anyEvent(WorldSnapshot.JUMPED)) {
+            soundManager.playSoundEffect("jump");
+        }
+        if (snapshot.anyEvent(WorldSnapshot.TELEPORTED)) {
+            soundManager.playSoundEffect("teleport");
+        }
+    }
 }
@@ -0,0 +1,47 @@
+package com.tron_master.tron.model.ai;
+
+import com.tron_master.tron.model.object.PlayerAI;
+
+/**
+ * Strategy interface for AI behaviour.
+ * {@link PlayerAI#move()} asks its policy for a heading right before every move; the
+ * policy looks at the AI's surroundings (rays, arena field) and steers it.
+ *
+ * <p>A policy instance belongs to a single AI and may keep state between moves. An
+ * {@link AiScheduler} may run the policies of different AIs at the same time, so a
+ * policy must only change its own AI (and ask for boosts with
+ * {@link PlayerAI#requestBoost()}).</p>
+ */
+public interface AiPolicy {
+
+    /**
+     * Decide the heading for the coming move, steering the AI if it should turn.
+     * @param ai AI to steer
+     */
+    void steer(PlayerAI ai);
+
+    /**
+     * Decide the heading for the coming move within a time limit set by a scheduler.
+     * Policies that search for a fixed time stop at the earlier of their own budget
+     * and the deadline; the default ignores the deadline.
+     * @param ai AI to steer
+     * @param deadlineNanos {@link System#nanoTime()} by which to be done
+     */
+    default void steer(PlayerAI ai, long deadlineNanos) {
+        steer(ai);
+    }
+
+    /**
+     * Called on every move of the AI, after any planning, whether or not the policy was
+     * asked to steer it. Per-move habits such as random boosts belong here, so they
+     * keep their rate when a scheduler only plans on some ticks.
+     * @param ai AI that is moving
+     */
+    default void onMove(PlayerAI ai) {}
+
+    /**
+     * Forget everything learned about the previous match or layout.
+     * Called when the AI gets a new arena field or a new policy.
+     */
+    default void reset() {}
+}
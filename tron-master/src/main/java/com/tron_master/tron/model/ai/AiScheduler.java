@@ -0,0 +1,213 @@
+package com.tron_master.tron.model.ai;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+import com.tron_master.tron.model.collision.ArenaField;
+import com.tron_master.tron.model.object.Player;
+import com.tron_master.tron.model.object.PlayerAI;
+
+/**
+ * Decides the moves of all AI players of a match before they move, spreading the
+ * cost of thinking over ticks, threads and a fixed time budget.
+ *
+ * <p>Each tick only some AIs re-plan: slot {@code i} plans on the ticks where
+ * {@code (tick + i) % interval == 0}, so with an interval of three a third of the AIs
+ * think per tick. An AI plans out of turn when it enters a new {@link ArenaField} cell
+ * (where the policies pick a heading) or sees an obstacle within a few cells ahead.
+ * The others keep their heading for this tick.</p>
+ *
+ * <p>The AIs that plan share the tick budget: each gets
+ * {@code budget * workers / planners} nanoseconds. By default all decisions run on the
+ * caller's thread, which keeps parallel headless matches (see {@code BatchMatchRunner})
+ * from competing for threads. A match may pass its own executor to spread a tick over
+ * several workers; decisions only read the collision engine and the {@link ArenaField},
+ * and each one changes its own AI, so the players must not move until {@link #think}
+ * returns.</p>
+ */
+public class AiScheduler {
+
+    /** Default number of ticks between two plans of the same AI. */
+    public static final int DEFAULT_INTERVAL = 3;
+    /** Default thinking time of all AIs together per tick: one millisecond. */
+    public static final long DEFAULT_TICK_BUDGET_NANOS = 1_000_000;
+    /** Most threads used for one tick, including the caller's. */
+    public static final int MAX_WORKERS = 4;
+
+    /** An obstacle closer than this many cells makes an AI plan out of turn. */
+    private static final int URGENT_CELLS = 3;
+
+    private final int interval;
+    private final long tickBudgetNanos;
+    private final Executor executor;
+    private final int workers;
+
+    private long tick;
+    /** Per roster slot, the field cell of the AI's last plan. */
+    private int[] plannedCells = new int[0];
+    private final List<PlayerAI> planners = new ArrayList<>();
+    private final List<FutureTask<?>> pending = new ArrayList<>();
+    private long planned;
+    private long urgent;
+    private long coasted;
+
+    /** Create a scheduler with the default interval and budget that thinks on the caller's thread. */
+    public AiScheduler() {
+        this(DEFAULT_INTERVAL, DEFAULT_TICK_BUDGET_NANOS);
+    }
+
+    /**
+     * Create a scheduler that thinks on the caller's thread.
+     * @param interval ticks between two plans of the same AI (1 plans every tick)
+     * @param tickBudgetNanos thinking time of all AIs together per tick
+     */
+    public AiScheduler(int interval, long tickBudgetNanos) {
+        this(interval, tickBudgetNanos, null, 1);
+    }
+
+    /**
+     * Create a scheduler that spreads each tick over several threads.
+     * @param interval ticks between two plans of the same AI (1 plans every tick)
+     * @param tickBudgetNanos thinking time of all AIs together per tick
+     * @param executor runs the decisions of all workers but the caller; owned by the
+     *                 caller of this constructor (may be null when {@code workers} is 1)
+     * @param workers threads per tick, including the caller's (1 thinks on the caller only)
+     */
+    public AiScheduler(int interval, long tickBudgetNanos, Executor executor, int workers) {
+        this.interval = Math.max(1, interval);
+        this.tickBudgetNanos = Math.max(0, tickBudgetNanos);
+        this.executor = executor;
+        this.workers = executor != null ? Math.clamp(workers, 1, MAX_WORKERS) : 1;
+    }
+
+    /**
+     * Decide the coming move of every live AI. Call once per tick, after the
+     * {@link ArenaField} is updated and before any player moves.
+     * @param players players taking part in the match
+     */
+    public void think(Player[] players) {
+        planners.clear();
+        if (plannedCells.length != players.length) {
+            plannedCells = new int[players.length];
+            Arrays.fill(plannedCells, -1);
+        }
+        for (int slot = 0; slot < players.length; slot++) {
+            if (!(players[slot] instanceof PlayerAI ai) || !ai.getAlive()) {
+                continue;
+            }
+            ArenaField field = ai.getArenaField();
+            int cell = field != null ? field.cellOf(ai.getX(), ai.getY()) : -1;
+            // the ray cast is only paid for an AI that would otherwise coast
+            boolean turn = (tick + slot) % interval == 0;
+            if (turn) {
+                plannedCells[slot] = cell;
+                planners.add(ai);
+            } else if (cell != plannedCells[slot] || isUrgent(ai)) {
+                urgent++;
+                plannedCells[slot] = cell;
+                planners.add(ai);
+            } else {
+                coasted++;
+                ai.coast();
+            }
+        }
+        tick++;
+        planned += planners.size();
+        if (planners.isEmpty()) {
+            return;
+        }
+
+        int threads = Math.min(workers, planners.size());
+        long share = tickBudgetNanos * threads / planners.size();
+        for (int t = 1; t < threads; t++) {
+            int first = t;
+            FutureTask<?> task = new FutureTask<>(() -> plan(first, threads, share), null);
+            pending.add(task);
+            executor.execute(task);
+        }
+        try {
+            plan(0, threads, share);
+        } finally {
+            awaitPending();
+        }
+    }
+
+    /**
+     * Wait for every worker of this tick, even when interrupted: the players may only
+     * move once no worker is still deciding for them.
+     */
+    private void awaitPending() {
+        boolean interrupted = false;
+        Throwable failure = null;
+        try {
+            for (FutureTask<?> task : pending) {
+                while (true) {
+                    try {
+                        task.get();
+                        break;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    } catch (ExecutionException e) {
+                        failure = failure != null ? failure : e.getCause();
+                        break;
+                    }
+                }
+            }
+        } finally {
+            pending.clear();
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (failure != null) {
+            throw new IllegalStateException("AI decision failed", failure);
+        }
+    }
+
+    /** Plan every {@code stride}-th AI from {@code first}, each within its share of the budget. */
+    private void plan(int first, int stride, long share) {
+        for (int i = first; i < planners.size(); i += stride) {
+            planners.get(i).think(System.nanoTime() + share);
+        }
+    }
+
+    private static boolean isUrgent(PlayerAI ai) {
+        int dx = Integer.signum(ai.getVelocityX());
+        int dy = Integer.signum(ai.getVelocityY());
+        if (dx == 0 && dy == 0) {
+            return true;
+        }
+        int range = Math.max(ai.getUrgentDistance(), URGENT_CELLS * ArenaField.CELL_SIZE);
+        return ai.look(dx, dy, range) < range;
+    }
+
+    // ==================== Diagnostics ====================
+
+    /**
+     * Number of AI decisions made so far, urgent ones included.
+     * @return plan count
+     */
+    public long getPlanned() {
+        return planned;
+    }
+
+    /**
+     * Number of decisions made out of turn, on entering a cell or near an obstacle.
+     * @return urgent plan count
+     */
+    public long getUrgent() {
+        return urgent;
+    }
+
+    /**
+     * Number of AI moves that kept their heading without planning.
+     * @return coast count
+     */
+    public long getCoasted() {
+        return coasted;
+    }
+}
@@ -0,0 +1,142 @@
+package com.tron_master.tron.model.ai;
+
+import com.tron_master.tron.model.collision.ArenaField;
+import com.tron_master.tron.model.object.PlayerAI;
+
+/**
+ * The default AI behaviour: turn when something is just ahead, otherwise keep the
+ * heading that claims the most territory on the arena field, re-planned once per
+ * field cell. Without a field the AI turns at random every 40 moves.
+ */
+public class HeuristicPolicy implements AiPolicy {
+
+    /** How far the AI looks to either side before turning. */
+    private static final int SIDE_RANGE = 100;
+    /** Cells visited per territory estimate. */
+    private static final int TERRITORY_LIMIT = 1200;
+    /** How many more cells a turn must claim than going straight. */
+    private static final int TURN_MARGIN = 4;
+    /** Moves between random turns when there is no field. */
+    private static final int TURN_INTERVAL = 40;
+
+    /** Moves left before a random turn. */
+    private int time = TURN_INTERVAL;
+    /** Field cell in which the heading was last planned. */
+    private int plannedCell = -1;
+
+    /** Create the policy. */
+    public HeuristicPolicy() {}
+
+    @Override
+    public void reset() {
+        plannedCell = -1;
+    }
+
+    @Override
+    public void steer(PlayerAI ai) {
+        int urgentDistance = ai.getUrgentDistance();
+
+        // turns towards the roomier side when something is just ahead
+        int headingX = Integer.signum(ai.getVelocityX());
+        int headingY = Integer.signum(ai.getVelocityY());
+        if (avoidObstacle(ai, headingX, headingY, urgentDistance)) {
+            time = TURN_INTERVAL;
+            return;
+        }
+
+        // plans ahead once per field cell: keeps the heading that claims the most of the arena
+        ArenaField field = ai.getArenaField();
+        if (field != null) {
+            int cell = field.cellOf(ai.getX(), ai.getY());
+            if (cell != plannedCell && (headingX != 0 || headingY != 0)) {
+                plannedCell = cell;
+                planHeading(ai, field, headingX, headingY, urgentDistance);
+            }
+        }
+    }
+
+    @Override
+    public void onMove(PlayerAI ai) {
+        // boosts randomly
+        if (ai.getRandom().nextInt(100) == 1) {
+            ai.requestBoost();
+        }
+        if (ai.getArenaField() != null) {
+            return;
+        }
+
+        // moves randomly if nothing else made the AI change direction
+        int urgentDistance = ai.getUrgentDistance();
+        int headingX = Integer.signum(ai.getVelocityX());
+        int headingY = Integer.signum(ai.getVelocityY());
+        if (time == 0) {
+            int rando = ai.getRandom().nextInt(4);
+            int turnX = rando == 0 ? -1 : rando == 1 ? 1 : 0;
+            int turnY = rando == 2 ? -1 : rando == 3 ? 1 : 0;
+            boolean reverses = turnX == -headingX && turnY == -headingY;
+            if (!reverses && ai.look(turnX, turnY, urgentDistance) >= urgentDistance) {
+                ai.steer(turnX, turnY);
+            }
+            time = TURN_INTERVAL;
+        }
+        time--;
+    }
+
+    /**
+     * Turn away if an obstacle lies within the urgent distance ahead.
+     * @param ai AI to steer
+     * @param headingX current x direction
+     * @param headingY current y direction
+     * @param urgentDistance distance that calls for a turn
+     * @return true if the AI turned
+     */
+    static boolean avoidObstacle(PlayerAI ai, int headingX, int headingY, int urgentDistance) {
+        if ((headingX == 0 && headingY == 0) || ai.look(headingX, headingY, urgentDistance) >= urgentDistance) {
+            return false;
+        }
+        int side = preferredSide(ai, headingX, headingY);
+        ai.steer(side * headingY, side * headingX);
+        return true;
+    }
+
+    /**
+     * Pick the side to turn to when blocked: the one with more territory, or with
+     * more open space when there is no field or both sides are even.
+     * @return 1 to turn to (headingY, headingX), -1 for the opposite side
+     */
+    private static int preferredSide(PlayerAI ai, int headingX, int headingY) {
+        ArenaField field = ai.getArenaField();
+        if (field != null) {
+            int one = field.territory(ai, headingY, headingX, TERRITORY_LIMIT);
+            int other = field.territory(ai, -headingY, -headingX, TERRITORY_LIMIT);
+            if (one != other) {
+                return one > other ? 1 : -1;
+            }
+        }
+        return ai.look(headingY, headingX, SIDE_RANGE) >= ai.look(-headingY, -headingX, SIDE_RANGE) ? 1 : -1;
+    }
+
+    /**
+     * Compare the territory of going straight with that of turning either way and
+     * take a turn only if it is safe and clearly better.
+     */
+    private static void planHeading(PlayerAI ai, ArenaField field, int headingX, int headingY, int urgentDistance) {
+        int bestX = headingX;
+        int bestY = headingY;
+        int best = field.territory(ai, headingX, headingY, TERRITORY_LIMIT);
+        for (int side = 1; side >= -1; side -= 2) {
+            int turnX = side * headingY;
+            int turnY = side * headingX;
+            if (ai.look(turnX, turnY, urgentDistance) < urgentDistance) {
+                continue;
+            }
+            int score = field.territory(ai, turnX, turnY, TERRITORY_LIMIT);
+            if (score > best + TURN_MARGIN) {
+                best = score;
+                bestX = turnX;
+                bestY = turnY;
+            }
+        }
+        ai.steer(bestX, bestY);
+    }
+}
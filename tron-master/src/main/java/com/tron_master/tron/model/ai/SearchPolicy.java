@@ -0,0 +1,335 @@
+package com.tron_master.tron.model.ai;
+
+import java.util.random.RandomGenerator;
+
+import com.tron_master.tron.model.collision.ArenaField;
+import com.tron_master.tron.model.object.PlayerAI;
+
+/**
+ * Monte Carlo tree search over the cells of the {@link ArenaField}.
+ * Every move the policy spends up to a fixed number of nanoseconds (or, to replay a
+ * match exactly, a fixed number of iterations) growing a tree of
+ * cell-by-cell routes from the AI's current cell. Each new route is scored by the
+ * room left at its end (a bounded flood fill of the free cells the route does not
+ * cut off), and a route that runs into a dead end scores nothing.
+ * When the AI enters a new cell it takes the most visited first step.
+ *
+ * <p>The tree is kept between moves: once the AI reaches the cell of one of the root's
+ * children, that child becomes the new root, so the search continues instead of
+ * starting over. Opponents are not simulated; their trails and heads are blocked
+ * cells of the field. Without a field (outside a match) the policy falls back to the
+ * {@link HeuristicPolicy}.</p>
+ */
+public class SearchPolicy implements AiPolicy {
+
+    /** Default search time per move: a quarter of a millisecond. */
+    public static final long DEFAULT_BUDGET_NANOS = 250_000;
+    /** Default iterations per move of a reproducible search, about what the default time affords. */
+    public static final int DEFAULT_ITERATIONS = 40;
+
+    /** Deadline passed by {@link #steer(PlayerAI)}: only the policy's own budget applies. */
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+    /** Maximum depth of the tree below the root, in cells. */
+    private static final int HORIZON = 48;
+    /** Reachable cells that count as all the room the AI could need. */
+    private static final int SPACE_LIMIT = 400;
+    /** UCT exploration constant. */
+    private static final double EXPLORATION = 0.7;
+    /** Directions in order right, down, left, up; the reverse of d is (d + 2) % 4. */
+    private static final int[] DX = {1, 0, -1, 0};
+    private static final int[] DY = {0, 1, 0, -1};
+
+    private final long budgetNanos;
+    /** Iterations per move, or 0 to search until the time budget is spent. */
+    private final int maxIterations;
+    private final HeuristicPolicy fallback = new HeuristicPolicy();
+
+    private Node root;
+    /** Field cell in which the heading was last chosen. */
+    private int plannedCell = -1;
+    /** Cells taken by the route of the current iteration (by stamp). */
+    private int[] taken = new int[0];
+    private int stamp;
+    /** Flood fill scratch: cells reached (by stamp) and the queue. */
+    private int[] filled = new int[0];
+    private int[] queue = new int[0];
+    private int fillStamp;
+    /** Tree nodes of the current iteration, root first. */
+    private Node[] route = new Node[HORIZON + 1];
+    private long iterations;
+
+    /** Create a search policy with the default budget. */
+    public SearchPolicy() {
+        this(DEFAULT_BUDGET_NANOS);
+    }
+
+    /**
+     * Create a search policy with a given budget.
+     * @param budgetNanos search time per move in nanoseconds (at least one iteration always runs)
+     */
+    public SearchPolicy(long budgetNanos) {
+        this(budgetNanos, 0);
+    }
+
+    private SearchPolicy(long budgetNanos, int maxIterations) {
+        this.budgetNanos = budgetNanos;
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * Create a search policy that runs a fixed number of iterations per move, whatever
+     * the time and the deadline, so a seeded match makes the same decisions on every run.
+     * @param iterations iterations per move (at least one always runs)
+     * @return new search policy
+     */
+    public static SearchPolicy withIterations(int iterations) {
+        return new SearchPolicy(0, Math.max(1, iterations));
+    }
+
+    @Override
+    public void reset() {
+        root = null;
+        plannedCell = -1;
+        fallback.reset();
+    }
+
+    @Override
+    public void steer(PlayerAI ai) {
+        steer(ai, NO_DEADLINE);
+    }
+
+    @Override
+    public void steer(PlayerAI ai, long deadlineNanos) {
+        ArenaField field = ai.getArenaField();
+        int headingX = Integer.signum(ai.getVelocityX());
+        int headingY = Integer.signum(ai.getVelocityY());
+        if (field == null || (headingX == 0 && headingY == 0)) {
+            fallback.steer(ai);
+            return;
+        }
+        int cell = field.cellOf(ai.getX(), ai.getY());
+        advanceRoot(cell, direction(headingX, headingY));
+        long now = System.nanoTime();
+        // nanoTime may be negative, so a distant deadline is not subtracted from
+        long remaining = deadlineNanos == NO_DEADLINE ? budgetNanos : Math.min(budgetNanos, deadlineNanos - now);
+        search(field, ai.getRandom(), now + remaining);
+
+        int urgentDistance = ai.getUrgentDistance();
+        boolean urgent = ai.look(headingX, headingY, urgentDistance) < urgentDistance;
+        if (cell != plannedCell || urgent) {
+            plannedCell = cell;
+            choose(ai, urgentDistance);
+        }
+    }
+
+    // ==================== Tree ====================
+
+    /**
+     * Move the root to the AI's cell, reusing the matching subtree when there is one.
+     */
+    private void advanceRoot(int cell, int heading) {
+        if (root != null && root.cell != cell) {
+            Node next = null;
+            for (Node child : root.children) {
+                if (child != null && child.cell == cell) {
+                    next = child;
+                }
+            }
+            root = next;
+        }
+        if (root == null) {
+            root = new Node(cell, heading);
+        }
+        root.heading = heading;
+    }
+
+    /**
+     * Take the most visited first step that is safe right now. An unexplored or blocked
+     * step is only taken if nothing better is safe; when no turn is safe the AI keeps going.
+     */
+    private void choose(PlayerAI ai, int urgentDistance) {
+        int best = -1;
+        int bestVisits = -1;
+        for (int turn = 0; turn < 3; turn++) {
+            int d = (root.heading + 3 + turn) % 4; // left, straight, right
+            if (ai.look(DX[d], DY[d], urgentDistance) < urgentDistance) {
+                continue;
+            }
+            Node child = root.children[d];
+            int visits = child != null ? child.visits : 0;
+            if (visits > bestVisits || (visits == bestVisits && d == root.heading)) {
+                best = d;
+                bestVisits = visits;
+            }
+        }
+        if (best >= 0) {
+            ai.steer(DX[best], DY[best]);
+        }
+    }
+
+    // ==================== Search ====================
+
+    private void search(ArenaField field, RandomGenerator random, long deadline) {
+        int cells = field.columns() * field.rows();
+        if (taken.length != cells) {
+            taken = new int[cells];
+            filled = new int[cells];
+            queue = new int[cells];
+            stamp = 0;
+            fillStamp = 0;
+        }
+        int count = 0;
+        do {
+            iterate(field, random);
+            iterations++;
+            count++;
+        } while (maxIterations > 0 ? count < maxIterations : System.nanoTime() - deadline < 0);
+    }
+
+    /** One selection, expansion, evaluation and back-propagation. */
+    private void iterate(ArenaField field, RandomGenerator random) {
+        stamp++;
+        taken[root.cell] = stamp;
+        Node node = root;
+        int depth = 0;
+        route[0] = root;
+        double reward;
+        while (true) {
+            if (depth == HORIZON) {
+                reward = 1.0;
+                break;
+            }
+            int untried = pickUntried(field, node, random);
+            if (untried >= 0) {
+                Node child = new Node(step(field, node.cell, untried), untried);
+                node.children[untried] = child;
+                taken[child.cell] = stamp;
+                route[++depth] = child;
+                reward = Math.min(1.0, fill(field, child.cell, SPACE_LIMIT) / (double) SPACE_LIMIT);
+                break;
+            }
+            Node next = select(field, node);
+            if (next == null) {
+                reward = 0.0; // dead end
+                break;
+            }
+            node = next;
+            taken[node.cell] = stamp;
+            route[++depth] = node;
+        }
+        for (int i = 0; i <= depth; i++) {
+            route[i].visits++;
+            route[i].reward += reward;
+            route[i] = null;
+        }
+    }
+
+    /** A legal direction from the node that has no child yet, or -1. */
+    private int pickUntried(ArenaField field, Node node, RandomGenerator random) {
+        int offset = random.nextInt(4);
+        for (int i = 0; i < 4; i++) {
+            int d = (offset + i) % 4;
+            if (node.children[d] == null && legal(field, node, d)) {
+                return d;
+            }
+        }
+        return -1;
+    }
+
+    /** The legal child with the best UCT score, or null if no step is legal. */
+    private Node select(ArenaField field, Node node) {
+        Node best = null;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        double logVisits = Math.log(Math.max(1, node.visits));
+        for (int d = 0; d < 4; d++) {
+            Node child = node.children[d];
+            if (child == null || !legal(field, node, d)) {
+                continue;
+            }
+            double score = child.reward / child.visits + EXPLORATION * Math.sqrt(logVisits / child.visits);
+            if (score > bestScore) {
+                best = child;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Count the free cells reachable from a cell without crossing the route, up to a limit.
+     */
+    private int fill(ArenaField field, int start, int limit) {
+        fillStamp++;
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        filled[start] = fillStamp;
+        while (head < tail && tail < limit) {
+            int cell = queue[head++];
+            for (int d = 0; d < 4; d++) {
+                int next = step(field, cell, d);
+                if (next >= 0 && filled[next] != fillStamp && taken[next] != stamp && !field.isBlocked(next)) {
+                    filled[next] = fillStamp;
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return Math.min(tail, limit);
+    }
+
+    private boolean legal(ArenaField field, Node node, int d) {
+        if (d == (node.heading + 2) % 4) {
+            return false;
+        }
+        int target = step(field, node.cell, d);
+        return target >= 0 && !field.isBlocked(target) && taken[target] != stamp;
+    }
+
+    /** Neighbour of a cell in a direction, or -1 at the edge of the arena. */
+    private static int step(ArenaField field, int cell, int d) {
+        int columns = field.columns();
+        int column = cell % columns + DX[d];
+        int row = cell / columns + DY[d];
+        if (column < 0 || row < 0 || column >= columns || row >= field.rows()) {
+            return -1;
+        }
+        return row * columns + column;
+    }
+
+    private static int direction(int dx, int dy) {
+        return dx > 0 ? 0 : dy > 0 ? 1 : dx < 0 ? 2 : 3;
+    }
+
+    // ==================== Diagnostics ====================
+
+    /**
+     * Number of search iterations run so far.
+     * @return iteration count
+     */
+    public long getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Number of iterations that went through the current root, including the ones
+     * inherited from earlier moves.
+     * @return root visit count (0 before the first move)
+     */
+    public int getRootVisits() {
+        return root != null ? root.visits : 0;
+    }
+
+    /** A cell on a route, reached by heading in a direction. */
+    private static final class Node {
+        final int cell;
+        int heading;
+        final Node[] children = new Node[4];
+        int visits;
+        double reward;
+
+        Node(int cell, int heading) {
+            this.cell = cell;
+            this.heading = heading;
+        }
+    }
+}
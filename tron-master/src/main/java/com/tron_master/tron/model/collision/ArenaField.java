@@ -0,0 +1,346 @@
+package com.tron_master.tron.model.collision;
+
+import java.util.Arrays;
+
+import com.tron_master.tron.model.data.TrailBuffer;
+import com.tron_master.tron.model.object.Player;
+import com.tron_master.tron.model.object.PlayerAI;
+import com.tron_master.tron.model.object.Wall;
+
+/**
+ * Coarse occupancy grid of the arena used by the AI to look beyond its immediate
+ * surroundings. Each cell is blocked once a wall or a trail touches it.
+ *
+ * <p>The field is kept up to date incrementally: {@link #update} marks only the step
+ * every player took since the previous tick, re-rasterizes the walls when the layout
+ * array changes, and redraws a single trail when it was cleared (teleport). On top of
+ * the grid, {@link #territory} runs a bounded Voronoi flood fill: the cells a player
+ * would reach before any opponent when heading a given way. The fill stops after a
+ * fixed number of cells, so its cost does not grow with the size of the board.</p>
+ *
+ * <p>Queries may run concurrently (each thread keeps one flood fill scratch, shared by
+ * all fields it queries), but not while {@link #update} runs.</p>
+ */
+public class ArenaField {
+
+    /** Cell edge length in pixels. */
+    public static final int CELL_SIZE = 8;
+
+    private static final byte FREE = 0;
+    private static final byte MINE = 1;
+    private static final byte THEIRS = 2;
+    private static final byte CONTESTED = 3;
+
+    private final int columns;
+    private final int rows;
+    /** Cells covered by a wall of the current layout. */
+    private final boolean[] wallCells;
+    /** Per cell, one bit per roster slot whose trail touches it. */
+    private final int[] trailOwners;
+
+    /** Players whose trails are currently marked, and what was seen of each trail. */
+    private Player[] tracked = new Player[0];
+    private int[] trailGenerations = new int[0];
+    private Wall[] walls;
+    /** Edge table of {@link #walls}, shared by the tracked AI players. */
+    private WallEdges wallEdges = WallEdges.EMPTY;
+
+    /** Flood fill scratch of each querying thread, grown to the largest field it queried. */
+    private static final ThreadLocal<Scratch> SCRATCH = new ThreadLocal<>();
+
+    /**
+     * Create an empty field covering the given playfield.
+     * @param gameWidth playfield width
+     * @param gameHeight playfield height
+     */
+    public ArenaField(int gameWidth, int gameHeight) {
+        this.columns = Math.max(1, (gameWidth + CELL_SIZE - 1) / CELL_SIZE);
+        this.rows = Math.max(1, (gameHeight + CELL_SIZE - 1) / CELL_SIZE);
+        int cells = columns * rows;
+        this.wallCells = new boolean[cells];
+        this.trailOwners = new int[cells];
+    }
+
+    // ==================== Updating ====================
+
+    /**
+     * Bring the field up to date with the match. Call once per tick, before the players move.
+     * A new roster is attached (its AI players get this field and the wall edges) and its
+     * trails are drawn from scratch; otherwise only the latest step of every player is
+     * marked. The edge table of a new layout is built once and handed to the attached AI
+     * players.
+     * @param players players taking part in the match
+     * @param walls walls of the current layout (compared by identity)
+     */
+    public void update(Player[] players, Wall[] walls) {
+        if (walls != this.walls) {
+            this.walls = walls;
+            this.wallEdges = WallEdges.of(walls);
+            markWalls(walls);
+            if (sameRoster(players)) {
+                for (Player p : tracked) {
+                    if (p instanceof PlayerAI ai) {
+                        ai.setWallEdges(wallEdges);
+                    }
+                }
+            }
+        }
+        if (!sameRoster(players)) {
+            track(players);
+            return;
+        }
+        for (int slot = 0; slot < tracked.length; slot++) {
+            Player p = tracked[slot];
+            if (p == null) {
+                continue;
+            }
+            if (p.getPath().generation() != trailGenerations[slot]) {
+                redrawTrail(slot);
+            } else if (p.hasJustJumped()) {
+                markCell(p.getX(), p.getY(), slot);
+            } else {
+                markLine(p.getLastX(), p.getLastY(), p.getX(), p.getY(), slot);
+            }
+        }
+    }
+
+    private boolean sameRoster(Player[] players) {
+        if (players.length != tracked.length) {
+            return false;
+        }
+        for (int i = 0; i < players.length; i++) {
+            if (players[i] != tracked[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void track(Player[] players) {
+        for (Player p : tracked) {
+            if (p instanceof PlayerAI ai) {
+                ai.setArenaField(null);
+            }
+        }
+        Arrays.fill(trailOwners, 0);
+        tracked = players.clone();
+        trailGenerations = new int[tracked.length];
+        for (int slot = 0; slot < tracked.length; slot++) {
+            if (tracked[slot] instanceof PlayerAI ai) {
+                ai.setArenaField(this);
+                ai.setWallEdges(wallEdges);
+            }
+            if (tracked[slot] != null) {
+                redrawTrail(slot);
+            }
+        }
+    }
+
+    private void redrawTrail(int slot) {
+        int bit = 1 << (slot & 31);
+        for (int i = 0; i < trailOwners.length; i++) {
+            trailOwners[i] &= ~bit;
+        }
+        Player p = tracked[slot];
+        TrailBuffer path = p.getPath();
+        for (TrailBuffer.Cursor segment = path.cursor(); segment.next(); ) {
+            markLine(segment.getStartX(), segment.getStartY(), segment.getEndX(), segment.getEndY(), slot);
+        }
+        markCell(p.getX(), p.getY(), slot);
+        trailGenerations[slot] = path.generation();
+    }
+
+    private void markWalls(Wall[] walls) {
+        Arrays.fill(wallCells, false);
+        if (walls == null) {
+            return;
+        }
+        for (Wall w : walls) {
+            if (w == null) {
+                continue;
+            }
+            int maxCol = column(w.getX() + w.getWidth());
+            int maxRow = row(w.getY() + w.getHeight());
+            for (int r = row(w.getY()); r <= maxRow; r++) {
+                for (int c = column(w.getX()); c <= maxCol; c++) {
+                    wallCells[r * columns + c] = true;
+                }
+            }
+        }
+    }
+
+    private void markLine(int x1, int y1, int x2, int y2, int slot) {
+        int bit = 1 << (slot & 31);
+        int maxCol = column(Math.max(x1, x2));
+        int maxRow = row(Math.max(y1, y2));
+        for (int r = row(Math.min(y1, y2)); r <= maxRow; r++) {
+            for (int c = column(Math.min(x1, x2)); c <= maxCol; c++) {
+                trailOwners[r * columns + c] |= bit;
+            }
+        }
+    }
+
+    private void markCell(int x, int y, int slot) {
+        trailOwners[row(y) * columns + column(x)] |= 1 << (slot & 31);
+    }
+
+    // ==================== Queries ====================
+
+    /**
+     * Check whether the cell containing a pixel is blocked by a wall or a trail.
+     * Pixels outside the arena are always blocked.
+     * @param x pixel x
+     * @param y pixel y
+     * @return true if blocked
+     */
+    public boolean isBlocked(int x, int y) {
+        if (x < 0 || y < 0 || x >= columns * CELL_SIZE || y >= rows * CELL_SIZE) {
+            return true;
+        }
+        return isBlocked(row(y) * columns + column(x));
+    }
+
+    /**
+     * Check whether a cell is blocked by a wall or a trail.
+     * @param cell cell index (see {@link #cellOf})
+     * @return true if blocked
+     */
+    public boolean isBlocked(int cell) {
+        return wallCells[cell] || trailOwners[cell] != 0;
+    }
+
+    /**
+     * Number of cell columns.
+     * @return column count
+     */
+    public int columns() {
+        return columns;
+    }
+
+    /**
+     * Number of cell rows.
+     * @return row count
+     */
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * Index of the cell containing a pixel (clamped to the arena).
+     * Cells are numbered row by row, {@code row * columns() + column}.
+     * @param x pixel x
+     * @param y pixel y
+     * @return cell index
+     */
+    public int cellOf(int x, int y) {
+        return row(y) * columns + column(x);
+    }
+
+    /**
+     * Count the cells a player would claim by heading one way from here: a flood fill
+     * from the next cell in that direction races one from every other live player's
+     * head, and each free cell goes to whoever reaches it first (ties go to nobody).
+     * @param self player asking
+     * @param dx x direction (-1, 0 or 1)
+     * @param dy y direction (-1, 0 or 1)
+     * @param limit maximum number of cells to visit
+     * @return cells claimed by the player, or -1 if the next cell is blocked
+     */
+    public int territory(Player self, int dx, int dy, int limit) {
+        int startCol = column(self.getX()) + dx;
+        int startRow = row(self.getY()) + dy;
+        if (startCol < 0 || startRow < 0 || startCol >= columns || startRow >= rows
+                || isBlocked(startRow * columns + startCol)) {
+            return -1;
+        }
+        Scratch s = SCRATCH.get();
+        if (s == null || s.visited.length < trailOwners.length) {
+            s = new Scratch(trailOwners.length);
+            SCRATCH.set(s);
+        }
+        s.stamp++;
+        int head = 0;
+        int tail = 0;
+        s.queue[tail++] = s.visit(startRow * columns + startCol, 0, MINE);
+        for (Player p : tracked) {
+            if (p != null && p != self && p.getAlive()) {
+                int cell = cellOf(p.getX(), p.getY());
+                if (s.visited[cell] != s.stamp) {
+                    s.queue[tail++] = s.visit(cell, 0, THEIRS);
+                }
+            }
+        }
+        int mine = 0;
+        while (head < tail && head < limit) {
+            int cell = s.queue[head++];
+            if (s.claim[cell] == MINE) {
+                mine++;
+            }
+            int c = cell % columns;
+            int r = cell / columns;
+            if (c > 0) tail = spread(s, cell, cell - 1, tail);
+            if (c < columns - 1) tail = spread(s, cell, cell + 1, tail);
+            if (r > 0) tail = spread(s, cell, cell - columns, tail);
+            if (r < rows - 1) tail = spread(s, cell, cell + columns, tail);
+        }
+        return mine;
+    }
+
+    private int spread(Scratch s, int from, int to, int tail) {
+        if (s.visited[to] != s.stamp) {
+            if (!isBlocked(to)) {
+                s.queue[tail++] = s.visit(to, s.distance[from] + 1, s.claim[from]);
+            }
+        } else if (s.distance[to] == s.distance[from] + 1 && s.claim[to] != s.claim[from]) {
+            s.claim[to] = CONTESTED;
+        }
+        return tail;
+    }
+
+    /**
+     * Number of blocked cells (walls and trails).
+     * @return blocked cell count
+     */
+    public int blockedCount() {
+        int total = 0;
+        for (int i = 0; i < trailOwners.length; i++) {
+            if (isBlocked(i)) {
+                total++;
+            }
+        }
+        return total;
+    }
+
+    // ==================== Cell helpers ====================
+
+    private int column(int x) {
+        return Math.clamp(Math.floorDiv(x, CELL_SIZE), 0, columns - 1);
+    }
+
+    private int row(int y) {
+        return Math.clamp(Math.floorDiv(y, CELL_SIZE), 0, rows - 1);
+    }
+
+    /** Flood fill scratch: visit stamp, distance and claim per cell, plus the queue. */
+    private static final class Scratch {
+        final int[] visited;
+        final int[] distance;
+        final byte[] claim;
+        final int[] queue;
+        int stamp;
+
+        Scratch(int cells) {
+            visited = new int[cells];
+            distance = new int[cells];
+            claim = new byte[cells];
+            queue = new int[cells];
+        }
+
+        int visit(int cell, int dist, byte owner) {
+            visited[cell] = stamp;
+            distance[cell] = dist;
+            claim[cell] = owner;
+            return cell;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.tron_master.tron.model.collision;
+
+import com.tron_master.tron.model.data.Intersection;
+import com.tron_master.tron.model.data.TrailBuffer;
+import com.tron_master.tron.model.object.Player;
+
+/**
+ * Strategy interface for trail collision detection.
+ * Players report each movement step to the engine they are attached to, and
+ * {@link com.tron_master.tron.model.logic_strategy.GameLogic#updateGame} asks the
+ * engine whether a head has run into a trail.
+ *
+ * <p>Implementations must ignore the latest step of every player (the segment the
+ * head is currently drawing), but not the rest of the run that step extends.</p>
+ */
+public interface CollisionEngine {
+
+    /** Returned by {@link #distanceAlong} when a segment is not in the way. */
+    int NO_HIT = Integer.MAX_VALUE;
+
+    /**
+     * Make sure the engine indexes exactly the given players, attaching itself to
+     * each of them and rebuilding its state when the roster changed.
+     * @param players players taking part in the match
+     */
+    void track(Player[] players);
+
+    /**
+     * Record a step a player has just taken.
+     * @param owner player that moved
+     * @param x1 start x
+     * @param y1 start y
+     * @param x2 end x
+     * @param y2 end y
+     */
+    void onStep(Player owner, int x1, int y1, int x2, int y2);
+
+    /**
+     * Forget a player's trail. Called before the trail is cleared on teleport,
+     * so the path is still readable.
+     * @param owner player whose trail is about to be cleared
+     */
+    void onPathCleared(Player owner);
+
+    /**
+     * Test a head of the given player's size placed at (x, y) against all indexed trails.
+     * @param head player whose size is used for the test
+     * @param x head x coordinate
+     * @param y head y coordinate
+     * @return UP if the head touches a trail, otherwise NONE
+     */
+    Intersection intersectsAt(Player head, int x, int y);
+
+    /**
+     * Test a player's head against all indexed trails.
+     * @param head player whose head is tested
+     * @return UP if the head touches a trail, otherwise NONE
+     */
+    default Intersection intersects(Player head) {
+        return intersectsAt(head, head.getX(), head.getY());
+    }
+
+    /**
+     * Cast a ray from (x, y) along one of the four axis directions and measure the
+     * distance to the nearest committed trail pixel, looking no further than
+     * {@code maxDistance}. Used by the AI to see what lies ahead and to either side.
+     * @param x ray origin x
+     * @param y ray origin y
+     * @param dx x direction (-1, 0 or 1)
+     * @param dy y direction (-1, 0 or 1; exactly one of dx, dy is non-zero)
+     * @param maxDistance how far to look
+     * @return distance to the nearest trail (at least 1), or maxDistance if none is closer
+     */
+    int castRay(int x, int y, int dx, int dy, int maxDistance);
+
+    /**
+     * Test the movement a player made during the last tick instead of only its
+     * final position, so fast (boosted) heads cannot tunnel through a trail.
+     * A jump only tests the landing point, since jumping over trails is allowed.
+     * Positions within half a head of the start were already tested on the
+     * previous tick and are skipped (they would otherwise hit the player's own
+     * corner after a turn).
+     * @param head player whose last move is tested
+     * @return UP if any tested position touches a trail, otherwise NONE
+     */
+    default Intersection sweep(Player head) {
+        int x = head.getX();
+        int y = head.getY();
+        int fromX = head.getLastX();
+        int fromY = head.getLastY();
+        if (head.hasJustJumped() || (fromX != x && fromY != y)) {
+            return intersectsAt(head, x, y);
+        }
+        int dx = Integer.signum(x - fromX);
+        int dy = Integer.signum(y - fromY);
+        int length = Math.abs(x - fromX) + Math.abs(y - fromY);
+        int skip = (dx != 0 ? head.getWidth() : head.getHeight()) / 2 + 1;
+        for (int d = Math.min(skip, length); d <= length; d++) {
+            if (intersectsAt(head, fromX + dx * d, fromY + dy * d) == Intersection.UP) {
+                return Intersection.UP;
+            }
+        }
+        return Intersection.NONE;
+    }
+
+    /**
+     * Report a player's existing trail to an engine, step by step, as if it had
+     * just been drawn. Trails are stored as straight runs, so the latest step is
+     * split off the last run again to keep it pending.
+     * @param engine engine to feed
+     * @param player player whose trail is replayed
+     */
+    static void replayPath(CollisionEngine engine, Player player) {
+        TrailBuffer path = player.getPath();
+        int last = path.size() - 1;
+        for (int i = 0; i < last; i++) {
+            engine.onStep(player, path.startX(i), path.startY(i), path.endX(i), path.endY(i));
+        }
+        if (last < 0) {
+            return;
+        }
+        int startX = path.startX(last);
+        int startY = path.startY(last);
+        int endX = path.endX(last);
+        int endY = path.endY(last);
+        int fromX = player.getLastX();
+        int fromY = player.getLastY();
+        boolean stepOnRun = (fromX == startX && fromX == endX
+                        && fromY >= Math.min(startY, endY) && fromY <= Math.max(startY, endY))
+                || (fromY == startY && fromY == endY
+                        && fromX >= Math.min(startX, endX) && fromX <= Math.max(startX, endX));
+        if (stepOnRun && (fromX != startX || fromY != startY)) {
+            engine.onStep(player, startX, startY, fromX, fromY);
+            engine.onStep(player, fromX, fromY, endX, endY);
+        } else {
+            engine.onStep(player, startX, startY, endX, endY);
+        }
+    }
+
+    /**
+     * Distance from (x, y) along the axis direction (dx, dy) to an axis-aligned
+     * segment: the crossing point of a perpendicular segment, or the near end of a
+     * segment lying on the ray. Points at or behind the origin are not in the way.
+     * @param x ray origin x
+     * @param y ray origin y
+     * @param dx x direction (-1, 0 or 1)
+     * @param dy y direction (-1, 0 or 1)
+     * @param x1 segment start x
+     * @param y1 segment start y
+     * @param x2 segment end x
+     * @param y2 segment end y
+     * @return distance (at least 1), or {@link #NO_HIT}
+     */
+    static int distanceAlong(int x, int y, int dx, int dy, int x1, int y1, int x2, int y2) {
+        // coordinates along the ray grow in its direction; "across" is the other axis
+        int along = dx != 0 ? x * dx : y * dy;
+        int across = dx != 0 ? y : x;
+        int a1 = dx != 0 ? x1 * dx : y1 * dy;
+        int a2 = dx != 0 ? x2 * dx : y2 * dy;
+        int c1 = dx != 0 ? y1 : x1;
+        int c2 = dx != 0 ? y2 : x2;
+        if (across < Math.min(c1, c2) || across > Math.max(c1, c2) || Math.max(a1, a2) <= along) {
+            return NO_HIT;
+        }
+        return Math.max(1, Math.min(a1, a2) - along);
+    }
+}
@@ -0,0 +1,207 @@
+package com.tron_master.tron.model.collision;
+
+import java.util.Arrays;
+
+import com.tron_master.tron.model.data.Intersection;
+import com.tron_master.tron.model.data.TrailBuffer;
+import com.tron_master.tron.model.object.Player;
+
+/**
+ * Alternate {@link CollisionEngine} that keeps the whole arena as a bitset of
+ * occupied pixels. Trails are axis-aligned and integer-valued, so every committed
+ * step simply sets a run of bits, and a crash check probes a fixed number of
+ * pixels around the head: O(1) per head, with memory fixed at one bit per pixel
+ * (about 34 KB for the 560x500 arena) no matter how long the match runs.
+ *
+ * <p>The probe is a plus shape (the head column within half a player height and
+ * the head row within half a player width), which is the pixel form of the
+ * segment-scan rule. The only difference is at the open end of a trail, where a
+ * head moving along the same line is reported up to half a player width early.</p>
+ */
+public class OccupancyBitmapCollisionEngine implements CollisionEngine {
+
+    private final int width;
+    private final int height;
+    private final long[] bits;
+
+    /** Latest (not yet committed) step per roster slot, as x1, y1, x2, y2. */
+    private int[] pending = new int[0];
+    private boolean[] hasPending = new boolean[0];
+    /** Players whose trails are currently indexed. */
+    private Player[] tracked = new Player[0];
+
+    /**
+     * Create an empty occupancy bitmap covering the given playfield.
+     * @param gameWidth playfield width
+     * @param gameHeight playfield height
+     */
+    public OccupancyBitmapCollisionEngine(int gameWidth, int gameHeight) {
+        this.width = gameWidth;
+        this.height = gameHeight;
+        this.bits = new long[(int) (((long) gameWidth * gameHeight + 63) / 64)];
+    }
+
+    @Override
+    public void track(Player[] players) {
+        if (sameRoster(players)) {
+            return;
+        }
+        for (Player p : tracked) {
+            if (p != null) {
+                p.setCollisionEngine(null);
+            }
+        }
+        Arrays.fill(bits, 0L);
+        tracked = players.clone();
+        pending = new int[4 * tracked.length];
+        hasPending = new boolean[tracked.length];
+        for (Player p : tracked) {
+            if (p != null) {
+                p.setCollisionEngine(this);
+                CollisionEngine.replayPath(this, p);
+            }
+        }
+    }
+
+    private boolean sameRoster(Player[] players) {
+        if (players.length != tracked.length) {
+            return false;
+        }
+        for (int i = 0; i < players.length; i++) {
+            if (players[i] != tracked[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int slotOf(Player owner) {
+        for (int slot = 0; slot < tracked.length; slot++) {
+            if (tracked[slot] == owner) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void onStep(Player owner, int x1, int y1, int x2, int y2) {
+        int slot = slotOf(owner);
+        if (slot < 0) {
+            return;
+        }
+        int at = 4 * slot;
+        if (hasPending[slot]) {
+            paint(pending[at], pending[at + 1], pending[at + 2], pending[at + 3], true);
+        }
+        pending[at] = x1;
+        pending[at + 1] = y1;
+        pending[at + 2] = x2;
+        pending[at + 3] = y2;
+        hasPending[slot] = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Pixels of the owner's committed segments are erased; a pixel shared with a
+     * crossing trail is erased too, which only happens at a crash site.
+     */
+    @Override
+    public void onPathCleared(Player owner) {
+        int slot = slotOf(owner);
+        if (slot >= 0) {
+            hasPending[slot] = false;
+        }
+        for (TrailBuffer.Cursor segment = owner.getPath().cursor(); segment.next(); ) {
+            paint(segment.getStartX(), segment.getStartY(), segment.getEndX(), segment.getEndY(), false);
+        }
+    }
+
+    @Override
+    public Intersection intersectsAt(Player head, int x, int y) {
+        int halfW = head.getWidth() / 2;
+        int halfH = head.getHeight() / 2;
+        for (int dy = -halfH; dy <= halfH; dy++) {
+            if (isOccupied(x, y + dy)) {
+                return Intersection.UP;
+            }
+        }
+        for (int dx = -halfW; dx <= halfW; dx++) {
+            if (dx != 0 && isOccupied(x + dx, y)) {
+                return Intersection.UP;
+            }
+        }
+        return Intersection.NONE;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Probes the pixels along the ray one by one, at most {@code maxDistance} of them.
+     */
+    @Override
+    public int castRay(int x, int y, int dx, int dy, int maxDistance) {
+        for (int d = 1; d < maxDistance; d++) {
+            if (isOccupied(x + dx * d, y + dy * d)) {
+                return d;
+            }
+        }
+        return maxDistance;
+    }
+
+    /**
+     * Check whether a single pixel is covered by a committed trail.
+     * @param x pixel x
+     * @param y pixel y
+     * @return true if occupied (pixels outside the arena are never occupied)
+     */
+    public boolean isOccupied(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return false;
+        }
+        int bit = y * width + x;
+        return (bits[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    /**
+     * Number of occupied pixels.
+     * @return occupied pixel count
+     */
+    public int occupiedCount() {
+        int total = 0;
+        for (long word : bits) {
+            total += Long.bitCount(word);
+        }
+        return total;
+    }
+
+    private void paint(int x1, int y1, int x2, int y2, boolean value) {
+        if (y1 == y2) {
+            if (y1 < 0 || y1 >= height) {
+                return;
+            }
+            int from = Math.max(0, Math.min(x1, x2));
+            int to = Math.min(width - 1, Math.max(x1, x2));
+            for (int px = from; px <= to; px++) {
+                set(px, y1, value);
+            }
+        } else if (x1 == x2) {
+            if (x1 < 0 || x1 >= width) {
+                return;
+            }
+            int from = Math.max(0, Math.min(y1, y2));
+            int to = Math.min(height - 1, Math.max(y1, y2));
+            for (int py = from; py <= to; py++) {
+                set(x1, py, value);
+            }
+        }
+    }
+
+    private void set(int x, int y, boolean value) {
+        int bit = y * width + x;
+        if (value) {
+            bits[bit >>> 6] |= 1L << bit;
+        } else {
+            bits[bit >>> 6] &= ~(1L << bit);
+        }
+    }
+}
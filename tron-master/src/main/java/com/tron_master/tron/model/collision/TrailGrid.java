@@ -0,0 +1,323 @@
+package com.tron_master.tron.model.collision;
+
+import java.util.Arrays;
+
+import com.tron_master.tron.model.data.Intersection;
+import com.tron_master.tron.model.object.Player;
+
+/**
+ * Uniform-grid spatial index over the arena for trail segments.
+ * This is the default, segment-scan {@link CollisionEngine}: players report every
+ * step they take, each step is bucketed into the cells it touches, and a crash
+ * check runs the exact segment test only against the few cells around a head.
+ *
+ * <p>The most recent step of each player is held back ("pending") and only
+ * committed to the grid once the next step arrives, so the step the head is
+ * currently drawing is skipped but not the rest of its run.</p>
+ *
+ * <p>Steps live in flat int arrays and cells hold step numbers, so recording a
+ * step allocates nothing once the arrays have grown to the match's size.</p>
+ */
+public class TrailGrid implements CollisionEngine {
+
+    /** Cell edge length in pixels. */
+    public static final int CELL_SIZE = 16;
+    /** Ints stored per step: x1, y1, x2, y2. */
+    private static final int STEP_INTS = 4;
+
+    private final int columns;
+    private final int rows;
+    /** Step numbers per cell (null until a step touches the cell). */
+    private final int[][] cellSteps;
+    private final int[] cellSizes;
+
+    /** Coordinates of every committed step, {@value #STEP_INTS} ints per step number. */
+    private int[] steps = new int[64 * STEP_INTS];
+    /** Step numbers freed by cleared trails, reused before new ones. */
+    private int[] freeSteps = new int[16];
+    private int freeCount;
+    private int stepCount;
+
+    /** Committed step numbers per roster slot, so a trail can be dropped on teleport. */
+    private int[][] ownerSteps = new int[0][];
+    private int[] ownerSizes = new int[0];
+    /** Latest (not yet committed) step per roster slot, {@value #STEP_INTS} ints each. */
+    private int[] pending = new int[0];
+    private boolean[] hasPending = new boolean[0];
+    /** Players whose trails are currently indexed. */
+    private Player[] tracked = new Player[0];
+
+    /**
+     * Create an empty grid covering the given playfield.
+     * @param gameWidth playfield width
+     * @param gameHeight playfield height
+     */
+    public TrailGrid(int gameWidth, int gameHeight) {
+        this.columns = Math.max(1, (gameWidth + CELL_SIZE - 1) / CELL_SIZE);
+        this.rows = Math.max(1, (gameHeight + CELL_SIZE - 1) / CELL_SIZE);
+        this.cellSteps = new int[columns * rows][];
+        this.cellSizes = new int[columns * rows];
+    }
+
+    // ==================== Player tracking ====================
+
+    /**
+     * {@inheritDoc}
+     * When the roster changes (reset, next level) the trail index is rebuilt
+     * from the players' current paths; otherwise this is a cheap no-op.
+     */
+    @Override
+    public void track(Player[] players) {
+        if (sameRoster(players)) {
+            return;
+        }
+        for (Player p : tracked) {
+            if (p != null) {
+                p.setCollisionEngine(null);
+            }
+        }
+        tracked = players.clone();
+        clearTrails();
+        for (Player p : tracked) {
+            if (p != null) {
+                p.setCollisionEngine(this);
+                CollisionEngine.replayPath(this, p);
+            }
+        }
+    }
+
+    private boolean sameRoster(Player[] players) {
+        if (players.length != tracked.length) {
+            return false;
+        }
+        for (int i = 0; i < players.length; i++) {
+            if (players[i] != tracked[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int slotOf(Player owner) {
+        for (int slot = 0; slot < tracked.length; slot++) {
+            if (tracked[slot] == owner) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The previous pending step of that player is committed to the grid.
+     */
+    @Override
+    public void onStep(Player owner, int x1, int y1, int x2, int y2) {
+        int slot = slotOf(owner);
+        if (slot < 0) {
+            return;
+        }
+        int at = slot * STEP_INTS;
+        if (hasPending[slot]) {
+            commit(slot, pending[at], pending[at + 1], pending[at + 2], pending[at + 3]);
+        }
+        pending[at] = x1;
+        pending[at + 1] = y1;
+        pending[at + 2] = x2;
+        pending[at + 3] = y2;
+        hasPending[slot] = true;
+    }
+
+    @Override
+    public void onPathCleared(Player owner) {
+        int slot = slotOf(owner);
+        if (slot < 0) {
+            return;
+        }
+        hasPending[slot] = false;
+        int[] owned = ownerSteps[slot];
+        for (int i = 0; i < ownerSizes[slot]; i++) {
+            int step = owned[i];
+            removeFromCells(step);
+            if (freeCount == freeSteps.length) {
+                freeSteps = Arrays.copyOf(freeSteps, freeCount * 2);
+            }
+            freeSteps[freeCount++] = step;
+        }
+        ownerSizes[slot] = 0;
+    }
+
+    private void commit(int slot, int x1, int y1, int x2, int y2) {
+        int step;
+        if (freeCount > 0) {
+            step = freeSteps[--freeCount];
+        } else {
+            step = stepCount++;
+            if (stepCount * STEP_INTS > steps.length) {
+                steps = Arrays.copyOf(steps, steps.length * 2);
+            }
+        }
+        int at = step * STEP_INTS;
+        steps[at] = x1;
+        steps[at + 1] = y1;
+        steps[at + 2] = x2;
+        steps[at + 3] = y2;
+        ownerSteps[slot] = append(ownerSteps[slot], ownerSizes[slot]++, step);
+        int maxCol = column(Math.max(x1, x2));
+        int maxRow = row(Math.max(y1, y2));
+        for (int r = row(Math.min(y1, y2)); r <= maxRow; r++) {
+            for (int c = column(Math.min(x1, x2)); c <= maxCol; c++) {
+                int index = r * columns + c;
+                cellSteps[index] = append(cellSteps[index], cellSizes[index]++, step);
+            }
+        }
+    }
+
+    /** Store a value at a position of an array, growing (or creating) the array as needed. */
+    private static int[] append(int[] array, int position, int value) {
+        if (array == null) {
+            array = new int[8];
+        } else if (position == array.length) {
+            array = Arrays.copyOf(array, array.length * 2);
+        }
+        array[position] = value;
+        return array;
+    }
+
+    /** Drop a step from every cell of its bounding box. */
+    private void removeFromCells(int step) {
+        int at = step * STEP_INTS;
+        int maxCol = column(Math.max(steps[at], steps[at + 2]));
+        int maxRow = row(Math.max(steps[at + 1], steps[at + 3]));
+        for (int r = row(Math.min(steps[at + 1], steps[at + 3])); r <= maxRow; r++) {
+            for (int c = column(Math.min(steps[at], steps[at + 2])); c <= maxCol; c++) {
+                int index = r * columns + c;
+                int[] cell = cellSteps[index];
+                int last = cellSizes[index] - 1;
+                for (int i = 0; i <= last; i++) {
+                    if (cell[i] == step) {
+                        cell[i] = cell[last];
+                        cellSizes[index] = last;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private void clearTrails() {
+        Arrays.fill(cellSizes, 0);
+        stepCount = 0;
+        freeCount = 0;
+        ownerSteps = new int[tracked.length][];
+        ownerSizes = new int[tracked.length];
+        pending = new int[tracked.length * STEP_INTS];
+        hasPending = new boolean[tracked.length];
+    }
+
+    // ==================== Queries ====================
+
+    /**
+     * Test a head placed at (x, y) against the committed trail steps around it.
+     * A horizontal step hits when the head is within half a player height of it and
+     * inside its x-range (and symmetrically for vertical steps).
+     * @param head player whose size is used for the test
+     * @param x head x coordinate
+     * @param y head y coordinate
+     * @return UP if the head touches a trail, otherwise NONE
+     */
+    @Override
+    public Intersection intersectsAt(Player head, int x, int y) {
+        int halfW = head.getWidth() / 2;
+        int halfH = head.getHeight() / 2;
+        int minCol = column(x - halfW);
+        int maxCol = column(x + halfW);
+        int minRow = row(y - halfH);
+        int maxRow = row(y + halfH);
+        for (int r = minRow; r <= maxRow; r++) {
+            for (int c = minCol; c <= maxCol; c++) {
+                int index = r * columns + c;
+                int[] cell = cellSteps[index];
+                for (int i = 0; i < cellSizes[index]; i++) {
+                    if (hits(cell[i], x, y, halfW, halfH)) {
+                        return Intersection.UP;
+                    }
+                }
+            }
+        }
+        return Intersection.NONE;
+    }
+
+    private boolean hits(int step, int x, int y, int halfW, int halfH) {
+        int at = step * STEP_INTS;
+        int x1 = steps[at];
+        int y1 = steps[at + 1];
+        int x2 = steps[at + 2];
+        int y2 = steps[at + 3];
+        if (y1 == y2) {
+            return Math.abs(y1 - y) <= halfH && x >= Math.min(x1, x2) && x <= Math.max(x1, x2);
+        } else if (x1 == x2) {
+            return Math.abs(x1 - x) <= halfW && y >= Math.min(y1, y2) && y <= Math.max(y1, y2);
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Walks the cells the ray passes through, nearest first, and stops at the first
+     * cell holding a step in the way: a step crossing the ray is indexed in the cell
+     * of the crossing point, so no step in a later cell can be closer.
+     */
+    @Override
+    public int castRay(int x, int y, int dx, int dy, int maxDistance) {
+        int across = dx != 0 ? y : x;
+        int acrossLimit = dx != 0 ? rows * CELL_SIZE : columns * CELL_SIZE;
+        if (across < 0 || across >= acrossLimit) {
+            return maxDistance;
+        }
+        int along = dx != 0 ? x : y;
+        int cells = dx != 0 ? columns : rows;
+        int step = dx + dy;
+        for (int cell = Math.clamp(Math.floorDiv(along, CELL_SIZE), 0, cells - 1);
+                cell >= 0 && cell < cells; cell += step) {
+            int nearEdge = step > 0 ? cell * CELL_SIZE - along : along - (cell * CELL_SIZE + CELL_SIZE - 1);
+            if (nearEdge >= maxDistance) {
+                break;
+            }
+            int index = dx != 0 ? row(y) * columns + cell : cell * columns + column(x);
+            int[] cellSteps = this.cellSteps[index];
+            int nearest = NO_HIT;
+            for (int i = 0; i < cellSizes[index]; i++) {
+                int at = cellSteps[i] * STEP_INTS;
+                nearest = Math.min(nearest, CollisionEngine.distanceAlong(x, y, dx, dy,
+                        steps[at], steps[at + 1], steps[at + 2], steps[at + 3]));
+            }
+            if (nearest != NO_HIT) {
+                return Math.min(nearest, maxDistance);
+            }
+        }
+        return maxDistance;
+    }
+
+    /**
+     * Number of committed trail steps currently indexed.
+     * @return committed step count
+     */
+    public int size() {
+        int total = 0;
+        for (int count : ownerSizes) {
+            total += count;
+        }
+        return total;
+    }
+
+    // ==================== Cell helpers ====================
+
+    private int column(int x) {
+        return Math.clamp(Math.floorDiv(x, CELL_SIZE), 0, columns - 1);
+    }
+
+    private int row(int y) {
+        return Math.clamp(Math.floorDiv(y, CELL_SIZE), 0, rows - 1);
+    }
+}
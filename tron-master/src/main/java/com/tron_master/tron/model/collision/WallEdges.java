@@ -0,0 +1,134 @@
+package com.tron_master.tron.model.collision;
+
+import com.tron_master.tron.model.object.Wall;
+
+/**
+ * Immutable table of the edges of one wall layout, for ray casts by the AI.
+ * Each wall contributes its four edges (top, bottom, left, right), stored in flat
+ * coordinate arrays, so looking ahead never creates line objects.
+ *
+ * <p>The {@link ArenaField} of a match builds the table once per layout and hands it to
+ * every AI it tracks. A reload always produces a new wall array, which the field notices
+ * by identity, so a reloaded layout gets a fresh table without any explicit invalidation.</p>
+ */
+public final class WallEdges {
+
+    /** Table of a layout without walls. */
+    public static final WallEdges EMPTY = new WallEdges(new Wall[0]);
+
+    private final int[] startX;
+    private final int[] startY;
+    private final int[] endX;
+    private final int[] endY;
+
+    private WallEdges(Wall[] walls) {
+        int count = 0;
+        for (Wall w : walls) {
+            if (w != null) {
+                count += 4;
+            }
+        }
+        startX = new int[count];
+        startY = new int[count];
+        endX = new int[count];
+        endY = new int[count];
+        int i = 0;
+        for (Wall w : walls) {
+            if (w == null) {
+                continue;
+            }
+            int left = w.getX();
+            int right = w.getX() + w.getWidth();
+            int top = w.getY();
+            int bottom = w.getY() + w.getHeight();
+            i = edge(i, left, top, right, top);
+            i = edge(i, left, bottom, right, bottom);
+            i = edge(i, left, top, left, bottom);
+            i = edge(i, right, top, right, bottom);
+        }
+    }
+
+    private int edge(int i, int x1, int y1, int x2, int y2) {
+        startX[i] = x1;
+        startY[i] = y1;
+        endX[i] = x2;
+        endY[i] = y2;
+        return i + 1;
+    }
+
+    /**
+     * Build the edge table of a layout.
+     * @param walls walls of the layout (may be null or contain nulls)
+     * @return new edge table, or {@link #EMPTY} without walls
+     */
+    public static WallEdges of(Wall[] walls) {
+        if (walls == null || walls.length == 0) {
+            return EMPTY;
+        }
+        return new WallEdges(walls);
+    }
+
+    /**
+     * Distance along a ray to the nearest edge (see {@link CollisionEngine#castRay}).
+     * @param x ray origin x
+     * @param y ray origin y
+     * @param dx x direction (-1, 0 or 1)
+     * @param dy y direction (-1, 0 or 1)
+     * @param maxDistance how far to look
+     * @return distance to the nearest edge, or maxDistance if none is closer
+     */
+    public int castRay(int x, int y, int dx, int dy, int maxDistance) {
+        int distance = maxDistance;
+        for (int i = 0; i < startX.length; i++) {
+            distance = Math.min(distance,
+                    CollisionEngine.distanceAlong(x, y, dx, dy, startX[i], startY[i], endX[i], endY[i]));
+        }
+        return distance;
+    }
+
+    // ==================== Accessors ====================
+
+    /**
+     * Number of edges (four per wall).
+     * @return edge count
+     */
+    public int size() {
+        return startX.length;
+    }
+
+    /**
+     * Start x of an edge.
+     * @param i edge index
+     * @return start x
+     */
+    public int startX(int i) {
+        return startX[i];
+    }
+
+    /**
+     * Start y of an edge.
+     * @param i edge index
+     * @return start y
+     */
+    public int startY(int i) {
+        return startY[i];
+    }
+
+    /**
+     * End x of an edge.
+     * @param i edge index
+     * @return end x
+     */
+    public int endX(int i) {
+        return endX[i];
+    }
+
+    /**
+     * End y of an edge.
+     * @param i edge index
+     * @return end y
+     */
+    public int endY(int i) {
+        return endY[i];
+    }
+}
@@ -0,0 +1,158 @@
+package com.tron_master.tron.model.collision;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.Predicate;
+
+import com.tron_master.tron.model.object.Player;
+import com.tron_master.tron.model.object.Wall;
+
+/**
+ * Static bounding-volume hierarchy over the walls (or portals) of one layout.
+ * Queries reuse one traversal stack, so an index is used by one thread at a time.
+ * Walls never move between reloads, so the tree is built once when a layout is
+ * loaded and then only queried: a player's head box descends into the nodes it
+ * overlaps instead of being tested against every wall segment of the layout.
+ *
+ * <p>The tree is stored in flat arrays. Each node keeps its bounding box and
+ * either two children or a run of items in {@link #items}.</p>
+ *
+ * @param <T> wall type held by the index ({@link Wall} or a subclass such as a portal)
+ */
+public class WallIndex<T extends Wall> {
+
+    /** Maximum number of walls stored in a leaf. */
+    private static final int LEAF_SIZE = 4;
+
+    private final Wall[] items;
+    private final int[] minX;
+    private final int[] minY;
+    private final int[] maxX;
+    private final int[] maxY;
+    /** Left child index for inner nodes, or start of the item run for leaves. */
+    private final int[] first;
+    /** Right child index for inner nodes, or -(item count) for leaves. */
+    private final int[] second;
+    private int nodeCount;
+    /** Nodes still to visit during a query, reused so a query allocates nothing. */
+    private final int[] stack;
+
+    /**
+     * Build the hierarchy for the given layout.
+     * @param walls walls of the layout (may be null or contain nulls)
+     */
+    public WallIndex(T[] walls) {
+        this.items = walls == null ? new Wall[0]
+                : Arrays.stream(walls).filter(w -> w != null).toArray(Wall[]::new);
+        int capacity = Math.max(1, 2 * items.length);
+        this.minX = new int[capacity];
+        this.minY = new int[capacity];
+        this.maxX = new int[capacity];
+        this.maxY = new int[capacity];
+        this.first = new int[capacity];
+        this.second = new int[capacity];
+        int depth = items.length > 0 ? build(0, items.length, 0) : 0;
+        // a depth-first walk holds at most one pending sibling per level, plus the node itself
+        this.stack = new int[depth + 2];
+    }
+
+    /**
+     * Build the subtree over a run of items.
+     * @return depth of the deepest node below, counted from the root
+     */
+    private int build(int from, int to, int depth) {
+        int node = nodeCount++;
+        int loX = Integer.MAX_VALUE;
+        int loY = Integer.MAX_VALUE;
+        int hiX = Integer.MIN_VALUE;
+        int hiY = Integer.MIN_VALUE;
+        for (int i = from; i < to; i++) {
+            Wall w = items[i];
+            loX = Math.min(loX, w.getX());
+            loY = Math.min(loY, w.getY());
+            hiX = Math.max(hiX, w.getX() + w.getWidth());
+            hiY = Math.max(hiY, w.getY() + w.getHeight());
+        }
+        minX[node] = loX;
+        minY[node] = loY;
+        maxX[node] = hiX;
+        maxY[node] = hiY;
+        if (to - from <= LEAF_SIZE) {
+            first[node] = from;
+            second[node] = -(to - from);
+            return depth;
+        }
+        // split at the median centre along the longer side of the box
+        Comparator<Wall> byCentre = hiX - loX >= hiY - loY
+                ? Comparator.comparingInt(w -> 2 * w.getX() + w.getWidth())
+                : Comparator.comparingInt(w -> 2 * w.getY() + w.getHeight());
+        Arrays.sort(items, from, to, byCentre);
+        int mid = (from + to) >>> 1;
+        first[node] = nodeCount;
+        int left = build(from, mid, depth + 1);
+        second[node] = nodeCount;
+        int right = build(mid, to, depth + 1);
+        return Math.max(left, right);
+    }
+
+    /**
+     * Find the first wall whose box overlaps the player's head box and that
+     * passes the given test.
+     * @param player player whose head box is queried
+     * @param test exact check applied to each overlapping wall
+     * @return the first matching wall, or null if none matches
+     */
+    @SuppressWarnings("unchecked")
+    public T find(Player player, Predicate<? super T> test) {
+        if (player == null || nodeCount == 0) {
+            return null;
+        }
+        int halfW = Player.WIDTH / 2;
+        int halfH = Player.HEIGHT / 2;
+        int qMinX = player.getX() - halfW;
+        int qMaxX = player.getX() + halfW;
+        int qMinY = player.getY() - halfH;
+        int qMaxY = player.getY() + halfH;
+
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            if (qMaxX < minX[node] || qMinX > maxX[node] || qMaxY < minY[node] || qMinY > maxY[node]) {
+                continue;
+            }
+            if (second[node] <= 0) {
+                int end = first[node] - second[node];
+                for (int i = first[node]; i < end; i++) {
+                    Wall w = items[i];
+                    if (qMaxX >= w.getX() && qMinX <= w.getX() + w.getWidth()
+                            && qMaxY >= w.getY() && qMinY <= w.getY() + w.getHeight()
+                            && test.test((T) w)) {
+                        return (T) w;
+                    }
+                }
+            } else {
+                stack[top++] = first[node];
+                stack[top++] = second[node];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Check whether a player touches any wall of the layout.
+     * @param player player to test
+     * @return true if the player collides with a wall
+     */
+    public boolean collides(Player player) {
+        return player != null && find(player, w -> w.collidesWithPlayer(player)) != null;
+    }
+
+    /**
+     * Number of walls held by the index.
+     * @return wall count
+     */
+    public int size() {
+        return items.length;
+    }
+}
@@ -8,6 +8,8 @@ public class ColorValue {
     private final double red;
     private final double green;
     private final double blue;
+    /** Computed once: colors are cache keys looked up every frame. */
+    private final int hash;
 
     /**
      * Create a color with RGB channels in the 0-1 range (values are clamped).
@@ -19,6 +21,8 @@ public class ColorValue {
         this.red = clamp(red);
         this.green = clamp(green);
         this.blue = clamp(blue);
+        this.hash = 31 * (31 * Double.hashCode(this.red) + Double.hashCode(this.green))
+                + Double.hashCode(this.blue);
     }
 
     private double clamp(double channel) {
@@ -54,4 +58,22 @@ public class ColorValue {
     public double blue() {
         return blue;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ColorValue other)) {
+            return false;
+        }
+        return Double.compare(red, other.red) == 0
+                && Double.compare(green, other.green) == 0
+                && Double.compare(blue, other.blue) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
 }
@@ -4,33 +4,21 @@ import com.tron_master.tron.constant.GameConstant;
 
 /**
  * Game shared data model (Singleton pattern: globally unique, accessible by all controllers/views)
- * Stores global data such as scores, levels, settings, etc.
+ * UI-facing facade over the {@link MatchContext} of the match shown on screen,
+ * plus UI settings such as the background color.
+ * Headless matches (e.g. batch simulations) use their own {@link MatchContext}
+ * and never touch this instance.
  */
 public class GameData {
-    // Singleton instance (ensures global uniqueness)
-    private static GameData instance;
-
-    // Game state data
-    private int survivalScore; // Survival mode score
-    private int survivalBoost;
-    private GameState survivalState; // Survival mode state
-
-    private int twoPlayerP1Score; // Two-player mode player 1 score
-    private int twoPlayerP2Score; // Two-player mode player 2 score
-    private int player1Boost;
-    private int player2Boost;
-    private GameState twoPlayerState;
-    private TwoPlayerOutcome twoPlayerOutcome;
-
-    private int storyLevel; // Story mode level
-    private int storyScore; // Story mode score
-    private int storyBoost;
-    private GameState storyState;
-    private String backgroundColorHex;
-
-    // Private constructor (prevents external instantiation)
+    // Singleton instance (ensures global uniqueness), created on first use by the holder class
+    private static final class Holder {
+        private static final GameData INSTANCE = new GameData();
+    }
+
+    private final MatchContext match = new MatchContext();
+    private String backgroundColorHex = GameConstant.DEFAULT_BG_COLOR;
+
     private GameData() {
-        initializeDefaults(); // Initialize data without calling overridable methods
     }
 
     /**
@@ -38,82 +26,39 @@ public class GameData {
      * @return global GameData
      */
     public static GameData getInstance() {
-        if (instance == null) {
-            instance = new GameData();
-        }
-        return instance;
+        return Holder.INSTANCE;
     }
 
     /**
-     * Reset all persisted game data to initial defaults.
+     * Get the context of the match shown by the UI.
+     * @return UI match context
      */
-    public void resetAllData() {
-        this.survivalScore = 0;
-        this.survivalBoost = GameConstant.INIT_BOOST_COUNT;
-        this.twoPlayerP1Score = 0;
-        this.twoPlayerP2Score = 0;
-        this.player1Boost = GameConstant.INIT_BOOST_COUNT;
-        this.player2Boost = GameConstant.INIT_BOOST_COUNT;
-        this.twoPlayerState = GameState.PLAYING;
-        this.twoPlayerOutcome = TwoPlayerOutcome.TIE;
-        this.storyLevel = 1;
-        this.storyScore = 0;
-        this.storyBoost = GameConstant.INIT_BOOST_COUNT;
-        this.backgroundColorHex = GameConstant.DEFAULT_BG_COLOR;
+    public MatchContext getMatchContext() {
+        return match;
     }
 
     /**
-     * Initialize default values. This is a private helper used by the constructor to
-     * avoid calling overridable methods during construction.
+     * Reset all persisted game data to initial defaults.
      */
-    private void initializeDefaults() {
-        this.survivalScore = 0;
-        this.survivalBoost = GameConstant.INIT_BOOST_COUNT;
-        this.twoPlayerP1Score = 0;
-        this.twoPlayerP2Score = 0;
-        this.player1Boost = GameConstant.INIT_BOOST_COUNT;
-        this.player2Boost = GameConstant.INIT_BOOST_COUNT;
-        this.twoPlayerState = GameState.PLAYING;
-        this.twoPlayerOutcome = TwoPlayerOutcome.TIE;
-        this.storyLevel = 1;
-        this.storyScore = 0;
-        this.storyBoost = GameConstant.INIT_BOOST_COUNT;
+    public void resetAllData() {
+        match.resetAllData();
         this.backgroundColorHex = GameConstant.DEFAULT_BG_COLOR;
     }
 
     /** Reset survival-mode specific values. */
-    public void resetSurvivalData() {
-        this.survivalScore = 0;
-        this.survivalBoost = GameConstant.INIT_BOOST_COUNT;
-        this.survivalState = GameState.PLAYING;
-    }
+    public void resetSurvivalData() { match.resetSurvivalData(); }
 
     /** Reset two-player mode values except scores. */
-    public void resetTwoPlayerData() {
-        this.player1Boost = GameConstant.INIT_BOOST_COUNT;
-        this.player2Boost = GameConstant.INIT_BOOST_COUNT;
-        this.twoPlayerState = GameState.PLAYING;
-        this.twoPlayerOutcome = TwoPlayerOutcome.TIE;
-    }
+    public void resetTwoPlayerData() { match.resetTwoPlayerData(); }
 
     /** Reset two-player scores and related state. */
-    public void resetTwoPlayerMatch() {
-        resetTwoPlayerScore();
-        resetTwoPlayerData();
-    }
+    public void resetTwoPlayerMatch() { match.resetTwoPlayerMatch(); }
+
     /** Reset only two-player scores. */
-    public void resetTwoPlayerScore() {
-        this.twoPlayerP1Score = 0;
-        this.twoPlayerP2Score = 0;
-    }
+    public void resetTwoPlayerScore() { match.resetTwoPlayerScore(); }
 
     /** Reset story-mode specific values. */
-    public void resetStoryData() {
-        this.storyLevel = 1;
-        this.storyScore = 0;
-        this.storyBoost = GameConstant.INIT_BOOST_COUNT;
-        this.storyState = GameState.PLAYING;
-    }
+    public void resetStoryData() { match.resetStoryData(); }
 
 // ------------------- Getter/Setter -------------------
 
@@ -123,57 +68,49 @@ public class GameData {
      * Get current story level.
      * @return level index
      */
-    public int getStoryLevel() {
-    return storyLevel;
-}
+    public int getStoryLevel() { return match.getStoryLevel(); }
 
     /**
      * Set current story level.
      * @param storyLevel level index
      */
-    public void setStoryLevel(int storyLevel) {
-        this.storyLevel = storyLevel;
-    }
+    public void setStoryLevel(int storyLevel) { match.setStoryLevel(storyLevel); }
 
     /**
      * Get story mode score.
      * @return score value
      */
-    public int getStoryScore() {
-        return storyScore;
-    }
+    public int getStoryScore() { return match.getStoryScore(); }
 
     /**
      * Set story mode score.
      * @param storyScore score value
      */
-    public void setStoryScore(int storyScore) {
-        this.storyScore = storyScore;
-    }
+    public void setStoryScore(int storyScore) { match.setStoryScore(storyScore); }
 
     /**
      * Get available boosts in story mode.
      * @return remaining boosts
      */
-    public int getStoryBoost() {return storyBoost;}
+    public int getStoryBoost() { return match.getStoryBoost(); }
 
     /**
      * Set available boosts for story mode.
      * @param storyBoost remaining boosts
      */
-    public void setStoryBoost(int storyBoost) {this.storyBoost = storyBoost;}
+    public void setStoryBoost(int storyBoost) { match.setStoryBoost(storyBoost); }
 
     /**
      * Get current story mode state.
      * @return state enum
      */
-    public GameState getStoryState() {return storyState;}
+    public GameState getStoryState() { return match.getStoryState(); }
 
     /**
      * Set current story mode state.
      * @param storyState state enum
      */
-    public void setStoryState(GameState storyState) {this.storyState = storyState;}
+    public void setStoryState(GameState storyState) { match.setStoryState(storyState); }
 
     // ––– –– – survival mode (score, boost, state)
 
@@ -181,41 +118,37 @@ public class GameData {
      * Get survival mode state.
      * @return state enum
      */
-    public GameState getSurvivalState() {return survivalState;}
+    public GameState getSurvivalState() { return match.getSurvivalState(); }
 
     /**
      * Set survival mode state.
      * @param survivalState state enum
      */
-    public void setSurvivalState(GameState survivalState) {this.survivalState = survivalState;}
+    public void setSurvivalState(GameState survivalState) { match.setSurvivalState(survivalState); }
 
     /**
      * Get survival mode score.
      * @return score value
      */
-    public int getSurvivalScore() {
-        return survivalScore;
-    }
+    public int getSurvivalScore() { return match.getSurvivalScore(); }
 
     /**
      * Set survival mode score.
      * @param survivalScore score value
      */
-    public void setSurvivalScore(int survivalScore) {
-        this.survivalScore = survivalScore;
-    }
+    public void setSurvivalScore(int survivalScore) { match.setSurvivalScore(survivalScore); }
 
     /**
      * Get available boosts in survival mode.
      * @return remaining boosts
      */
-    public int getSurvivalBoost() {return survivalBoost;}
+    public int getSurvivalBoost() { return match.getSurvivalBoost(); }
 
     /**
      * Set available boosts for survival mode.
      * @param survivalBoost remaining boosts
      */
-    public void setSurvivalBoost(int survivalBoost) {this.survivalBoost = survivalBoost;}
+    public void setSurvivalBoost(int survivalBoost) { match.setSurvivalBoost(survivalBoost); }
 
     // ––– –– – two player mode (score1, score2, boost1, boost2, state)
 
@@ -223,81 +156,76 @@ public class GameData {
      * Get player 1 score in two-player mode.
      * @return score value
      */
-    public int getTwoPlayerP1Score() {
-        return twoPlayerP1Score;
-    }
+    public int getTwoPlayerP1Score() { return match.getTwoPlayerP1Score(); }
 
     /**
      * Set player 1 score in two-player mode.
      * @param twoPlayerP1Score score value
      */
-    public void setTwoPlayerP1Score(int twoPlayerP1Score) {
-        this.twoPlayerP1Score = twoPlayerP1Score;
-    }
+    public void setTwoPlayerP1Score(int twoPlayerP1Score) { match.setTwoPlayerP1Score(twoPlayerP1Score); }
 
     /**
      * Get player 2 score in two-player mode.
      * @return score value
      */
-    public int getTwoPlayerP2Score() {
-        return twoPlayerP2Score;
-    }
+    public int getTwoPlayerP2Score() { return match.getTwoPlayerP2Score(); }
 
     /**
      * Set player 2 score in two-player mode.
      * @param twoPlayerP2Score score value
      */
-    public void setTwoPlayerP2Score(int twoPlayerP2Score) {
-        this.twoPlayerP2Score = twoPlayerP2Score;
-    }
+    public void setTwoPlayerP2Score(int twoPlayerP2Score) { match.setTwoPlayerP2Score(twoPlayerP2Score); }
 
     /**
      * Get player 1 remaining boosts.
      * @return boost count
      */
-    public int getPlayer1Boost() { return player1Boost; }
+    public int getPlayer1Boost() { return match.getPlayer1Boost(); }
 
     /**
      * Set player 1 remaining boosts.
      * @param player1Boost boost count
      */
-    public void setPlayer1Boost(int player1Boost) { this.player1Boost = player1Boost;}
+    public void setPlayer1Boost(int player1Boost) { match.setPlayer1Boost(player1Boost); }
 
     /**
      * Get player 2 remaining boosts.
      * @return boost count
      */
-    public int getPlayer2Boost() { return player2Boost; }
+    public int getPlayer2Boost() { return match.getPlayer2Boost(); }
 
     /**
      * Set player 2 remaining boosts.
      * @param player2Boost boost count
      */
-    public void setPlayer2Boost(int player2Boost) { this.player2Boost = player2Boost;}
+    public void setPlayer2Boost(int player2Boost) { match.setPlayer2Boost(player2Boost); }
 
     /**
      * Get two-player game state.
      * @return state enum
      */
-    public GameState getTwoPlayerState() {return twoPlayerState;}
+    public GameState getTwoPlayerState() { return match.getTwoPlayerState(); }
 
     /**
      * Set two-player game state.
      * @param twoPlayerState state enum
      */
-    public void setTwoPlayerState(GameState twoPlayerState) {this.twoPlayerState = twoPlayerState;}
+    public void setTwoPlayerState(GameState twoPlayerState) { match.setTwoPlayerState(twoPlayerState); }
 
     /**
      * Get outcome of last two-player game.
      * @return outcome enum
      */
-    public TwoPlayerOutcome getTwoPlayerOutcome() {return twoPlayerOutcome;}
+    public TwoPlayerOutcome getTwoPlayerOutcome() { return match.getTwoPlayerOutcome(); }
 
     /**
      * Set outcome of two-player game.
      * @param twoPlayerOutcome outcome enum
      */
-    public void setTwoPlayerOutcome(TwoPlayerOutcome twoPlayerOutcome) {this.twoPlayerOutcome = twoPlayerOutcome;}
+    public void setTwoPlayerOutcome(TwoPlayerOutcome twoPlayerOutcome) { match.setTwoPlayerOutcome(twoPlayerOutcome); }
+
+
+    // ––– –– – settings
 
     /**
      * Get current background color hex.
@@ -0,0 +1,358 @@
+package com.tron_master.tron.model.data;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+import com.tron_master.tron.constant.GameConstant;
+
+/**
+ * State of a single match: scores, boosts, level and game state of every mode.
+ * Players and logic strategies write to the context they were created with, so
+ * each match is a self-contained unit. A context is confined to the thread that
+ * runs its match; the UI's context is reached through {@link GameData}.
+ *
+ * <p>The context also owns the match's randomness: one seeded {@link SplittableRandom}
+ * for spawns and wall gaps, split into an independent stream for every AI player, so
+ * AIs deciding on different threads never share a generator. The same seed replays
+ * the same match: a context created with a seed (or marked reproducible, as headless
+ * runs are) tells the strategies to let their AIs search a fixed number of iterations
+ * instead of for a fixed time.</p>
+ */
+public class MatchContext {
+    // Game state data
+    private int survivalScore; // Survival mode score
+    private int survivalBoost;
+    private GameState survivalState; // Survival mode state
+
+    private int twoPlayerP1Score; // Two-player mode player 1 score
+    private int twoPlayerP2Score; // Two-player mode player 2 score
+    private int player1Boost;
+    private int player2Boost;
+    private GameState twoPlayerState;
+    private TwoPlayerOutcome twoPlayerOutcome;
+
+    private int storyLevel; // Story mode level
+    private int storyScore; // Story mode score
+    private int storyBoost;
+    private GameState storyState;
+
+    private final long seed; // seed of the match's random stream
+    private final SplittableRandom random;
+    private boolean reproducible; // AI decisions must not depend on timing
+
+    /** Create a context with default values and a random seed. */
+    public MatchContext() {
+        this(ThreadLocalRandom.current().nextLong(), false);
+    }
+
+    /**
+     * Create a reproducible context with default values whose randomness follows a seed.
+     * @param seed seed of the match's random stream
+     */
+    public MatchContext(long seed) {
+        this(seed, true);
+    }
+
+    private MatchContext(long seed, boolean reproducible) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+        this.reproducible = reproducible;
+        initializeDefaults(); // Initialize data without calling overridable methods
+    }
+
+    /**
+     * Get the seed of the match's random stream, e.g. to replay the match.
+     * @return seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Check whether the match must replay exactly from its seed, so AI decisions may
+     * not depend on timing.
+     * @return true for seeded and headless matches
+     */
+    public boolean isReproducible() {
+        return reproducible;
+    }
+
+    /**
+     * Mark the match as one that must replay exactly from its seed.
+     * @param reproducible true to keep AI decisions independent of timing
+     */
+    public void setReproducible(boolean reproducible) {
+        this.reproducible = reproducible;
+    }
+
+    /**
+     * Get the match's random stream (spawns, wall gaps). Confined to the match's thread.
+     * @return random generator
+     */
+    public RandomGenerator getRandom() {
+        return random;
+    }
+
+    /**
+     * Split off an independent stream for one consumer, e.g. an AI player.
+     * @return new random generator derived from the match's stream
+     */
+    public RandomGenerator splitRandom() {
+        return random.split();
+    }
+
+    /**
+     * Reset all match data to initial defaults.
+     */
+    public void resetAllData() {
+        this.survivalScore = 0;
+        this.survivalBoost = GameConstant.INIT_BOOST_COUNT;
+        this.twoPlayerP1Score = 0;
+        this.twoPlayerP2Score = 0;
+        this.player1Boost = GameConstant.INIT_BOOST_COUNT;
+        this.player2Boost = GameConstant.INIT_BOOST_COUNT;
+        this.twoPlayerState = GameState.PLAYING;
+        this.twoPlayerOutcome = TwoPlayerOutcome.TIE;
+        this.storyLevel = 1;
+        this.storyScore = 0;
+        this.storyBoost = GameConstant.INIT_BOOST_COUNT;
+    }
+
+    /**
+     * Initialize default values. This is a private helper used by the constructor to
+     * avoid calling overridable methods during construction.
+     */
+    private void initializeDefaults() {
+        this.survivalScore = 0;
+        this.survivalBoost = GameConstant.INIT_BOOST_COUNT;
+        this.twoPlayerP1Score = 0;
+        this.twoPlayerP2Score = 0;
+        this.player1Boost = GameConstant.INIT_BOOST_COUNT;
+        this.player2Boost = GameConstant.INIT_BOOST_COUNT;
+        this.twoPlayerState = GameState.PLAYING;
+        this.twoPlayerOutcome = TwoPlayerOutcome.TIE;
+        this.storyLevel = 1;
+        this.storyScore = 0;
+        this.storyBoost = GameConstant.INIT_BOOST_COUNT;
+    }
+
+    /** Reset survival-mode specific values. */
+    public void resetSurvivalData() {
+        this.survivalScore = 0;
+        this.survivalBoost = GameConstant.INIT_BOOST_COUNT;
+        this.survivalState = GameState.PLAYING;
+    }
+
+    /** Reset two-player mode values except scores. */
+    public void resetTwoPlayerData() {
+        this.player1Boost = GameConstant.INIT_BOOST_COUNT;
+        this.player2Boost = GameConstant.INIT_BOOST_COUNT;
+        this.twoPlayerState = GameState.PLAYING;
+        this.twoPlayerOutcome = TwoPlayerOutcome.TIE;
+    }
+
+    /** Reset two-player scores and related state. */
+    public void resetTwoPlayerMatch() {
+        resetTwoPlayerScore();
+        resetTwoPlayerData();
+    }
+    /** Reset only two-player scores. */
+    public void resetTwoPlayerScore() {
+        this.twoPlayerP1Score = 0;
+        this.twoPlayerP2Score = 0;
+    }
+
+    /** Reset story-mode specific values. */
+    public void resetStoryData() {
+        this.storyLevel = 1;
+        this.storyScore = 0;
+        this.storyBoost = GameConstant.INIT_BOOST_COUNT;
+        this.storyState = GameState.PLAYING;
+    }
+
+// ------------------- Getter/Setter -------------------
+
+    // ––– –– – story mode (level, score, boost, state)
+
+    /**
+     * Get current story level.
+     * @return level index
+     */
+    public int getStoryLevel() {
+        return storyLevel;
+    }
+
+    /**
+     * Set current story level.
+     * @param storyLevel level index
+     */
+    public void setStoryLevel(int storyLevel) {
+        this.storyLevel = storyLevel;
+    }
+
+    /**
+     * Get story mode score.
+     * @return score value
+     */
+    public int getStoryScore() {
+        return storyScore;
+    }
+
+    /**
+     * Set story mode score.
+     * @param storyScore score value
+     */
+    public void setStoryScore(int storyScore) {
+        this.storyScore = storyScore;
+    }
+
+    /**
+     * Get available boosts in story mode.
+     * @return remaining boosts
+     */
+    public int getStoryBoost() {return storyBoost;}
+
+    /**
+     * Set available boosts for story mode.
+     * @param storyBoost remaining boosts
+     */
+    public void setStoryBoost(int storyBoost) {this.storyBoost = storyBoost;}
+
+    /**
+     * Get current story mode state.
+     * @return state enum
+     */
+    public GameState getStoryState() {return storyState;}
+
+    /**
+     * Set current story mode state.
+     * @param storyState state enum
+     */
+    public void setStoryState(GameState storyState) {this.storyState = storyState;}
+
+    // ––– –– – survival mode (score, boost, state)
+
+    /**
+     * Get survival mode state.
+     * @return state enum
+     */
+    public GameState getSurvivalState() {return survivalState;}
+
+    /**
+     * Set survival mode state.
+     * @param survivalState state enum
+     */
+    public void setSurvivalState(GameState survivalState) {this.survivalState = survivalState;}
+
+    /**
+     * Get survival mode score.
+     * @return score value
+     */
+    public int getSurvivalScore() {
+        return survivalScore;
+    }
+
+    /**
+     * Set survival mode score.
+     * @param survivalScore score value
+     */
+    public void setSurvivalScore(int survivalScore) {
+        this.survivalScore = survivalScore;
+    }
+
+    /**
+     * Get available boosts in survival mode.
+     * @return remaining boosts
+     */
+    public int getSurvivalBoost() {return survivalBoost;}
+
+    /**
+     * Set available boosts for survival mode.
+     * @param survivalBoost remaining boosts
+     */
+    public void setSurvivalBoost(int survivalBoost) {this.survivalBoost = survivalBoost;}
+
+    // ––– –– – two player mode (score1, score2, boost1, boost2, state)
+
+    /**
+     * Get player 1 score in two-player mode.
+     * @return score value
+     */
+    public int getTwoPlayerP1Score() {
+        return twoPlayerP1Score;
+    }
+
+    /**
+     * Set player 1 score in two-player mode.
+     * @param twoPlayerP1Score score value
+     */
+    public void setTwoPlayerP1Score(int twoPlayerP1Score) {
+        this.twoPlayerP1Score = twoPlayerP1Score;
+    }
+
+    /**
+     * Get player 2 score in two-player mode.
+     * @return score value
+     */
+    public int getTwoPlayerP2Score() {
+        return twoPlayerP2Score;
+    }
+
+    /**
+     * Set player 2 score in two-player mode.
+     * @param twoPlayerP2Score score value
+     */
+    public void setTwoPlayerP2Score(int twoPlayerP2Score) {
+        this.twoPlayerP2Score = twoPlayerP2Score;
+    }
+
+    /**
+     * Get player 1 remaining boosts.
+     * @return boost count
+     */
+    public int getPlayer1Boost() { return player1Boost; }
+
+    /**
+     * Set player 1 remaining boosts.
+     * @param player1Boost boost count
+     */
+    public void setPlayer1Boost(int player1Boost) { this.player1Boost = player1Boost;}
+
+    /**
+     * Get player 2 remaining boosts.
+     * @return boost count
+     */
+    public int getPlayer2Boost() { return player2Boost; }
+
+    /**
+     * Set player 2 remaining boosts.
+     * @param player2Boost boost count
+     */
+    public void setPlayer2Boost(int player2Boost) { this.player2Boost = player2Boost;}
+
+    /**
+     * Get two-player game state.
+     * @return state enum
+     */
+    public GameState getTwoPlayerState() {return twoPlayerState;}
+
+    /**
+     * Set two-player game state.
+     * @param twoPlayerState state enum
+     */
+    public void setTwoPlayerState(GameState twoPlayerState) {this.twoPlayerState = twoPlayerState;}
+
+    /**
+     * Get outcome of last two-player game.
+     * @return outcome enum
+     */
+    public TwoPlayerOutcome getTwoPlayerOutcome() {return twoPlayerOutcome;}
+
+    /**
+     * Set outcome of two-player game.
+     * @param twoPlayerOutcome outcome enum
+     */
+    public void setTwoPlayerOutcome(TwoPlayerOutcome twoPlayerOutcome) {this.twoPlayerOutcome = twoPlayerOutcome;}
+
+}
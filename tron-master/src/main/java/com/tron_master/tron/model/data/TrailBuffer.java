@@ -0,0 +1,479 @@
+package com.tron_master.tron.model.data;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.ref.Cleaner;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Growable, primitive-backed storage for a player's trail.
+ * Each segment takes two consecutive ints of the store: the start point and the
+ * end point, each packed as {@code (x << 16) | (y & 0xFFFF)}. Appending and
+ * extending segments never allocates once the store has grown to the trail's
+ * working size, which keeps the game tick free of short-lived line objects.
+ *
+ * <p>Readers go through {@link Cursor}, a flyweight that is moved from segment to
+ * segment instead of materialising one object per segment.</p>
+ *
+ * <p>For enlarged arenas and marathon sessions the points can live off-heap in a
+ * {@link MemorySegment} instead, so long trails add nothing for the GC to trace.
+ * The store is chosen per buffer; the default follows the
+ * {@value #OFF_HEAP_PROPERTY} system property. {@link #memoryUsage()} reports
+ * how much memory all trails currently reserve and use.</p>
+ */
+public final class TrailBuffer {
+
+    /** System property that makes new trails default to the off-heap store ("true"). */
+    public static final String OFF_HEAP_PROPERTY = "tron.trails.offheap";
+
+    private static final int INITIAL_SEGMENTS = 64;
+    private static final boolean OFF_HEAP_DEFAULT = Boolean.getBoolean(OFF_HEAP_PROPERTY);
+
+    private static final LongAdder HEAP_RESERVED = new LongAdder();
+    private static final LongAdder OFF_HEAP_RESERVED = new LongAdder();
+    private static final LongAdder SEGMENTS_USED = new LongAdder();
+    /** Returns a collected buffer's share to the counters above. */
+    private static final Cleaner CLEANER = Cleaner.create();
+    /** Shared empty trail, see {@link #empty()}. */
+    private static final TrailBuffer EMPTY = new TrailBuffer(false, true);
+
+    private final PointStore points;
+    private final Accounting accounting;
+    private final boolean readOnly;
+    private int size = 0;
+    private int generation = 0;
+
+    /** Create an empty trail using the configured default store. */
+    public TrailBuffer() {
+        this(OFF_HEAP_DEFAULT);
+    }
+
+    /**
+     * Create an empty trail with an explicit store.
+     * @param offHeap true to keep the points in native memory, false for an {@code int[]}
+     */
+    public TrailBuffer(boolean offHeap) {
+        this(offHeap, false);
+    }
+
+    private TrailBuffer(boolean offHeap, boolean readOnly) {
+        int capacity = readOnly ? 0 : 2 * INITIAL_SEGMENTS;
+        this.readOnly = readOnly;
+        this.accounting = new Accounting(offHeap ? OFF_HEAP_RESERVED : HEAP_RESERVED);
+        this.points = offHeap ? new OffHeapStore(capacity) : new HeapStore(capacity);
+        accounting.reserve(capacity);
+        CLEANER.register(this, accounting);
+    }
+
+    /**
+     * The empty trail shared by objects that never draw one (walls, portals).
+     * Every change to it throws {@link UnsupportedOperationException}.
+     * @return shared read-only empty trail
+     */
+    public static TrailBuffer empty() {
+        return EMPTY;
+    }
+
+    // ==================== Writing ====================
+
+    /**
+     * Append a new segment.
+     * @param startX start x
+     * @param startY start y
+     * @param endX end x
+     * @param endY end y
+     */
+    public void add(int startX, int startY, int endX, int endY) {
+        checkWritable();
+        ensureCapacity(size + 1);
+        points.set(2 * size, pack(startX, startY));
+        points.set(2 * size + 1, pack(endX, endY));
+        size++;
+        accounting.segments++;
+        SEGMENTS_USED.increment();
+    }
+
+    /**
+     * Move the end point of a segment in place.
+     * @param index segment index
+     * @param endX new end x
+     * @param endY new end y
+     */
+    public void setEnd(int index, int endX, int endY) {
+        checkWritable();
+        checkIndex(index);
+        points.set(2 * index + 1, pack(endX, endY));
+    }
+
+    /**
+     * Overwrite a segment in place.
+     * @param index segment index
+     * @param startX new start x
+     * @param startY new start y
+     * @param endX new end x
+     * @param endY new end y
+     */
+    public void set(int index, int startX, int startY, int endX, int endY) {
+        checkWritable();
+        checkIndex(index);
+        points.set(2 * index, pack(startX, startY));
+        points.set(2 * index + 1, pack(endX, endY));
+    }
+
+    /**
+     * Replace the contents of this trail with a copy of another one.
+     * @param source trail to copy (unchanged)
+     */
+    public void copyFrom(TrailBuffer source) {
+        checkWritable();
+        clear();
+        ensureCapacity(source.size);
+        for (int i = 0; i < 2 * source.size; i++) {
+            points.set(i, source.points.get(i));
+        }
+        size = source.size;
+        accounting.segments = size;
+        SEGMENTS_USED.add(size);
+    }
+
+    /** Remove all segments, keeping the allocated capacity. */
+    public void clear() {
+        checkWritable();
+        SEGMENTS_USED.add(-size);
+        accounting.segments = 0;
+        size = 0;
+        generation++;
+    }
+
+    // ==================== Reading ====================
+
+    /**
+     * Number of segments in the trail.
+     * @return segment count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Check whether the trail has no segments.
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Get start x of a segment.
+     * @param index segment index
+     * @return start x
+     */
+    public int startX(int index) {
+        checkIndex(index);
+        return unpackX(points.get(2 * index));
+    }
+
+    /**
+     * Get start y of a segment.
+     * @param index segment index
+     * @return start y
+     */
+    public int startY(int index) {
+        checkIndex(index);
+        return unpackY(points.get(2 * index));
+    }
+
+    /**
+     * Get end x of a segment.
+     * @param index segment index
+     * @return end x
+     */
+    public int endX(int index) {
+        checkIndex(index);
+        return unpackX(points.get(2 * index + 1));
+    }
+
+    /**
+     * Get end y of a segment.
+     * @param index segment index
+     * @return end y
+     */
+    public int endY(int index) {
+        checkIndex(index);
+        return unpackY(points.get(2 * index + 1));
+    }
+
+    /**
+     * Number of times the trail has been cleared. Lets a reader that copies the
+     * trail incrementally notice that its copy has to start over.
+     * @return clear count
+     */
+    public int generation() {
+        return generation;
+    }
+
+    /**
+     * Check whether this trail keeps its points in native memory.
+     * @return true if the off-heap store is used
+     */
+    public boolean isOffHeap() {
+        return points instanceof OffHeapStore;
+    }
+
+    /**
+     * Get a snapshot of the memory held by all trails in this JVM.
+     * @return current trail memory usage
+     */
+    public static MemoryUsage memoryUsage() {
+        return new MemoryUsage(HEAP_RESERVED.sum(), OFF_HEAP_RESERVED.sum(),
+                SEGMENTS_USED.sum() * 2 * Integer.BYTES);
+    }
+
+    /**
+     * Memory held by trail buffers.
+     * @param heapBytes bytes reserved by heap ({@code int[]}) stores
+     * @param offHeapBytes bytes reserved by native-memory stores
+     * @param usedBytes bytes actually occupied by trail segments
+     */
+    public record MemoryUsage(long heapBytes, long offHeapBytes, long usedBytes) {
+        @Override
+        public String toString() {
+            return String.format("trails: %d KB heap, %d KB off-heap, %d KB used",
+                    heapBytes / 1024, offHeapBytes / 1024, usedBytes / 1024);
+        }
+    }
+
+    /**
+     * Create a cursor positioned before the first segment.
+     * @return a new cursor over this trail
+     */
+    public Cursor cursor() {
+        return new Cursor(this);
+    }
+
+    private void ensureCapacity(int segments) {
+        int capacity = points.capacity();
+        if (2 * segments <= capacity) {
+            return;
+        }
+        int newCapacity = capacity;
+        while (newCapacity < 2 * segments) {
+            newCapacity *= 2;
+        }
+        points.grow(newCapacity);
+        accounting.reserve(newCapacity - capacity);
+    }
+
+    private void checkWritable() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("The shared empty trail is read-only");
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Segment " + index + " out of bounds for length " + size);
+        }
+    }
+
+    private static int pack(int x, int y) {
+        return (x << 16) | (y & 0xFFFF);
+    }
+
+    private static int unpackX(int packed) {
+        return packed >> 16;
+    }
+
+    private static int unpackY(int packed) {
+        return (short) packed;
+    }
+
+    // ==================== Point stores ====================
+
+    /** Fixed-width int storage that can be enlarged. */
+    private interface PointStore {
+        int get(int index);
+        void set(int index, int value);
+        int capacity();
+        void grow(int newCapacity);
+    }
+
+    private static final class HeapStore implements PointStore {
+        private int[] data;
+
+        HeapStore(int capacity) {
+            data = new int[capacity];
+        }
+
+        @Override public int get(int index) { return data[index]; }
+        @Override public void set(int index, int value) { data[index] = value; }
+        @Override public int capacity() { return data.length; }
+
+        @Override
+        public void grow(int newCapacity) {
+            data = Arrays.copyOf(data, newCapacity);
+        }
+    }
+
+    /**
+     * Native-memory store. Segments come from an automatic arena, so a replaced
+     * or abandoned segment is freed once it is no longer reachable.
+     */
+    private static final class OffHeapStore implements PointStore {
+        private MemorySegment data;
+        private int capacity;
+
+        OffHeapStore(int capacity) {
+            this.data = Arena.ofAuto().allocate((long) capacity * Integer.BYTES, Integer.BYTES);
+            this.capacity = capacity;
+        }
+
+        @Override public int get(int index) { return data.getAtIndex(ValueLayout.JAVA_INT, index); }
+        @Override public void set(int index, int value) { data.setAtIndex(ValueLayout.JAVA_INT, index, value); }
+        @Override public int capacity() { return capacity; }
+
+        @Override
+        public void grow(int newCapacity) {
+            MemorySegment larger = Arena.ofAuto().allocate((long) newCapacity * Integer.BYTES, Integer.BYTES);
+            MemorySegment.copy(data, 0, larger, 0, (long) capacity * Integer.BYTES);
+            data = larger;
+            capacity = newCapacity;
+        }
+    }
+
+    /**
+     * Per-buffer share of the global memory counters. Kept outside the buffer so
+     * the cleaner can run it after the buffer has been collected.
+     */
+    private static final class Accounting implements Runnable {
+        private final LongAdder reservedTotal;
+        private long reservedBytes;
+        private long segments;
+
+        Accounting(LongAdder reservedTotal) {
+            this.reservedTotal = reservedTotal;
+        }
+
+        void reserve(int ints) {
+            long bytes = (long) ints * Integer.BYTES;
+            reservedBytes += bytes;
+            reservedTotal.add(bytes);
+        }
+
+        @Override
+        public void run() {
+            reservedTotal.add(-reservedBytes);
+            SEGMENTS_USED.add(-segments);
+        }
+    }
+
+    /**
+     * Flyweight view of one trail segment. The same cursor is moved along the
+     * trail with {@link #next()} (or positioned with {@link #moveTo(int)}), and its
+     * getters mirror those of {@link LineSegment}.
+     */
+    public static final class Cursor {
+        private final TrailBuffer trail;
+        private int index = -1;
+        private int startX;
+        private int startY;
+        private int endX;
+        private int endY;
+
+        private Cursor(TrailBuffer trail) {
+            this.trail = trail;
+        }
+
+        /**
+         * Advance to the next segment.
+         * @return true if the cursor now points at a segment
+         */
+        public boolean next() {
+            if (index + 1 >= trail.size) {
+                index = trail.size;
+                return false;
+            }
+            load(index + 1);
+            return true;
+        }
+
+        /**
+         * Position the cursor on a given segment.
+         * @param index segment index
+         * @return this cursor
+         */
+        public Cursor moveTo(int index) {
+            trail.checkIndex(index);
+            load(index);
+            return this;
+        }
+
+        /** Move the cursor back before the first segment. */
+        public void reset() {
+            index = -1;
+        }
+
+        private void load(int i) {
+            index = i;
+            int start = trail.points.get(2 * i);
+            int end = trail.points.get(2 * i + 1);
+            startX = unpackX(start);
+            startY = unpackY(start);
+            endX = unpackX(end);
+            endY = unpackY(end);
+        }
+
+        /**
+         * Get index of the current segment.
+         * @return current segment index
+         */
+        public int index() { return index; }
+        /**
+         * Get starting X coordinate.
+         * @return starting X coordinate
+         */
+        public int getStartX() { return startX; }
+        /**
+         * Get starting Y coordinate.
+         * @return starting Y coordinate
+         */
+        public int getStartY() { return startY; }
+        /**
+         * Get ending X coordinate.
+         * @return ending X coordinate
+         */
+        public int getEndX() { return endX; }
+        /**
+         * Get ending Y coordinate.
+         * @return ending Y coordinate
+         */
+        public int getEndY() { return endY; }
+        /**
+         * Determine if the segment is vertical.
+         * @return true if the segment is vertical
+         */
+        public boolean isVertical() { return startX == endX; }
+        /**
+         * Gets the minimum X coordinate of this segment.
+         * @return Minimum X value
+         */
+        public int getMinX() { return Math.min(startX, endX); }
+        /**
+         * Gets the maximum X coordinate of this segment.
+         * @return Maximum X value
+         */
+        public int getMaxX() { return Math.max(startX, endX); }
+        /**
+         * Gets the minimum Y coordinate of this segment.
+         * @return Minimum Y value
+         */
+        public int getMinY() { return Math.min(startY, endY); }
+        /**
+         * Gets the maximum Y coordinate of this segment.
+         * @return Maximum Y value
+         */
+        public int getMaxY() { return Math.max(startY, endY); }
+    }
+}
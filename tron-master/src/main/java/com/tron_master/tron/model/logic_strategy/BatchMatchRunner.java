@@ -0,0 +1,192 @@
+package com.tron_master.tron.model.logic_strategy;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import com.tron_master.tron.model.data.MatchContext;
+import com.tron_master.tron.model.object.Player;
+import com.tron_master.tron.model.object.PlayerStateListener;
+
+/**
+ * Runs many independent headless matches in parallel and aggregates the results.
+ * Every match gets its own {@link SimulationEngine} and {@link MatchContext}, so matches share
+ * no mutable state and can be spread over a fork-join pool. Match {@code i} of a batch
+ * is seeded with {@code baseSeed + i}, so the same base seed replays the same batch.
+ *
+ * <p>A story match is won when the human player is the last one alive; a
+ * survival match is won when the player is still alive after the tick limit.</p>
+ */
+public class BatchMatchRunner {
+
+    /** Game modes that can be batch-simulated. */
+    public enum Mode {
+        /** One story level: one human against AI opponents. */
+        STORY,
+        /** One survival run. */
+        SURVIVAL
+    }
+
+    private final Mode mode;
+    private final int playerCount;
+    private final long maxTicks;
+    private final long baseSeed;
+    private Consumer<Player> humanDriver;
+
+    /**
+     * Create a runner for the given mode with a random base seed.
+     * @param mode game mode to simulate
+     * @param playerCount number of players for story matches (ignored for survival)
+     * @param maxTicks tick limit per match
+     */
+    public BatchMatchRunner(Mode mode, int playerCount, long maxTicks) {
+        this(mode, playerCount, maxTicks, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Create a runner for the given mode whose matches follow a base seed.
+     * @param mode game mode to simulate
+     * @param playerCount number of players for story matches (ignored for survival)
+     * @param maxTicks tick limit per match
+     * @param baseSeed seed of the first match; match {@code i} uses {@code baseSeed + i}
+     */
+    public BatchMatchRunner(Mode mode, int playerCount, long maxTicks, long baseSeed) {
+        this.mode = mode;
+        this.playerCount = playerCount;
+        this.maxTicks = maxTicks;
+        this.baseSeed = baseSeed;
+    }
+
+    /**
+     * Get the seed of the first match, e.g. to replay a batch.
+     * @return base seed
+     */
+    public long getBaseSeed() {
+        return baseSeed;
+    }
+
+    /**
+     * Set a callback that steers the human player of every match.
+     * Must be thread-safe, as matches run concurrently.
+     * @param humanDriver driver passed to each {@link SimulationEngine}, or null
+     */
+    public void setHumanDriver(Consumer<Player> humanDriver) {
+        this.humanDriver = humanDriver;
+    }
+
+    /**
+     * Run matches on the common fork-join pool.
+     * @param matches number of matches
+     * @return aggregated statistics
+     */
+    public BatchStats run(int matches) {
+        return run(matches, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Run matches on the given pool.
+     * @param matches number of matches
+     * @param pool pool that executes the matches
+     * @return aggregated statistics
+     */
+    public BatchStats run(int matches, ForkJoinPool pool) {
+        long start = System.nanoTime();
+        List<MatchResult> results = pool.submit(() -> IntStream.range(0, matches)
+                .parallel()
+                .mapToObj(i -> runMatch(baseSeed + i))
+                .toList()).join();
+        return BatchStats.of(results, System.nanoTime() - start);
+    }
+
+    /**
+     * Run the first match of the batch on the calling thread.
+     * @return the match result
+     */
+    public MatchResult runMatch() {
+        return runMatch(baseSeed);
+    }
+
+    /**
+     * Run a single match on the calling thread.
+     * @param seed seed of the match's context
+     * @return the match result
+     */
+    public MatchResult runMatch(long seed) {
+        MatchContext context = new MatchContext(seed);
+        SimulationEngine engine = mode == Mode.STORY
+                ? SimulationEngine.story(playerCount, context)
+                : SimulationEngine.survival(context);
+        engine.setHumanDriver(humanDriver);
+
+        int[] deaths = {0};
+        PlayerStateListener deathCounter = p -> deaths[0]++;
+        Player[] players = engine.getPlayers();
+        for (Player p : players) {
+            p.addStateListener(deathCounter);
+        }
+        Player human = players[0];
+
+        long survivalTicks = -1;
+        while (engine.getTicks() < maxTicks && engine.step()) {
+            if (survivalTicks < 0 && !human.getAlive()) {
+                survivalTicks = engine.getTicks();
+            }
+        }
+        if (survivalTicks < 0) {
+            survivalTicks = engine.getTicks();
+        }
+        return new MatchResult(won(players), survivalTicks, engine.getTicks(), deaths[0]);
+    }
+
+    /** Survival is won by staying alive; story only by being the last one alive. */
+    private boolean won(Player[] players) {
+        if (!players[0].getAlive()) {
+            return false;
+        }
+        if (mode == Mode.STORY) {
+            for (int i = 1; i < players.length; i++) {
+                if (players[i].getAlive()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Outcome of one simulated match.
+     * @param won whether the human player won
+     * @param survivalTicks ticks the human player stayed alive
+     * @param ticks ticks the match ran
+     * @param collisions number of players that crashed
+     */
+    public record MatchResult(boolean won, long survivalTicks, long ticks, int collisions) {}
+
+    /**
+     * Aggregate statistics of a batch.
+     * @param matches number of matches
+     * @param winRate fraction of matches won by the human player
+     * @param meanSurvivalTicks mean ticks the human player stayed alive
+     * @param collisionsPerTick crashes per simulated tick over all matches
+     * @param ticksPerSecond simulated ticks per wall-clock second over the whole batch
+     */
+    public record BatchStats(int matches, double winRate, double meanSurvivalTicks,
+                             double collisionsPerTick, double ticksPerSecond) {
+
+        static BatchStats of(List<MatchResult> results, long elapsedNanos) {
+            int n = results.size();
+            if (n == 0) {
+                return new BatchStats(0, 0, 0, 0, 0);
+            }
+            long wins = results.stream().filter(MatchResult::won).count();
+            long survival = results.stream().mapToLong(MatchResult::survivalTicks).sum();
+            long ticks = results.stream().mapToLong(MatchResult::ticks).sum();
+            long collisions = results.stream().mapToLong(MatchResult::collisions).sum();
+            double seconds = Math.max(elapsedNanos, 1) / 1e9;
+            return new BatchStats(n, (double) wins / n, (double) survival / n,
+                    ticks == 0 ? 0 : (double) collisions / ticks, ticks / seconds);
+        }
+    }
+}
@@ -1,18 +1,28 @@
 package com.tron_master.tron.model.logic_strategy;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
+import com.tron_master.tron.model.ai.AiScheduler;
+import com.tron_master.tron.model.collision.ArenaField;
+import com.tron_master.tron.model.collision.CollisionEngine;
+import com.tron_master.tron.model.collision.TrailGrid;
+import com.tron_master.tron.model.collision.WallIndex;
 import com.tron_master.tron.model.data.ColorValue;
+import com.tron_master.tron.model.data.MatchContext;
 import com.tron_master.tron.model.data.GameState;
+import com.tron_master.tron.model.data.Intersection;
 import com.tron_master.tron.model.object.Player;
 import com.tron_master.tron.model.object.PlayerHuman;
+import com.tron_master.tron.model.object.Portal;
+import com.tron_master.tron.model.object.Wall;
 
 /**
  * Class for handling game logic (player collision, player operation effect –>
  * boost and jump, score-related logic)
  */
 public abstract class GameLogic {
-    Random rand = new Random();
+    /** Random stream of the match (see {@link MatchContext#getRandom()}). */
+    final RandomGenerator rand;
 
     // the player and all other players
     PlayerHuman player;
@@ -33,6 +43,20 @@ public abstract class GameLogic {
     int VELOCITY = 3;
     private final int gameWidth;
     private final int gameHeight;
+    /** Spatial index of trails; also the default collision engine. */
+    final TrailGrid trailGrid;
+    /** Static index over the walls of the current layout, rebuilt on every reload. */
+    WallIndex<Wall> wallIndex = new WallIndex<>(new Wall[0]);
+    /** Static index over the portals of the current layout, rebuilt on every reload. */
+    WallIndex<Portal> portalIndex = new WallIndex<>(new Portal[0]);
+    /** Engine used for trail crash detection. */
+    private CollisionEngine collisionEngine;
+    /** Coarse map of walls and trails the AI players plan on. */
+    final ArenaField arenaField;
+    /** Decides the AI moves ahead of each tick; null lets every AI decide in its own move. */
+    private AiScheduler aiScheduler = new AiScheduler();
+    /** Scores, boosts and states of this match. */
+    final MatchContext context;
 
     // constructor adds KeyListeners and initializes fields
     /**
@@ -40,14 +64,20 @@ public abstract class GameLogic {
      * @param p number of players (capped at 8)
      * @param gameWidth playfield width
      * @param gameHeight playfield height
+     * @param context context of this match (the UI context, or a private one for headless runs)
      */
-    public GameLogic(int p, int gameWidth, int gameHeight) {
+    public GameLogic(int p, int gameWidth, int gameHeight, MatchContext context) {
+        this.context = context;
+        this.rand = context.getRandom();
         if (p > 8) {
             p = 8;
         }
         this.players = new Player[p];
         this.gameWidth = gameWidth;
         this.gameHeight = gameHeight;
+        this.trailGrid = new TrailGrid(gameWidth, gameHeight);
+        this.collisionEngine = trailGrid;
+        this.arenaField = new ArenaField(gameWidth, gameHeight);
     }
 
     // returns an array of velocities and dimensions for a Player
@@ -88,6 +118,11 @@ public abstract class GameLogic {
      * @param players players to update
      */
     public void updateGame(Player[] players) {
+        collisionEngine.track(players);
+        arenaField.update(players, getWalls());
+        if (aiScheduler != null) {
+            aiScheduler.think(players);
+        }
         // game logic update - only move alive players
         for (Player k : players) {
             if (k != null && k.getAlive()) {
@@ -95,18 +130,36 @@ public abstract class GameLogic {
                 k.move();
             }
         }
-        // collision detection - check all players
+        // collision detection - heads against each other, then the swept move against indexed trails
         for (Player k1 : players) {
-            if (k1 == null) {
+            if (k1 == null || !k1.getAlive()) {
                 continue;
             }
-            for (Player k2 : players) {
-                if (k2 == null) {
-                    continue;
-                }
-                k1.crash(k1.intersects(k2));
+            k1.crash(checkCrash(k1, players));
+        }
+    }
+
+    /**
+     * Check a single head for a crash with another head, or for a trail anywhere
+     * along the move it just made.
+     * @param head player to test
+     * @param players all players in the match
+     * @return UP on collision, otherwise NONE
+     */
+    private Intersection checkCrash(Player head, Player[] players) {
+        for (Player other : players) {
+            if (other != null && other != head && headsOverlap(head, other)) {
+                return Intersection.UP;
             }
         }
+        return collisionEngine.sweep(head);
+    }
+
+    private static boolean headsOverlap(Player a, Player b) {
+        return b.getY() - b.getHeight() / 2 <= a.getY() + a.getHeight() / 2 &&
+               b.getY() + b.getHeight() / 2 >= a.getY() - a.getHeight() / 2 &&
+               b.getX() - b.getWidth() / 2 <= a.getX() + a.getWidth() / 2 &&
+               b.getX() + b.getWidth() / 2 >= a.getX() - a.getWidth() / 2;
     }
 
     abstract void tick(Runnable stopCallback);
@@ -121,6 +174,111 @@ public abstract class GameLogic {
      */
     abstract GameState addScore();
 
+    /**
+     * Get the walls of the current layout.
+     * @return walls
+     */
+    public abstract Wall[] getWalls();
+
+    /**
+     * Get the portals of the current layout (none unless the mode has portals).
+     * @return portals
+     */
+    public Portal[] getPortals() {
+        return new Portal[0];
+    }
+
+    /**
+     * Copy the players and the layout into a new, self-contained snapshot.
+     * Must be called from the thread that runs the ticks, between two ticks.
+     * @return new snapshot with full trails
+     */
+    public WorldSnapshot snapshot() {
+        WorldSnapshot snapshot = WorldSnapshot.of(players, getWalls(), getPortals());
+        fillHud(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Fill a reusable snapshot with the state after the latest tick; trails are sent
+     * as the changes since the recorder's previous snapshot.
+     * Must be called from the thread that runs the ticks, between two ticks.
+     * @param recorder recorder that remembers what the reader has been sent
+     * @param target buffer to fill
+     * @param carryOver previously filled snapshot no reader has taken, or null
+     */
+    public void snapshot(WorldSnapshot.Recorder recorder, WorldSnapshot target, WorldSnapshot carryOver) {
+        recorder.record(players, getWalls(), getPortals(), target, carryOver);
+        fillHud(target);
+    }
+
+    private void fillHud(WorldSnapshot snapshot) {
+        for (int i = 0; i < snapshot.playerCount(); i++) {
+            snapshot.setHud(i, hudScore(i), hudBoost(i));
+        }
+        snapshot.setMatch(hudLevel(), getRun());
+    }
+
+    /**
+     * Score shown for a player slot in the HUD.
+     * @param slot player index
+     * @return score (0 unless the mode keeps one for this slot)
+     */
+    int hudScore(int slot) {
+        return 0;
+    }
+
+    /**
+     * Boosts shown for a player slot in the HUD.
+     * @param slot player index
+     * @return boosts (0 unless the mode keeps them for this slot)
+     */
+    int hudBoost(int slot) {
+        return 0;
+    }
+
+    /**
+     * Level shown in the HUD.
+     * @return level (0 for modes without levels)
+     */
+    int hudLevel() {
+        return 0;
+    }
+
+    /**
+     * Replace the engine used for trail crash detection.
+     * The previous engine releases its players; the new one picks them up on the next tick.
+     * @param collisionEngine engine to use (null restores the default segment-scan grid)
+     */
+    public void setCollisionEngine(CollisionEngine collisionEngine) {
+        this.collisionEngine.track(new Player[0]);
+        this.collisionEngine = collisionEngine != null ? collisionEngine : trailGrid;
+    }
+
+    /**
+     * Get the engine used for trail crash detection.
+     * @return active collision engine
+     */
+    public CollisionEngine getCollisionEngine() {
+        return collisionEngine;
+    }
+
+    /**
+     * Replace the scheduler that decides the AI moves.
+     * @param aiScheduler scheduler to use (null lets every AI decide in its own move)
+     */
+    public void setAiScheduler(AiScheduler aiScheduler) {
+        this.aiScheduler = aiScheduler;
+    }
+
+    /**
+     * Get the scheduler that decides the AI moves.
+     * @return active scheduler, or null
+     */
+    public AiScheduler getAiScheduler() {
+        return aiScheduler;
+    }
+
     // returns the velocity
     /**
      * Get base velocity used by players.
@@ -0,0 +1,173 @@
+package com.tron_master.tron.model.logic_strategy;
+
+import java.util.function.Consumer;
+
+import com.tron_master.tron.constant.GameConstant;
+import com.tron_master.tron.model.data.MatchContext;
+import com.tron_master.tron.model.object.Player;
+
+/**
+ * Headless driver that advances a {@link GameLogic} strategy tick by tick
+ * without the JavaFX toolkit, a game loop timer or audio.
+ * Used for AI tuning, batch simulations and display-less regression tests.
+ *
+ * <p>Human players are not steered unless a human driver is set; without one
+ * they keep their current heading.</p>
+ *
+ * <p>Matches created by the factories are reproducible (see {@link MatchContext#isReproducible}):
+ * their AIs search a fixed number of iterations, so a run depends on its seed, not on the
+ * machine. A wrapped strategy keeps its context as it is.</p>
+ */
+public class SimulationEngine {
+
+    private final GameLogic logic;
+    private final Runnable stopCallback = () -> stopped = true;
+    private Consumer<Player> humanDriver;
+    private boolean stopped = false;
+    private long ticks = 0;
+
+    /**
+     * Wrap an existing strategy, leaving its match context as it is.
+     * @param logic strategy to advance
+     */
+    public SimulationEngine(GameLogic logic) {
+        this.logic = logic;
+    }
+
+    /**
+     * Create an engine running a story level on the standard arena, with its own match context.
+     * @param players number of players (one human, the rest AI)
+     * @return new engine
+     */
+    public static SimulationEngine story(int players) {
+        return story(players, new MatchContext());
+    }
+
+    /**
+     * Create an engine running a story level on the standard arena.
+     * @param players number of players (one human, the rest AI)
+     * @param context context of the match
+     * @return new engine
+     */
+    public static SimulationEngine story(int players, MatchContext context) {
+        return new SimulationEngine(new StoryLogicStrategy(players,
+                GameConstant.GAME_AREA_WIDTH, GameConstant.GAME_AREA_HEIGHT, headless(context)));
+    }
+
+    /**
+     * Create an engine running a survival match on the standard arena, with its own match context.
+     * @return new engine
+     */
+    public static SimulationEngine survival() {
+        return survival(new MatchContext());
+    }
+
+    /**
+     * Create an engine running a survival match on the standard arena.
+     * @param context context of the match
+     * @return new engine
+     */
+    public static SimulationEngine survival(MatchContext context) {
+        return new SimulationEngine(new SurvLogicStrategy(
+                GameConstant.GAME_AREA_WIDTH, GameConstant.GAME_AREA_HEIGHT, headless(context)));
+    }
+
+    /**
+     * Create an engine running a two-player match on the standard arena, with its own match context.
+     * @return new engine
+     */
+    public static SimulationEngine twoPlayer() {
+        return twoPlayer(new MatchContext());
+    }
+
+    /**
+     * Create an engine running a two-player match on the standard arena.
+     * @param context context of the match
+     * @return new engine
+     */
+    public static SimulationEngine twoPlayer(MatchContext context) {
+        return new SimulationEngine(new TwoPlayerLogicStrategy(
+                GameConstant.GAME_AREA_WIDTH, GameConstant.GAME_AREA_HEIGHT, headless(context)));
+    }
+
+    /** Mark a context reproducible before the strategy creates its players. */
+    private static MatchContext headless(MatchContext context) {
+        context.setReproducible(true);
+        return context;
+    }
+
+    /**
+     * Set a callback that steers human players before every tick
+     * (e.g. a scripted or AI-like controller).
+     * @param humanDriver callback invoked for each alive human player, or null
+     */
+    public void setHumanDriver(Consumer<Player> humanDriver) {
+        this.humanDriver = humanDriver;
+    }
+
+    /**
+     * Advance the match by one tick.
+     * @return true if the match is still running afterwards
+     */
+    public boolean step() {
+        if (stopped) {
+            return false;
+        }
+        if (humanDriver != null) {
+            for (Player p : logic.players) {
+                if (p != null && p.getAlive() && p.isHuman()) {
+                    humanDriver.accept(p);
+                }
+            }
+        }
+        logic.tick(stopCallback);
+        ticks++;
+        return !stopped;
+    }
+
+    /**
+     * Advance until the match stops or the tick limit is reached.
+     * @param maxTicks maximum number of ticks to run
+     * @return number of ticks run by this call
+     */
+    public long run(long maxTicks) {
+        long start = ticks;
+        while (ticks - start < maxTicks && step()) {
+            // keep ticking
+        }
+        return ticks - start;
+    }
+
+    /** Reset the strategy and the tick counter for a fresh match. */
+    public void reset() {
+        logic.reset();
+        stopped = false;
+        ticks = 0;
+    }
+
+    /**
+     * Check whether the strategy has signalled the end of the match.
+     * @return true once stopped
+     */
+    public boolean isStopped() { return stopped; }
+    /**
+     * Get ticks run since creation or the last reset.
+     * @return tick count
+     */
+    public long getTicks() { return ticks; }
+    /**
+     * Get the strategy being advanced.
+     * @return wrapped strategy
+     */
+    public GameLogic getLogic() { return logic; }
+    /**
+     * Get the context the match writes its scores and states to.
+     * @return match data
+     */
+    public MatchContext getContext() { return logic.context; }
+    /**
+     * Get the players of the current match.
+     * @return players
+     */
+    public Player[] getPlayers() { return logic.players; }
+}
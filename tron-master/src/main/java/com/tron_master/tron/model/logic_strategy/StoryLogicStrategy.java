@@ -1,7 +1,13 @@
 package com.tron_master.tron.model.logic_strategy;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import com.tron_master.tron.controller.WallLayoutController;
+import com.tron_master.tron.model.ai.SearchPolicy;
+import com.tron_master.tron.model.collision.WallIndex;
 import com.tron_master.tron.model.data.GameData;
+import com.tron_master.tron.model.data.MatchContext;
 import com.tron_master.tron.model.data.GameState;
 import com.tron_master.tron.model.object.GameObjectFactory;
 import com.tron_master.tron.model.object.Player;
@@ -9,21 +15,22 @@ import com.tron_master.tron.model.object.PlayerAI;
 import com.tron_master.tron.model.object.PlayerHuman;
 import com.tron_master.tron.model.object.Portal;
 import com.tron_master.tron.model.object.Wall;
-import com.tron_master.tron.model.sound.SoundManager;
 
 /**
  * Game logic strategy for Story mode.
  * Handles player initialization, level progression, score calculation, and game state transitions for Story mode.
  */
 public class StoryLogicStrategy extends GameLogic {
-    /** Reference to game data singleton. */
-    private final GameData gameData;
     /** Walls in the game area. */
     private Wall[] walls;
     /** Portals in the game area (entrance-exit pairs). */
     private Portal[] portals;
+    /** Entrances that already teleported a player this tick. */
+    private final Set<Portal> usedPortals = new HashSet<>();
     /** Minimum safe distance from walls for player spawn. */
     private static final int SAFE_DISTANCE = 60;
+    /** First level whose AI opponents plan with a tree search instead of the heuristic. */
+    private static final int SEARCH_POLICY_LEVEL = 4;
 
     /**
      * Constructs a StoryLogicStrategy for Story mode.
@@ -33,8 +40,18 @@ public class StoryLogicStrategy extends GameLogic {
      * @param gameHeight playfield height
      */
     public StoryLogicStrategy(int p, int gameWidth, int gameHeight) {
-        super(p, gameWidth, gameHeight);
-        gameData = GameData.getInstance();
+        this(p, gameWidth, gameHeight, GameData.getInstance().getMatchContext());
+    }
+
+    /**
+     * Constructs a StoryLogicStrategy that keeps its state in the given match context.
+     * @param p Number of players
+     * @param gameWidth playfield width
+     * @param gameHeight playfield height
+     * @param context context of this match
+     */
+    public StoryLogicStrategy(int p, int gameWidth, int gameHeight, MatchContext context) {
+        super(p, gameWidth, gameHeight, context);
         initializeWalls();    // Walls first, so players can avoid them
         initializePortals();  // Initialize portals for teleportation
         initializePlayers();  // Initialize players on construction
@@ -46,6 +63,7 @@ public class StoryLogicStrategy extends GameLogic {
      */
     private void initializeWalls() {
         walls = WallLayoutController.loadStoryWalls();
+        wallIndex = new WallIndex<>(walls);
     }
 
     /**
@@ -55,6 +73,7 @@ public class StoryLogicStrategy extends GameLogic {
      */
     private void initializePortals() {
         portals = WallLayoutController.loadStoryPortals();
+        portalIndex = new WallIndex<>(portals);
     }
 
     /**
@@ -64,15 +83,18 @@ public class StoryLogicStrategy extends GameLogic {
      */
     private void initializePlayers() {
         int[] start = getSafeRandomStart();
-        player = (PlayerHuman) GameObjectFactory.createHumanPlayer(start[0], start[1], start[2], start[3], colors[0], "story");
+        player = (PlayerHuman) GameObjectFactory.createHumanPlayer(start[0], start[1], start[2], start[3], colors[0], "story", context);
         players[0] = player;
 
         for (int i = 1; i < players.length; i++) {
             start = getSafeRandomStart();
-            players[i] = GameObjectFactory.createAIPlayer(start[0], start[1], start[2], start[3], colors[i % colors.length], "story");
-            // Pass walls to AI players so they can detect and avoid them
-            if (players[i] instanceof PlayerAI aiPlayer) {
-                aiPlayer.setWalls(walls);
+            players[i] = GameObjectFactory.createAIPlayer(start[0], start[1], start[2], start[3], colors[i % colors.length], "story", context);
+            // the arena field hands the wall edges to AI players on the first tick
+            if (players[i] instanceof PlayerAI aiPlayer
+                    && context.getStoryLevel() >= SEARCH_POLICY_LEVEL) {
+                aiPlayer.setPolicy(context.isReproducible()
+                        ? SearchPolicy.withIterations(SearchPolicy.DEFAULT_ITERATIONS)
+                        : new SearchPolicy());
             }
         }
         for (Player p: players) {
@@ -98,7 +120,6 @@ public class StoryLogicStrategy extends GameLogic {
         
         // If still not safe after max attempts, use a known safe position
         if (attempts >= maxAttempts) {
-            System.out.println("Warning: Could not find safe spawn position, using fallback");
             start[0] = 280; // Center X
             start[1] = 250; // Center Y
         }
@@ -124,7 +145,7 @@ public class StoryLogicStrategy extends GameLogic {
         if (!player.getAlive()) {
             stopCallback.run();
             isGameRunning = false;
-            gameData.setStoryState(addScore());
+            context.setStoryState(addScore());
         } else {
             int check = 0;
             for (Player k: players) {
@@ -135,35 +156,36 @@ public class StoryLogicStrategy extends GameLogic {
             if (check == players.length - 1) {
                 isGameRunning = false;
                 stopCallback.run();
-                gameData.setStoryState(addScore());
+                context.setStoryState(addScore());
             } else {
                 isGameRunning = true;
-                gameData.setStoryState(GameState.PLAYING);
+                context.setStoryState(GameState.PLAYING);
             }
         }
     }
     
     /**
      * Checks if any player (human or AI) collides with any portal entrance and teleports them.
-     * All players can use portals in story mode.
+     * All players can use portals in story mode; each entrance teleports at most one
+     * player per tick (the first in player order).
      */
     private void checkPortalCollisions() {
         if (portals == null || players == null) {
             return;
         }
-        for (Portal portal : portals) {
-            if (portal != null && portal.isEntrance()) {
-                // Check all players for portal collision
-                for (Player p : players) {
-                    if (p != null && p.getAlive() && portal.handleCollision(p)) {
-                        SoundManager.getInstance().playSoundEffect("teleport");
-                        // Grant bonus boost on teleport (only for human player)
-                        if (p.isHuman()) {
-                            p.addBoost(1); // Adds to both player's count and GameData
-                        }
-                        System.out.println("Player teleported!");
-                        break; // Only one teleport per portal per tick
-                    }
+        usedPortals.clear();
+        for (Player p : players) {
+            if (p == null || !p.getAlive()) {
+                continue;
+            }
+            // At most one teleport per player and per portal each tick
+            Portal portal = portalIndex.find(p, candidate -> candidate.isEntrance()
+                    && !usedPortals.contains(candidate) && candidate.collidesWithPlayer(p));
+            if (portal != null && portal.handleCollision(p)) {
+                usedPortals.add(portal);
+                // Grant bonus boost on teleport (only for human player)
+                if (p.isHuman()) {
+                    p.addBoost(1); // Adds to both player's count and the match context
                 }
             }
         }
@@ -176,11 +198,9 @@ public class StoryLogicStrategy extends GameLogic {
         if (walls == null) {
             return;
         }
-        for (Wall wall : walls) {
-            for (Player p : players) {
-                if (p != null && p.getAlive() && wall.collidesWithPlayer(p)) {
-                    p.setAlive(false);
-                }
+        for (Player p : players) {
+            if (p != null && wallIndex.collides(p)) {
+                p.setAlive(false);
             }
         }
     }
@@ -191,11 +211,11 @@ public class StoryLogicStrategy extends GameLogic {
      */
     @Override
     public void reset() {
-        gameData.setStoryLevel(1);
+        context.setStoryLevel(1);
         scores = 0;
-        gameData.setStoryState(GameState.PLAYING);
+        context.setStoryState(GameState.PLAYING);
         isGameRunning = true;
-        gameData.resetStoryData();
+        context.resetStoryData();
         initializeWalls();    // Reload walls
         initializePortals();  // Reload portals
         initializePlayers();
@@ -209,10 +229,10 @@ public class StoryLogicStrategy extends GameLogic {
     public GameState addScore() {
         if (player.getAlive()) {
             scores += 50 * (players.length - 1);
-            gameData.setStoryScore(scores);
+            context.setStoryScore(scores);
             // Check if current level is the final level (level 7)
             // Victory when completing level 7, otherwise level complete
-            if (gameData.getStoryLevel() >= 7) {
+            if (context.getStoryLevel() >= 7) {
                 return GameState.VICTORY;
             } else {
                 return GameState.LEVEL_COMPLETE;
@@ -227,17 +247,17 @@ public class StoryLogicStrategy extends GameLogic {
      * @return true if next level exists, false if finished
      */
     public boolean nextLevel() {
-        int level = gameData.getStoryLevel();
-        int currentScore = gameData.getStoryScore();
+        int level = context.getStoryLevel();
+        int currentScore = context.getStoryScore();
         if (level == 7) {
-            gameData.setStoryState(GameState.VICTORY);
+            context.setStoryState(GameState.VICTORY);
             return false;
         }
         int newLevel = level + 1;
         int newPlayerCount = newLevel + 1;
-        gameData.setStoryLevel(newLevel);
-        gameData.setStoryScore(currentScore);
-        gameData.setStoryState(GameState.PLAYING);
+        context.setStoryLevel(newLevel);
+        context.setStoryScore(currentScore);
+        context.setStoryState(GameState.PLAYING);
         players = new Player[newPlayerCount];
         initializePlayers();
         return true;
@@ -266,43 +286,54 @@ public class StoryLogicStrategy extends GameLogic {
      * Returns the current story mode score.
      * @return Score value
      */
-    public int getStoryScore() { return gameData.getStoryScore(); }
+    public int getStoryScore() { return context.getStoryScore(); }
 
     /**
      * Returns the current story mode level.
      * @return Level value
      */
-    public int getStoryLevel() { return gameData.getStoryLevel(); }
+    public int getStoryLevel() { return context.getStoryLevel(); }
 
     /**
      * Returns the current boost count.
      * @return Boost count
      */
-    public int getBoostCount() { return gameData.getStoryBoost(); }
+    public int getBoostCount() { return context.getStoryBoost(); }
 
     /**
      * Set current boost count for story mode.
      * @param boostCount boosts remaining
      */
-    public void setBoostCount(int boostCount) { gameData.setStoryBoost(boostCount); }
+    public void setBoostCount(int boostCount) { context.setStoryBoost(boostCount); }
 
     /**
      * Returns the current story mode game state.
      * @return GameState
      */
-    public GameState getStoryState() { return gameData.getStoryState(); }
+    public GameState getStoryState() { return context.getStoryState(); }
 
     /**
      * Gets all walls in the game area.
      * @return Array of walls
      */
+    @Override
     public Wall[] getWalls() { return walls; }
 
     /**
      * Gets all portals in the game area.
      * @return Array of portals (entrances and exits)
      */
+    @Override
     public Portal[] getPortals() { return portals; }
+
+    @Override
+    int hudScore(int slot) { return slot == 0 ? getStoryScore() : 0; }
+
+    @Override
+    int hudBoost(int slot) { return slot == 0 ? getBoostCount() : 0; }
+
+    @Override
+    int hudLevel() { return getStoryLevel(); }
     
     /**
      * Returns the object count for the current level.
@@ -310,7 +341,7 @@ public class StoryLogicStrategy extends GameLogic {
      * @return Number of players for current level
      */
     public int getCurrentLevelPlayerCount() {
-        return gameData.getStoryLevel() + 1;
+        return context.getStoryLevel() + 1;
     }
     
     /**
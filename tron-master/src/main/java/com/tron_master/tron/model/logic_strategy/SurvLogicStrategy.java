@@ -1,16 +1,15 @@
 package com.tron_master.tron.model.logic_strategy;
 
-import java.util.Random;
-
 import com.tron_master.tron.constant.GameConstant;
 import com.tron_master.tron.controller.WallLayoutController;
+import com.tron_master.tron.model.collision.WallIndex;
 import com.tron_master.tron.model.data.GameData;
+import com.tron_master.tron.model.data.MatchContext;
 import com.tron_master.tron.model.data.GameState;
 import com.tron_master.tron.model.object.GameObjectFactory;
 import com.tron_master.tron.model.object.PlayerHuman;
 import com.tron_master.tron.model.object.Portal;
 import com.tron_master.tron.model.object.Wall;
-import com.tron_master.tron.model.sound.SoundManager;
 
 /**
  * Game logic strategy for Survival mode.
@@ -19,14 +18,10 @@ import com.tron_master.tron.model.sound.SoundManager;
  * Portals allow the player to teleport across the game area.
  */
 public class SurvLogicStrategy extends GameLogic {
-    /** Reference to shared game data. */
-    private final GameData gameData;
     /** Walls in the game area (loaded from FXML with random gaps). */
     private Wall[] walls;
     /** Portals in the game area (entrance-exit pairs). */
     private Portal[] portals;
-    /** Random generator for spawn position. */
-    private final Random spawnRandom = new Random();
     /** Record how many times player teleported. */
     private int portalRecord = 0;
     
@@ -55,23 +50,33 @@ public class SurvLogicStrategy extends GameLogic {
      * @param gameHeight playfield height
      */
     public SurvLogicStrategy(int gameWidth, int gameHeight) {
-        super(1, gameWidth, gameHeight);
-        gameData = GameData.getInstance();
+        this(gameWidth, gameHeight, GameData.getInstance().getMatchContext());
+    }
+
+    /**
+     * Constructs a Survival mode logic strategy that keeps its state in the given match context.
+     * @param gameWidth playfield width
+     * @param gameHeight playfield height
+     * @param context context of this match
+     */
+    public SurvLogicStrategy(int gameWidth, int gameHeight, MatchContext context) {
+        super(1, gameWidth, gameHeight, context);
         initializeWalls();
         initializePortals();
         initializePlayer();
         scores = 0;
-        gameData.setSurvivalScore(scores);
-        gameData.setSurvivalState(GameState.PLAYING);
+        context.setSurvivalScore(scores);
+        context.setSurvivalState(GameState.PLAYING);
         isGameRunning = true;
-        gameData.resetSurvivalData();
+        context.resetSurvivalData();
     }
 
     /**
      * Initializes walls by loading from FXML with random gaps.
      */
     private void initializeWalls() {
-        walls = WallLayoutController.loadSurvivalWalls();
+        walls = WallLayoutController.loadSurvivalWalls(rand);
+        wallIndex = new WallIndex<>(walls);
     }
 
     /**
@@ -79,6 +84,7 @@ public class SurvLogicStrategy extends GameLogic {
      */
     private void initializePortals() {
         portals = WallLayoutController.loadSurvivalPortals();
+        portalIndex = new WallIndex<>(portals);
     }
 
     /**
@@ -87,7 +93,7 @@ public class SurvLogicStrategy extends GameLogic {
     private void initializePlayer() {
         int[] start = getSafeRandomStart();
         player = (PlayerHuman) GameObjectFactory.createHumanPlayer(
-            start[0], start[1], start[2], start[3], colors[0], "survival");
+            start[0], start[1], start[2], start[3], colors[0], "survival", context);
         players[0] = player;
         player.addPlayers(players);
     }
@@ -96,7 +102,7 @@ public class SurvLogicStrategy extends GameLogic {
      * Gets a random spawn position from one of the 4 corner positions.
      */
     private int[] getSafeRandomStart() {
-        int[] config = SPAWN_CONFIGS[spawnRandom.nextInt(SPAWN_CONFIGS.length)];
+        int[] config = SPAWN_CONFIGS[rand.nextInt(SPAWN_CONFIGS.length)];
         return new int[]{
             CENTER_X + config[0],
             CENTER_Y + config[1],
@@ -110,11 +116,8 @@ public class SurvLogicStrategy extends GameLogic {
      */
     private void checkWallCollisions() {
         if (walls == null || player == null) return;
-        for (Wall wall : walls) {
-            if (wall != null && wall.collidesWithPlayer(player)) {
-                player.setAlive(false);
-                return;
-            }
+        if (wallIndex.collides(player)) {
+            player.setAlive(false);
         }
     }
 
@@ -124,16 +127,13 @@ public class SurvLogicStrategy extends GameLogic {
      */
     private void checkPortalCollisions() {
         if (portals == null || player == null || !player.getAlive()) return;
-        for (Portal portal : portals) {
-            if (portal != null && portal.isEntrance() && portal.handleCollision(player)) {
-                // Play teleport sound effect
-                SoundManager.getInstance().playSoundEffect("teleport");
-                portalRecord++;
-                scores += 50*portalRecord;
-                // Reload walls with new random gaps on successful teleport
-                initializeWalls();
-                break; // Only one teleport per tick
-            }
+        // Only one teleport per tick
+        Portal portal = portalIndex.find(player, p -> p.isEntrance() && p.collidesWithPlayer(player));
+        if (portal != null && portal.handleCollision(player)) {
+            portalRecord++;
+            scores += 50*portalRecord;
+            // Reload walls with new random gaps on successful teleport
+            initializeWalls();
         }
     }
 
@@ -144,13 +144,13 @@ public class SurvLogicStrategy extends GameLogic {
         checkWallCollisions();
         if (player.getAlive()) {
             scores++;
-            gameData.setSurvivalScore(scores);
+            context.setSurvivalScore(scores);
             isGameRunning = true;
-            gameData.setSurvivalState(GameState.PLAYING);
+            context.setSurvivalState(GameState.PLAYING);
         } else {
             stopCallback.run();
             isGameRunning = false;
-            gameData.setSurvivalState(addScore());
+            context.setSurvivalState(addScore());
         }
     }
 
@@ -158,10 +158,10 @@ public class SurvLogicStrategy extends GameLogic {
     public void reset() {
         scores = 0;
         portalRecord = 0;
-        gameData.setSurvivalScore(scores);
-        gameData.setSurvivalState(GameState.PLAYING);
+        context.setSurvivalScore(scores);
+        context.setSurvivalState(GameState.PLAYING);
         isGameRunning = true;
-        gameData.resetSurvivalData();
+        context.resetSurvivalData();
         initializeWalls();
         initializePortals();
         initializePlayer();
@@ -169,7 +169,7 @@ public class SurvLogicStrategy extends GameLogic {
 
     @Override
     public GameState addScore() {
-        gameData.setSurvivalScore(scores);
+        context.setSurvivalScore(scores);
         return GameState.GAME_OVER;
     }
 
@@ -182,7 +182,7 @@ public class SurvLogicStrategy extends GameLogic {
      * Get current survival score.
      * @return current survival score
      */
-    public int getScore() { return gameData.getSurvivalScore(); }
+    public int getScore() { return context.getSurvivalScore(); }
     /**
      * Check whether survival logic is running.
      * @return whether survival logic is running
@@ -192,20 +192,28 @@ public class SurvLogicStrategy extends GameLogic {
      * Get remaining boosts.
      * @return remaining boosts
      */
-    public int getBoostCount() { return gameData.getSurvivalBoost(); }
+    public int getBoostCount() { return context.getSurvivalBoost(); }
     /**
      * Get survival state.
      * @return survival state
      */
-    public GameState getSurvivalState() { return gameData.getSurvivalState(); }
+    public GameState getSurvivalState() { return context.getSurvivalState(); }
     /**
      * Get walls for rendering.
      * @return walls for rendering
      */
+    @Override
     public Wall[] getWalls() { return walls; }
     /**
      * Get portals for rendering.
      * @return portals for rendering
      */
+    @Override
     public Portal[] getPortals() { return portals; }
+
+    @Override
+    int hudScore(int slot) { return slot == 0 ? getScore() : 0; }
+
+    @Override
+    int hudBoost(int slot) { return slot == 0 ? getBoostCount() : 0; }
 }
@@ -1,7 +1,9 @@
 package com.tron_master.tron.model.logic_strategy;
 
 import com.tron_master.tron.controller.WallLayoutController;
+import com.tron_master.tron.model.collision.WallIndex;
 import com.tron_master.tron.model.data.GameData;
+import com.tron_master.tron.model.data.MatchContext;
 import com.tron_master.tron.model.data.GameState;
 import com.tron_master.tron.model.data.TwoPlayerOutcome;
 import com.tron_master.tron.model.object.GameObjectFactory;
@@ -14,8 +16,6 @@ import com.tron_master.tron.model.object.Wall;
  * Manages two human players, per-player scoring, boost counts, walls, and state transitions for head-to-head play.
  */
 public class TwoPlayerLogicStrategy extends GameLogic {
-    /** Reference to shared game data. */
-    private final GameData gameData;
     /** First human player (player slot 1). */
     private PlayerHuman player1;
     /** Second human player (player slot 2). */
@@ -32,12 +32,21 @@ public class TwoPlayerLogicStrategy extends GameLogic {
      * @param gameHeight playfield height
      */
     public TwoPlayerLogicStrategy(int gameWidth, int gameHeight) {
-        super(2, gameWidth, gameHeight); // Two human players
+        this(gameWidth, gameHeight, GameData.getInstance().getMatchContext());
+    }
+
+    /**
+     * Constructs the two-player logic strategy that keeps its state in the given match context.
+     * @param gameWidth playfield width
+     * @param gameHeight playfield height
+     * @param context context of this match
+     */
+    public TwoPlayerLogicStrategy(int gameWidth, int gameHeight, MatchContext context) {
+        super(2, gameWidth, gameHeight, context); // Two human players
         VELOCITY = TWO_PLAYER_VELOCITY;  // Override parent's velocity for slower movement
-        gameData = GameData.getInstance();
         // Initialize data directly instead of calling overridable reset() from constructor
-        gameData.resetTwoPlayerData();
-        gameData.resetTwoPlayerScore();
+        context.resetTwoPlayerData();
+        context.resetTwoPlayerScore();
         isGameRunning = true; // use inherited field from GameLogic
         initializeWalls();    // Walls first, so players can avoid them
         initializePlayers();
@@ -54,8 +63,8 @@ public class TwoPlayerLogicStrategy extends GameLogic {
         // Player 2: Bottom area (between corner walls), moving up  
         int[] start2 = {280, 450, 0, -TWO_PLAYER_VELOCITY};
         
-        player1 = (PlayerHuman) GameObjectFactory.createHumanPlayer(start1[0], start1[1], start1[2], start1[3], colors[0], "twoPlayer");
-        player2 = (PlayerHuman) GameObjectFactory.createHumanPlayer(start2[0], start2[1], start2[2], start2[3], colors[1], "twoPlayer");
+        player1 = (PlayerHuman) GameObjectFactory.createHumanPlayer(start1[0], start1[1], start1[2], start1[3], colors[0], "twoPlayer", context);
+        player2 = (PlayerHuman) GameObjectFactory.createHumanPlayer(start2[0], start2[1], start2[2], start2[3], colors[1], "twoPlayer", context);
         player1.setPlayerSlot(1);
         player2.setPlayerSlot(2);
         players[0] = player1;
@@ -71,6 +80,7 @@ public class TwoPlayerLogicStrategy extends GameLogic {
      */
     private void initializeWalls() {
         walls = WallLayoutController.loadTwoPlayerWalls();
+        wallIndex = new WallIndex<>(walls);
     }
 
     /**
@@ -90,12 +100,12 @@ public class TwoPlayerLogicStrategy extends GameLogic {
         if (!p1Alive || !p2Alive) {
             stopCallback.run();
             isGameRunning = false;
-            gameData.setTwoPlayerState(GameState.GAME_OVER);
-            gameData.setTwoPlayerOutcome(determineOutcome(p1Alive, p2Alive));
+            context.setTwoPlayerState(GameState.GAME_OVER);
+            context.setTwoPlayerOutcome(determineOutcome(p1Alive, p2Alive));
         } else {
             isGameRunning = true;
-            gameData.setTwoPlayerState(GameState.PLAYING);
-            gameData.setTwoPlayerOutcome(TwoPlayerOutcome.TIE);
+            context.setTwoPlayerState(GameState.PLAYING);
+            context.setTwoPlayerOutcome(TwoPlayerOutcome.TIE);
         }
     }
 
@@ -107,10 +117,10 @@ public class TwoPlayerLogicStrategy extends GameLogic {
      */
     private TwoPlayerOutcome determineOutcome(boolean p1Alive, boolean p2Alive) {
         if (p1Alive && !p2Alive) {
-            gameData.setTwoPlayerP1Score(gameData.getTwoPlayerP1Score() + 1);
+            context.setTwoPlayerP1Score(context.getTwoPlayerP1Score() + 1);
             return TwoPlayerOutcome.P1_WIN;
         } else if (!p1Alive && p2Alive) {
-            gameData.setTwoPlayerP2Score(gameData.getTwoPlayerP2Score() + 1);
+            context.setTwoPlayerP2Score(context.getTwoPlayerP2Score() + 1);
             return TwoPlayerOutcome.P2_WIN;
         }
         return TwoPlayerOutcome.TIE;
@@ -123,13 +133,11 @@ public class TwoPlayerLogicStrategy extends GameLogic {
         if (walls == null) {
             return;
         }
-        for (Wall wall : walls) {
-            if (wall.collidesWithPlayer(player1)) {
-                player1.setAlive(false);
-            }
-            if (wall.collidesWithPlayer(player2)) {
-                player2.setAlive(false);
-            }
+        if (wallIndex.collides(player1)) {
+            player1.setAlive(false);
+        }
+        if (wallIndex.collides(player2)) {
+            player2.setAlive(false);
         }
     }
 
@@ -138,7 +146,7 @@ public class TwoPlayerLogicStrategy extends GameLogic {
      */
     @Override
     public void reset() {
-        gameData.resetTwoPlayerData();
+        context.resetTwoPlayerData();
         isGameRunning = true;
         initializeWalls();    // Walls first, so players can avoid them
         initializePlayers();
@@ -172,31 +180,50 @@ public class TwoPlayerLogicStrategy extends GameLogic {
      * Get player1 score.
      * @return player1 score
      */
-    public int getP1Score() { return gameData.getTwoPlayerP1Score(); }
+    public int getP1Score() { return context.getTwoPlayerP1Score(); }
     /**
      * Get player2 score.
      * @return player2 score
      */
-    public int getP2Score() { return gameData.getTwoPlayerP2Score(); }
+    public int getP2Score() { return context.getTwoPlayerP2Score(); }
     /**
      * Get player1 remaining boosts.
      * @return player1 remaining boosts
      */
-    public int getP1BoostCount() { return gameData.getPlayer1Boost(); }
+    public int getP1BoostCount() { return context.getPlayer1Boost(); }
     /**
      * Get player2 remaining boosts.
      * @return player2 remaining boosts
      */
-    public int getP2BoostCount() { return gameData.getPlayer2Boost(); }
+    public int getP2BoostCount() { return context.getPlayer2Boost(); }
     /**
      * Get current two-player state.
      * @return current two-player state
      */
-    public GameState getTwoPlayerState() { return gameData.getTwoPlayerState(); }
+    public GameState getTwoPlayerState() { return context.getTwoPlayerState(); }
     
     /**
      * Gets all walls in the game area.
      * @return Array of walls
      */
+    @Override
     public Wall[] getWalls() { return walls; }
+
+    @Override
+    int hudScore(int slot) {
+        return switch (slot) {
+            case 0 -> getP1Score();
+            case 1 -> getP2Score();
+            default -> 0;
+        };
+    }
+
+    @Override
+    int hudBoost(int slot) {
+        return switch (slot) {
+            case 0 -> getP1BoostCount();
+            case 1 -> getP2BoostCount();
+            default -> 0;
+        };
+    }
 }
@@ -0,0 +1,472 @@
+package com.tron_master.tron.model.logic_strategy;
+
+import java.util.Arrays;
+
+import com.tron_master.tron.model.data.ColorValue;
+import com.tron_master.tron.model.data.TrailBuffer;
+import com.tron_master.tron.model.object.Player;
+import com.tron_master.tron.model.object.PlayerStateListener;
+import com.tron_master.tron.model.object.Portal;
+import com.tron_master.tron.model.object.Wall;
+
+/**
+ * Compact picture of a match taken after a logic tick: heads, alive flags, HUD
+ * values, the player events of the tick and the trail segments that changed
+ * since the previous snapshot. Renderers, the HUD and sound read only snapshots,
+ * never the live players, so the simulation can keep running on another thread.
+ *
+ * <p>Snapshots are buffers: a {@link Recorder} fills one, it is handed over, and
+ * once the reader has moved on to a newer one it is filled again. A snapshot must
+ * not be changed while a reader holds it. Trails are sent as deltas; a reader keeps
+ * its own copy of each trail and brings it up to date with {@link #applyTrail}.</p>
+ */
+public final class WorldSnapshot {
+
+    /** Event flag: the player crashed. */
+    public static final int DIED = 1;
+    /** Event flag: the player started a boost. */
+    public static final int BOOSTED = 1 << 1;
+    /** Event flag: the player jumped. */
+    public static final int JUMPED = 1 << 2;
+    /** Event flag: the player went through a portal. */
+    public static final int TELEPORTED = 1 << 3;
+
+    private long tick;
+    private long createdNanos;
+    private int playerCount;
+    private int[] x = new int[0];
+    private int[] y = new int[0];
+    private int[] lastX = new int[0];
+    private int[] lastY = new int[0];
+    private boolean[] jumped = new boolean[0];
+    private boolean[] alive = new boolean[0];
+    private ColorValue[] color = new ColorValue[0];
+    private int[] score = new int[0];
+    private int[] boost = new int[0];
+    private int[] events = new int[0];
+
+    private boolean[] trailReset = new boolean[0];
+    private int[] trailFrom = new int[0];
+    private int[] trailSize = new int[0];
+    /** Offset of each player's delta in {@link #segments}, in ints. */
+    private int[] trailOffset = new int[0];
+    /** Changed segments of all players as consecutive (x1, y1, x2, y2) quadruples. */
+    private int[] segments = new int[64];
+
+    private Wall[] walls = new Wall[0];
+    private Portal[] portals = new Portal[0];
+    private boolean layoutChanged;
+    private int level;
+    private boolean running;
+
+    /** Create an empty snapshot buffer. */
+    public WorldSnapshot() {
+        // filled by a Recorder or by of()
+    }
+
+    /**
+     * Take a self-contained snapshot with full trails and no events, e.g. for a
+     * still frame before the simulation starts.
+     * @param players players to copy (null entries are kept as absent slots)
+     * @param walls walls of the layout (may be null)
+     * @param portals portals of the layout (may be null)
+     * @return new snapshot
+     */
+    public static WorldSnapshot of(Player[] players, Wall[] walls, Portal[] portals) {
+        WorldSnapshot snapshot = new WorldSnapshot();
+        new Recorder(false).record(players, walls, portals, snapshot, null);
+        return snapshot;
+    }
+
+    // ==================== Reading ====================
+
+    /**
+     * Get the number of the tick this snapshot was taken after (counted per recorder).
+     * @return tick number
+     */
+    public long tick() { return tick; }
+    /**
+     * Get {@link System#nanoTime()} when the snapshot was taken.
+     * @return creation time
+     */
+    public long createdNanos() { return createdNanos; }
+    /**
+     * Get the number of player slots.
+     * @return player count
+     */
+    public int playerCount() { return playerCount; }
+    /**
+     * Check whether a player slot holds a player.
+     * @param i player index
+     * @return true if present
+     */
+    public boolean present(int i) { return color[i] != null; }
+    /**
+     * Get head x.
+     * @param i player index
+     * @return head x
+     */
+    public int x(int i) { return x[i]; }
+    /**
+     * Get head y.
+     * @param i player index
+     * @return head y
+     */
+    public int y(int i) { return y[i]; }
+    /**
+     * Get head x before the latest move.
+     * @param i player index
+     * @return previous head x
+     */
+    public int lastX(int i) { return lastX[i]; }
+    /**
+     * Get head y before the latest move.
+     * @param i player index
+     * @return previous head y
+     */
+    public int lastY(int i) { return lastY[i]; }
+    /**
+     * Check whether the latest move was a jump.
+     * @param i player index
+     * @return true after a jump
+     */
+    public boolean jumped(int i) { return jumped[i]; }
+    /**
+     * Check whether the player is alive.
+     * @param i player index
+     * @return true if alive
+     */
+    public boolean alive(int i) { return alive[i]; }
+    /**
+     * Get player color.
+     * @param i player index
+     * @return color, or null for an absent slot
+     */
+    public ColorValue color(int i) { return color[i]; }
+    /**
+     * Get the score shown for a player.
+     * @param i player index
+     * @return score
+     */
+    public int score(int i) { return score[i]; }
+    /**
+     * Get the boosts shown for a player.
+     * @param i player index
+     * @return remaining boosts
+     */
+    public int boost(int i) { return boost[i]; }
+    /**
+     * Get the events of a player since the previous snapshot the reader took.
+     * @param i player index
+     * @return bit set of {@link #DIED}, {@link #BOOSTED}, {@link #JUMPED}, {@link #TELEPORTED}
+     */
+    public int events(int i) { return events[i]; }
+    /**
+     * Check whether a player had a given event.
+     * @param i player index
+     * @param event event flag
+     * @return true if the event occurred
+     */
+    public boolean hasEvent(int i, int event) { return (events[i] & event) != 0; }
+    /**
+     * Check whether any player had a given event.
+     * @param event event flag
+     * @return true if the event occurred for at least one player
+     */
+    public boolean anyEvent(int event) {
+        for (int i = 0; i < playerCount; i++) {
+            if ((events[i] & event) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+    /**
+     * Get the current level (0 for modes without levels).
+     * @return level
+     */
+    public int level() { return level; }
+    /**
+     * Check whether the logic was still running after the tick.
+     * @return true while running
+     */
+    public boolean running() { return running; }
+    /**
+     * Get walls of the current layout.
+     * @return walls
+     */
+    public Wall[] walls() { return walls; }
+    /**
+     * Get portals of the current layout.
+     * @return portals
+     */
+    public Portal[] portals() { return portals; }
+    /**
+     * Check whether the walls or portals changed since the previous snapshot the reader took.
+     * @return true after a layout change
+     */
+    public boolean layoutChanged() { return layoutChanged; }
+
+    /**
+     * Check whether the reader's copy of a trail has to be cleared before applying the delta.
+     * @param i player index
+     * @return true if the trail was cleared or replaced
+     */
+    public boolean trailReset(int i) { return trailReset[i]; }
+    /**
+     * Get the index of the first segment in the delta.
+     * @param i player index
+     * @return first changed segment
+     */
+    public int trailFrom(int i) { return trailFrom[i]; }
+    /**
+     * Get the total number of segments in the trail.
+     * @param i player index
+     * @return segment count after the tick
+     */
+    public int trailSize(int i) { return trailSize[i]; }
+
+    /**
+     * Bring a reader-side copy of a player's trail up to date. Applying the same
+     * snapshot more than once has no further effect.
+     * @param i player index
+     * @param target reader's copy of the trail
+     */
+    public void applyTrail(int i, TrailBuffer target) {
+        if (trailReset[i]) {
+            target.clear();
+        }
+        int base = trailOffset[i];
+        for (int k = trailFrom[i]; k < trailSize[i]; k++, base += 4) {
+            if (k < target.size()) {
+                target.set(k, segments[base], segments[base + 1], segments[base + 2], segments[base + 3]);
+            } else {
+                target.add(segments[base], segments[base + 1], segments[base + 2], segments[base + 3]);
+            }
+        }
+    }
+
+    // ==================== Writing ====================
+
+    private void resize(int count) {
+        playerCount = count;
+        if (x.length >= count) {
+            return;
+        }
+        x = new int[count];
+        y = new int[count];
+        lastX = new int[count];
+        lastY = new int[count];
+        jumped = new boolean[count];
+        alive = new boolean[count];
+        color = new ColorValue[count];
+        score = new int[count];
+        boost = new int[count];
+        events = new int[count];
+        trailReset = new boolean[count];
+        trailFrom = new int[count];
+        trailSize = new int[count];
+        trailOffset = new int[count];
+    }
+
+    /**
+     * Set the HUD values of a player.
+     * @param i player index
+     * @param score score shown for the player
+     * @param boost boosts shown for the player
+     */
+    void setHud(int i, int score, int boost) {
+        this.score[i] = score;
+        this.boost[i] = boost;
+    }
+
+    /**
+     * Set the match-wide values.
+     * @param level current level
+     * @param running whether the logic is still running
+     */
+    void setMatch(int level, boolean running) {
+        this.level = level;
+        this.running = running;
+    }
+
+    /**
+     * Fills snapshots from live players and remembers what it has already sent,
+     * so each snapshot only carries the trail segments changed since the previous one.
+     * It also listens to the players and collects their events between snapshots.
+     * Must only be used by the thread that runs the ticks.
+     */
+    public static final class Recorder implements PlayerStateListener {
+        private final boolean collectEvents;
+        private Player[] tracked = new Player[0];
+        private int[] sentSize = new int[0];
+        private int[] sentGeneration = new int[0];
+        private int[] pendingEvents = new int[0];
+        private Wall[] sentWalls;
+        private Portal[] sentPortals;
+        private long tick;
+
+        /** Create a recorder that collects player events. */
+        public Recorder() {
+            this(true);
+        }
+
+        private Recorder(boolean collectEvents) {
+            this.collectEvents = collectEvents;
+        }
+
+        /**
+         * Fill a snapshot with the current state.
+         * @param players players of the match
+         * @param walls walls of the layout (may be null)
+         * @param portals portals of the layout (may be null)
+         * @param target buffer to fill
+         * @param carryOver a previously filled snapshot that no reader has taken, or null;
+         *                  its trail changes and events are folded into {@code target}
+         */
+        public void record(Player[] players, Wall[] walls, Portal[] portals,
+                           WorldSnapshot target, WorldSnapshot carryOver) {
+            boolean rosterChanged = track(players);
+            int count = players.length;
+            target.resize(count);
+            target.tick = ++tick;
+            target.createdNanos = System.nanoTime();
+
+            int used = 0;
+            for (int i = 0; i < count; i++) {
+                Player p = players[i];
+                int from;
+                boolean reset;
+                int size;
+                if (p == null) {
+                    target.x[i] = target.y[i] = target.lastX[i] = target.lastY[i] = 0;
+                    target.jumped[i] = target.alive[i] = false;
+                    target.color[i] = null;
+                    reset = true;
+                    from = 0;
+                    size = 0;
+                } else {
+                    target.x[i] = p.getX();
+                    target.y[i] = p.getY();
+                    target.lastX[i] = p.getLastX();
+                    target.lastY[i] = p.getLastY();
+                    target.jumped[i] = p.hasJustJumped();
+                    target.alive[i] = p.getAlive();
+                    target.color[i] = p.getColor();
+                    TrailBuffer path = p.getPath();
+                    size = path.size();
+                    reset = path.generation() != sentGeneration[i];
+                    // the last segment sent may have been extended since
+                    from = reset ? 0 : Math.min(Math.max(0, sentSize[i] - 1), size);
+                    sentGeneration[i] = path.generation();
+                    sentSize[i] = size;
+                }
+                int event = pendingEvents[i];
+                pendingEvents[i] = 0;
+                if (carryOver != null && !rosterChanged && i < carryOver.playerCount) {
+                    reset |= carryOver.trailReset[i];
+                    from = reset ? 0 : Math.min(from, carryOver.trailFrom[i]);
+                    event |= carryOver.events[i];
+                }
+                target.events[i] = event;
+                target.trailReset[i] = reset;
+                target.trailFrom[i] = from;
+                target.trailSize[i] = size;
+                target.trailOffset[i] = used;
+                if (size > from) {
+                    used = copySegments(p.getPath(), from, size, target, used);
+                }
+            }
+
+            walls = walls != null ? walls : new Wall[0];
+            portals = portals != null ? portals : new Portal[0];
+            target.layoutChanged = walls != sentWalls || portals != sentPortals
+                    || (carryOver != null && carryOver.layoutChanged);
+            target.walls = walls;
+            target.portals = portals;
+            sentWalls = walls;
+            sentPortals = portals;
+        }
+
+        private static int copySegments(TrailBuffer path, int from, int size, WorldSnapshot target, int used) {
+            int needed = used + 4 * (size - from);
+            if (target.segments.length < needed) {
+                target.segments = Arrays.copyOf(target.segments, Math.max(needed, 2 * target.segments.length));
+            }
+            int[] out = target.segments;
+            TrailBuffer.Cursor c = path.cursor().moveTo(from);
+            do {
+                out[used++] = c.getStartX();
+                out[used++] = c.getStartY();
+                out[used++] = c.getEndX();
+                out[used++] = c.getEndY();
+            } while (c.next());
+            return used;
+        }
+
+        /**
+         * Stop listening to the tracked players and forget what was sent, so the next
+         * snapshot is a full one. Call once no more snapshots are taken, from the thread
+         * that took them or after it has stopped.
+         */
+        public void detach() {
+            track(new Player[0]);
+        }
+
+        /** Follow a new roster: forget what was sent and move the event listener over. */
+        private boolean track(Player[] players) {
+            if (Arrays.equals(players, tracked, (a, b) -> a == b ? 0 : 1)) {
+                return false;
+            }
+            if (collectEvents) {
+                for (Player p : tracked) {
+                    if (p != null) {
+                        p.removeStateListener(this);
+                    }
+                }
+                for (Player p : players) {
+                    if (p != null) {
+                        p.addStateListener(this);
+                    }
+                }
+            }
+            tracked = players.clone();
+            sentSize = new int[players.length];
+            sentGeneration = new int[players.length];
+            Arrays.fill(sentGeneration, -1);
+            pendingEvents = new int[players.length];
+            sentWalls = null;
+            sentPortals = null;
+            return true;
+        }
+
+        private void addEvent(Player player, int event) {
+            for (int i = 0; i < tracked.length; i++) {
+                if (tracked[i] == player) {
+                    pendingEvents[i] |= event;
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void onPlayerDied(Player player) {
+            addEvent(player, DIED);
+        }
+
+        @Override
+        public void onPlayerBoosted(Player player, int boostLeft) {
+            addEvent(player, BOOSTED);
+        }
+
+        @Override
+        public void onPlayerJumped(Player player) {
+            addEvent(player, JUMPED);
+        }
+
+        @Override
+        public void onPlayerTeleported(Player player) {
+            addEvent(player, TELEPORTED);
+        }
+    }
+}
@@ -1,9 +1,6 @@
 package com.tron_master.tron.model.object;
 
-import java.util.ArrayList;
-
-import com.tron_master.tron.model.data.Intersection;
-import com.tron_master.tron.view.utils.Line;
+import com.tron_master.tron.model.data.TrailBuffer;
 
 /**
  * Base class for renderable/movable game entities.
@@ -129,45 +126,6 @@ public abstract class GameObject {
 			y = bottomBound;
 	}
 
-	/**
-	 * Compute whether an object intersects a shape.
-	 * 
-	 * @param other
-	 *            The other game object to test for intersection with.
-	 * @return NONE if the objects do not intersect, otherwise UP.
-	 * 
-	 */
-	public Intersection intersects(GameObject other) {
-		if (other != this) {
-			if (other.y - other.height/2 <= y + height/2 &&
-				other.y + other.height/2 >= y - height/2 &&
-				other.x - other.width/2 <= x + width/2 &&
-				other.x + other.width/2 >= x - width/2) {
-				return Intersection.UP;
-			}
-		}
-		ArrayList<Line> pa = other.getPath();
-		for (int i = 0; i < pa.size() - 1; i++) {
-			Line k = pa.get(i);
-			int x1 = k.getStartX();
-			int y1 = k.getStartY();
-			int x2 = k.getEndX();
-			int y2 = k.getEndY();
-
-			if (y1 == y2) {
-				if (Math.abs(y1 - y) <= height/2 && 
-					(x >= Math.min(x1, x2) && x <= Math.max(x1, x2))) {
-					return Intersection.UP;
-				}
-			} else if (x1 == x2) {
-				if (Math.abs(x1 - x) <= width/2 &&
-					(y >= Math.min(y1, y2) && y <= Math.max(y1, y2))) {					
-					return Intersection.UP;
-				}
-			}
-		}
-		return Intersection.NONE;
-	}
 	
 	// checks if an object has crossed the bounds of the screen
 	/**
@@ -187,5 +145,5 @@ public abstract class GameObject {
 	 * Get trail/path segments for collision checks.
 	 * @return list of path segments
 	 */
-	public abstract ArrayList<Line> getPath();
+	public abstract TrailBuffer getPath();
 }
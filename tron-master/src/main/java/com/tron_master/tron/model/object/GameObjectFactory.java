@@ -1,6 +1,8 @@
 package com.tron_master.tron.model.object;
 
 import com.tron_master.tron.model.data.ColorValue;
+import com.tron_master.tron.model.data.GameData;
+import com.tron_master.tron.model.data.MatchContext;
 
 /**
  * Factory class for creating GameObject instances (currently Player types).
@@ -42,13 +44,30 @@ public class GameObjectFactory {
      */
     public static GameObject createGameObject(GameObjectType type, int x, int y, int velocityX, int velocityY, 
                                               ColorValue color, String mode) {
+        return createGameObject(type, x, y, velocityX, velocityY, color, mode, GameData.getInstance().getMatchContext());
+    }
+
+    /**
+     * Create a concrete {@link GameObject} bound to a specific match's data.
+     * @param type      desired object type
+     * @param x         x coordinate
+     * @param y         y coordinate
+     * @param velocityX initial velocity X
+     * @param velocityY initial velocity Y
+     * @param color     color for player objects
+     * @param mode      game mode string
+     * @param context  data of the match the object belongs to
+     * @return new game object instance
+     */
+    public static GameObject createGameObject(GameObjectType type, int x, int y, int velocityX, int velocityY,
+                                              ColorValue color, String mode, MatchContext context) {
         if (type == null) {
             throw new IllegalArgumentException("GameObject type cannot be null");
         }
         
         return switch (type) {
-            case PLAYER_HUMAN -> new PlayerHuman(x, y, velocityX, velocityY, color, mode);
-            case PLAYER_AI -> new PlayerAI(x, y, velocityX, velocityY, color, mode);
+            case PLAYER_HUMAN -> new PlayerHuman(x, y, velocityX, velocityY, color, mode, context);
+            case PLAYER_AI -> new PlayerAI(x, y, velocityX, velocityY, color, mode, context);
             case WALL -> throw new IllegalArgumentException("Use createWall() for walls");
         };
     }
@@ -69,6 +88,23 @@ public class GameObjectFactory {
         return (Player) createGameObject(GameObjectType.PLAYER_HUMAN, x, y, velocityX, velocityY, color, mode);
     }
 
+    /**
+     * Convenience method to create a human object bound to a specific match's data.
+     * 
+     * @param x Initial x coordinate
+     * @param y Initial y coordinate
+     * @param velocityX Initial velocity in x direction
+     * @param velocityY Initial velocity in y direction
+     * @param color Player color
+     * @param mode Game mode
+     * @param context Data of the match the player belongs to
+     * @return A new PlayerHuman instance
+     */
+    public static Player createHumanPlayer(int x, int y, int velocityX, int velocityY,
+                                          ColorValue color, String mode, MatchContext context) {
+        return (Player) createGameObject(GameObjectType.PLAYER_HUMAN, x, y, velocityX, velocityY, color, mode, context);
+    }
+
     /**
      * Convenience method to create an AI object.
      * 
@@ -85,6 +121,23 @@ public class GameObjectFactory {
         return (Player) createGameObject(GameObjectType.PLAYER_AI, x, y, velocityX, velocityY, color, mode);
     }
 
+    /**
+     * Convenience method to create an AI object bound to a specific match's data.
+     * 
+     * @param x Initial x coordinate
+     * @param y Initial y coordinate
+     * @param velocityX Initial velocity in x direction
+     * @param velocityY Initial velocity in y direction
+     * @param color Player color
+     * @param mode Game mode
+     * @param context Data of the match the player belongs to
+     * @return A new PlayerAI instance
+     */
+    public static Player createAIPlayer(int x, int y, int velocityX, int velocityY,
+                                       ColorValue color, String mode, MatchContext context) {
+        return (Player) createGameObject(GameObjectType.PLAYER_AI, x, y, velocityX, velocityY, color, mode, context);
+    }
+
     /**
      * Creates a static wall with specified dimensions and color.
      *
@@ -1,14 +1,15 @@
 package com.tron_master.tron.model.object;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import com.tron_master.tron.constant.GameConstant;
+import com.tron_master.tron.model.collision.CollisionEngine;
 import com.tron_master.tron.model.data.ColorValue;
 import com.tron_master.tron.model.data.GameData;
+import com.tron_master.tron.model.data.MatchContext;
 import com.tron_master.tron.model.data.Intersection;
-import com.tron_master.tron.view.utils.Line;
+import com.tron_master.tron.model.data.TrailBuffer;
 
 /**
  * Abstract base class for all player types.
@@ -19,7 +20,7 @@ import com.tron_master.tron.view.utils.Line;
  */
 public abstract class Player extends GameObject {
 
-    private final GameData gameData = GameData.getInstance();
+    private final MatchContext context;
     
     /** List of state change listeners (thread-safe for concurrent modifications) */
     private final List<PlayerStateListener> stateListeners = new CopyOnWriteArrayList<>();
@@ -44,11 +45,18 @@ public abstract class Player extends GameObject {
     public static final int VELBOOST = 5;
     /** Jump height in pixels. */
     public static final int JUMPHEIGHT = 16;
-    private static final int BOOST_DURATION_TICKS = 15; // roughly 300 ms at 20ms/tick
+    private static final int BOOST_DURATION_TICKS = 15; // roughly 500 ms at 30 ticks/s
     private int boostTicksRemaining = 0;
     
     /** Player movement path (trail) */
-    private final ArrayList<Line> path = new ArrayList<>();
+    private final TrailBuffer path = new TrailBuffer();
+    /** Collision engine that is told about every new step (null when not in a match). */
+    private CollisionEngine collisionEngine;
+    /** Position before the latest move, used for swept crash tests. */
+    private int lastX;
+    private int lastY;
+    /** Whether the latest move was a jump (which skips over trails). */
+    private boolean justJumped = false;
     
     /**
      * Constructs a player instance.
@@ -60,21 +68,38 @@ public abstract class Player extends GameObject {
      * @param mode Game mode ("story", "survival", "twoPlayer")
      */
     public Player(int x, int y, int velocityX, int velocityY, ColorValue color, String mode) {
+        this(x, y, velocityX, velocityY, color, mode, GameData.getInstance().getMatchContext());
+    }
+
+    /**
+     * Constructs a player instance bound to a specific match's data.
+     * @param x Initial x coordinate
+     * @param y Initial y coordinate
+     * @param velocityX Initial velocity in x direction
+     * @param velocityY Initial velocity in y direction
+     * @param color Player color
+     * @param mode Game mode ("story", "survival", "twoPlayer")
+     * @param context data of the match this player belongs to
+     */
+    public Player(int x, int y, int velocityX, int velocityY, ColorValue color, String mode, MatchContext context) {
         super(x, y, velocityX, velocityY, WIDTH, HEIGHT);
+        this.context = context;
         this.startVelocity = Math.max(Math.abs(velocityX), Math.abs(velocityY));
         this.color = color;
         this.mode = mode;
         // Initialize boost count based on mode
         if ("survival".equals(mode)) {
-            this.boostLeft = gameData.getSurvivalBoost();
+            this.boostLeft = context.getSurvivalBoost();
         } else if ("story".equals(mode)) {
-            this.boostLeft = gameData.getStoryBoost();
+            this.boostLeft = context.getStoryBoost();
         } else if ("twoPlayer".equals(mode)) {
             this.boostLeft = GameConstant.INIT_BOOST_COUNT; // Will be set after slot assignment
         } else {
             this.boostLeft = GameConstant.INIT_BOOST_COUNT;
         }
         this.boostTicksRemaining = 0;
+        this.lastX = x;
+        this.lastY = y;
     }
 
     /**
@@ -93,7 +118,7 @@ public abstract class Player extends GameObject {
     }
 
     /**
-     * Activates boost and updates GameData boost count according to current mode and slot.
+     * Activates boost and updates the match context boost count according to current mode and slot.
      */
     public void startBoost() {
         if (boostLeft > 0) {
@@ -102,8 +127,8 @@ public abstract class Player extends GameObject {
             boostLeft--;
             if (isHuman()) {
                 switch (mode) {
-                    case "survival" -> gameData.setSurvivalBoost(boostLeft);
-                    case "story" -> gameData.setStoryBoost(boostLeft);
+                    case "survival" -> context.setSurvivalBoost(boostLeft);
+                    case "story" -> context.setStoryBoost(boostLeft);
                     case "twoPlayer" -> updateTwoPlayerBoost();
                     default -> {
                     }
@@ -115,9 +140,9 @@ public abstract class Player extends GameObject {
 
     private void updateTwoPlayerBoost() {
         if (playerSlot == 1) {
-            gameData.setPlayer1Boost(boostLeft);
+            context.setPlayer1Boost(boostLeft);
         } else if (playerSlot == 2) {
-            gameData.setPlayer2Boost(boostLeft);
+            context.setPlayer2Boost(boostLeft);
         }
     }
 
@@ -215,6 +240,15 @@ public abstract class Player extends GameObject {
         }
     }
     
+    /**
+     * Notifies all listeners that this object has been teleported.
+     */
+    protected void notifyPlayerTeleported() {
+        for (PlayerStateListener listener : stateListeners) {
+            listener.onPlayerTeleported(this);
+        }
+    }
+    
     // Getters and setters (no comments needed unless logic is nontrivial)
     /**
      * Get player display color.
@@ -262,7 +296,7 @@ public abstract class Player extends GameObject {
      */
     public int getStartVelocity() { return startVelocity; }
     @Override
-    public ArrayList<Line> getPath() { return path; }
+    public TrailBuffer getPath() { return path; }
     /**
      * Get current x velocity.
      * @return current x velocity
@@ -286,15 +320,15 @@ public abstract class Player extends GameObject {
     
     /**
      * Adds boost to the player's boost count.
-     * Updates both the player's internal count and GameData for UI display.
+     * Updates both the player's internal count and the match context (shown by the UI).
      * @param amount Amount of boost to add
      */
     public void addBoost(int amount) {
         boostLeft += amount;
         if (isHuman()) {
             switch (mode) {
-                case "survival" -> gameData.setSurvivalBoost(boostLeft);
-                case "story" -> gameData.setStoryBoost(boostLeft);
+                case "survival" -> context.setSurvivalBoost(boostLeft);
+                case "story" -> context.setStoryBoost(boostLeft);
                 case "twoPlayer" -> updateTwoPlayerBoost();
                 default -> {}
             }
@@ -308,9 +342,9 @@ public abstract class Player extends GameObject {
         this.playerSlot = playerSlot;
         if ("twoPlayer".equals(mode)) {
             if (playerSlot == 1) {
-                this.boostLeft = gameData.getPlayer1Boost();
+                this.boostLeft = context.getPlayer1Boost();
             } else if (playerSlot == 2) {
-                this.boostLeft = gameData.getPlayer2Boost();
+                this.boostLeft = context.getPlayer2Boost();
             }
         }
     }
@@ -322,6 +356,7 @@ public abstract class Player extends GameObject {
      */
     public void setX(int x) {
         this.x = x;
+        this.lastX = x;
     }
 
     /**
@@ -331,6 +366,7 @@ public abstract class Player extends GameObject {
      */
     public void setY(int y) {
         this.y = y;
+        this.lastY = y;
     }
 
     /**
@@ -338,8 +374,99 @@ public abstract class Player extends GameObject {
      * Used after teleportation to avoid visual glitches.
      */
     public void clearPath() {
+        if (collisionEngine != null) {
+            collisionEngine.onPathCleared(this);
+        }
         this.path.clear();
     }
+
+    /**
+     * Attach the collision engine that should receive this player's trail steps.
+     * Called by the engine itself when it starts tracking the player.
+     * @param collisionEngine engine to notify, or null to detach
+     */
+    public void setCollisionEngine(CollisionEngine collisionEngine) {
+        this.collisionEngine = collisionEngine;
+    }
+
+    /**
+     * Get the data of the match this player belongs to.
+     * @return match context
+     */
+    MatchContext getContext() {
+        return context;
+    }
+
+    /**
+     * Get the collision engine this player is attached to.
+     * @return attached engine, or null when not in a match
+     */
+    CollisionEngine getCollisionEngine() {
+        return collisionEngine;
+    }
+
+    /**
+     * Append the step from (fromX, fromY) to the current position to the trail.
+     * While the heading is unchanged the current segment is extended in place, so
+     * a new segment only starts after a turn, a jump or a teleport. The step is
+     * then reported to the attached collision engine.
+     * @param fromX x coordinate before the move
+     * @param fromY y coordinate before the move
+     */
+    protected void extendPath(int fromX, int fromY) {
+        int last = path.size() - 1;
+        if (last >= 0 && continuesRun(last, fromX, fromY)) {
+            path.setEnd(last, x, y);
+        } else {
+            path.add(fromX, fromY, x, y);
+        }
+        lastX = fromX;
+        lastY = fromY;
+        justJumped = false;
+        if (collisionEngine != null) {
+            collisionEngine.onStep(this, fromX, fromY, x, y);
+        }
+    }
+
+    private boolean continuesRun(int last, int fromX, int fromY) {
+        if (path.endX(last) != fromX || path.endY(last) != fromY) {
+            return false; // gap after a jump
+        }
+        int runX = Integer.signum(path.endX(last) - path.startX(last));
+        int runY = Integer.signum(path.endY(last) - path.startY(last));
+        int stepX = Integer.signum(x - fromX);
+        int stepY = Integer.signum(y - fromY);
+        return (runX == 0 && runY == 0) || (stepX == 0 && stepY == 0)
+                || (runX == stepX && runY == stepY);
+    }
+
+    /**
+     * Record a jump from (fromX, fromY) to the current position.
+     * No trail is drawn for the skipped distance.
+     * @param fromX x coordinate before the jump
+     * @param fromY y coordinate before the jump
+     */
+    protected void landJump(int fromX, int fromY) {
+        lastX = fromX;
+        lastY = fromY;
+        justJumped = true;
+    }
+
+    /**
+     * Get x coordinate before the latest move.
+     * @return previous x
+     */
+    public int getLastX() { return lastX; }
+    /**
+     * Get y coordinate before the latest move.
+     * @return previous y
+     */
+    public int getLastY() { return lastY; }
+    /**
+     * Check whether the latest move was a jump.
+     * @return true if the player jumped on its latest move
+     */
+    public boolean hasJustJumped() { return justJumped; }
     
     /**
      * Moves the player according to its control logic.
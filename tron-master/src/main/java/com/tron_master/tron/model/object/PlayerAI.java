@@ -1,28 +1,42 @@
 package com.tron_master.tron.model.object;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
+import com.tron_master.tron.model.ai.AiPolicy;
+import com.tron_master.tron.model.ai.HeuristicPolicy;
+import com.tron_master.tron.model.collision.ArenaField;
+import com.tron_master.tron.model.collision.CollisionEngine;
+import com.tron_master.tron.model.collision.WallEdges;
 import com.tron_master.tron.model.data.ColorValue;
-import com.tron_master.tron.model.data.LineSegment;
-import com.tron_master.tron.view.utils.Line;
+import com.tron_master.tron.model.data.GameData;
+import com.tron_master.tron.model.data.MatchContext;
+import com.tron_master.tron.model.data.TrailBuffer;
 
 /**
  * AI-controlled player implementation.
  */
 public class PlayerAI extends Player {
 	
-	// the number of steps before a random turn
-	private int time = 40;
-	
 	// the list of other players on the court
 	private Player[] players = new Player[1];
 	
-	// the list of walls in the game area
-	private Wall[] walls = new Wall[0];
+	// the edges of the walls in the game area, shared by all AIs of the layout
+	private WallEdges wallEdges = WallEdges.EMPTY;
+
+	// coarse map of the arena for planning ahead (null when not in a match)
+	private ArenaField field;
+
+	// decides where to go on every move
+	private AiPolicy policy = new HeuristicPolicy();
+
+	// whether a scheduler already decided the coming move
+	private boolean decided;
+
+	// whether the policy asked for a boost on the coming move
+	private boolean boostRequested;
 	
-	private Random rand = new Random();
+	// this AI's own stream, split from the match's
+	private final RandomGenerator rand;
 	
 	/**
 	 * PlayerAI constructor with start position and velocity.
@@ -34,8 +48,23 @@ public class PlayerAI extends Player {
 	 * @param mode game mode ("story", "survival")
 	 */
 	public PlayerAI(int randX, int randY, int velx, int vely, ColorValue color, String mode) {
-		super(randX, randY, velx, vely, color, mode);
+		this(randX, randY, velx, vely, color, mode, GameData.getInstance().getMatchContext());
+	}
+
+	/**
+	 * PlayerAI constructor bound to a specific match's data.
+	 * @param randX x coordinate
+	 * @param randY y coordinate
+	 * @param velx starting velocity x
+	 * @param vely starting velocity y
+	 * @param color player color
+	 * @param mode game mode ("story", "survival")
+	 * @param context data of the match this player belongs to
+	 */
+	public PlayerAI(int randX, int randY, int velx, int vely, ColorValue color, String mode, MatchContext context) {
+		super(randX, randY, velx, vely, color, mode, context);
 		players[0] = this;
+		rand = context.splitRandom();
 	}
 
 	@Override
@@ -49,245 +78,154 @@ public class PlayerAI extends Player {
 	}
 	
 	/**
-	 * Sets the walls for the AI to detect and avoid.
+	 * Sets the walls for the AI to detect and avoid, building an edge table of its own.
+	 * In a match the {@link ArenaField} hands over a shared table instead.
 	 * @param walls Array of walls in the game area
 	 */
 	public void setWalls(Wall[] walls) {
-		this.walls = walls != null ? walls : new Wall[0];
+		this.wallEdges = WallEdges.of(walls);
 	}
-	
+
 	/**
-	 * Converts walls to LineSegments so AI can treat them like player trails.
-	 * Each wall is converted to 4 edge lines.
-	 * @return List of LineSegments representing wall edges
+	 * Sets the edges of the walls the AI avoids.
+	 * @param wallEdges edge table of the current layout (null for none)
 	 */
-	private ArrayList<LineSegment> getWallLines() {
-		ArrayList<LineSegment> wallLines = new ArrayList<>();
-		if (walls == null) {
-			return wallLines;
-		}
-		
-		for (Wall wall : walls) {
-			if (wall == null) continue;
-			
-			int left = wall.getX();
-			int right = wall.getX() + wall.getWidth();
-			int top = wall.getY();
-			int bottom = wall.getY() + wall.getHeight();
-			
-			// Add 4 edges of the wall as line segments
-			// Top edge (horizontal)
-			wallLines.add(new LineSegment(left, top, right, top));
-			// Bottom edge (horizontal)
-			wallLines.add(new LineSegment(left, bottom, right, bottom));
-			// Left edge (vertical)
-			wallLines.add(new LineSegment(left, top, left, bottom));
-			// Right edge (vertical)
-			wallLines.add(new LineSegment(right, top, right, bottom));
-		}
-		return wallLines;
+	public void setWallEdges(WallEdges wallEdges) {
+		this.wallEdges = wallEdges != null ? wallEdges : WallEdges.EMPTY;
 	}
 	
-	// gets the AI's move depending on its surroundings
-	private void reactProximity() {
-        int velocity = Math.max(Math.abs(velocityX), Math.abs(velocityY));
-        
-        // Dynamic detection distance based on current speed
-        int urgentDistance = Math.max(6, velocity * 3);
-
-        // boosts randomly
-        int r = rand.nextInt(100);
-        if (r == 1) {
-            startBoost();
-        }
+	/**
+	 * Attach the coarse arena field the AI plans its turns on.
+	 * Called by the field itself when it starts tracking the match.
+	 * @param field field to use, or null to fall back to random turns
+	 */
+	public void setArenaField(ArenaField field) {
+		this.field = field;
+		policy.reset();
+	}
 
-        // adds all lines of all players to one list (LineSegment is parent of Line)
-        ArrayList<LineSegment> lines = new ArrayList<>();
-        lines.addAll(this.getPath());
-        Collections.reverse(lines);
-        for (Player p: players) {
-            if (p != this) {
-                lines.addAll(p.getPath());
-            }
-        }
-        
-        // Add wall edges as LineSegments - AI will treat them like player trails
-        lines.addAll(getWallLines());
+	/**
+	 * Get the arena field the AI plans on.
+	 * @return attached field, or null when not in a match
+	 */
+	public ArenaField getArenaField() {
+		return field;
+	}
 
-        for (int i = lines.size() - 1; i > 0; i--) {
-            LineSegment l = lines.get(i);
-            int maxX = l.getMaxX();
-            int minX = l.getMinX();
-            int maxY = l.getMaxY();
-            int minY = l.getMinY();
+	/**
+	 * Replace the policy that steers this AI.
+	 * @param policy policy to use (null restores the default heuristic)
+	 */
+	public void setPolicy(AiPolicy policy) {
+		this.policy = policy != null ? policy : new HeuristicPolicy();
+		this.policy.reset();
+	}
 
-            // if there is a line in the path, checks if there is one adjacent
-            if (velocityX > 0 && l.isVertical() && y >= minY && y <= maxY) {
-                if (l.getStartX() - x < urgentDistance && l.getStartX() - x > 0) {
-                    boolean b = false;
-                    for (int j = lines.size() - 1; j > 0; j--) {
-                        LineSegment k = lines.get(j);
-                        if (!k.isVertical() && y - k.getEndY() < urgentDistance &&
-                                y - k.getEndY() > 0) {
-                            b = true;
-                        }
-                    }
+	/**
+	 * Get the policy that steers this AI.
+	 * @return active policy
+	 */
+	public AiPolicy getPolicy() {
+		return policy;
+	}
 
-                    // reacts appropriately
-                    if (b) {
-                        velocityY = velocity;
-                    } else {
-                        velocityY = -velocity;
-                    }
-                    velocityX = 0;
-                    time = 40;
-                    return;
-                }
-            }
+	/**
+	 * Get the random source used for this AI's decisions, split from the match's stream.
+	 * @return random generator
+	 */
+	public RandomGenerator getRandom() {
+		return rand;
+	}
 
-            // if there is a line in the path, checks if there is one adjacent
-            if (velocityX < 0 && l.isVertical() && y >= minY && y <= maxY) {
-                if (x - l.getStartX() < urgentDistance && x - l.getStartX() > 0) {
-                    boolean b = false;
-                    for (int j = lines.size() - 1; j > 0; j--) {
-                        LineSegment k = lines.get(j);
-                        if (!k.isVertical() && y - k.getEndY() < urgentDistance &&
-                                y - k.getEndY() > 0) {
-                            b = true;
-                        }
-                    }
+	/**
+	 * Get the edges of the walls the AI avoids, shared with the other AIs of the match.
+	 * @return edge table (empty when no walls were set)
+	 */
+	public WallEdges getWallEdges() {
+		return wallEdges;
+	}
 
-                    // reacts appropriately
-                    if (b) {
-                        velocityY = velocity;
-                    } else {
-                        velocityY = -velocity;
-                    }
-                    velocityX = 0;
-                    time = 40;
-                    return;
-                }
-            }
+	/**
+	 * Let the policy decide the coming move ahead of time, possibly on another thread.
+	 * The move itself then keeps that decision instead of asking the policy again.
+	 * @param deadlineNanos {@link System#nanoTime()} by which the policy should be done
+	 */
+	public void think(long deadlineNanos) {
+		policy.steer(this, deadlineNanos);
+		decided = true;
+	}
 
-            // if there is a line in the path, checks if there is one adjacent
-            if (velocityY > 0 && !l.isVertical() && x >= minX && x <= maxX) {
-                if (l.getStartY() - y < urgentDistance && l.getStartY() - y > 0) {
-                    boolean b = false;
-                    for (int j = lines.size() - 1; j > 0; j--) {
-                        LineSegment k = lines.get(j);
-                        if (k.isVertical() && x - k.getEndX() < urgentDistance &&
-                                x - k.getEndX() > 0) {
-                            b = true;
-                        }
-                    }
+	/**
+	 * Keep the current heading for the coming move without asking the policy.
+	 * Used by a scheduler to skip planning on ticks where nothing is close.
+	 */
+	public void coast() {
+		decided = true;
+	}
 
-                    // reacts appropriately
-                    if (b) {
-                        velocityX = velocity;
-                    } else {
-                        velocityX = -velocity;
-                    }
-                    velocityY = 0;
-                    time = 40;
-                    return;
-                }
-            }
+	/**
+	 * Ask for a boost, started on the coming move. Policies use this instead of
+	 * {@link #startBoost()} because they may run off the simulation thread.
+	 */
+	public void requestBoost() {
+		boostRequested = true;
+	}
 
-            // if there is a line in the path, checks if there is one adjacent
-            if (velocityY < 0 && !l.isVertical() && x >= minX && x <= maxX) {
-                if (y - l.getStartY() < urgentDistance && y - l.getStartY() > 0) {
-                    boolean b = false;
-                    for (int j = lines.size() - 1; j > 0; j--) {
-                        LineSegment k = lines.get(j);
-                        if (k.isVertical() && x - k.getEndX() < urgentDistance &&
-                                x - k.getEndX() > 0) {
-                            b = true;
-                        }
-                    }
+	/**
+	 * Current speed, whatever the heading.
+	 * @return speed in pixels per move
+	 */
+	public int getSpeed() {
+		return Math.max(Math.abs(velocityX), Math.abs(velocityY));
+	}
 
-                    // reacts appropriately
-                    if (b) {
-                        velocityX = velocity;
-                    } else {
-                        velocityX = -velocity;
-                    }
-                    velocityY = 0;
-                    time = 40;
-                    return;
-                }
-            }
-        }
+	/**
+	 * Distance at which an obstacle ahead calls for an immediate turn, growing with speed.
+	 * @return distance in pixels
+	 */
+	public int getUrgentDistance() {
+		return Math.max(6, getSpeed() * 3);
+	}
 
-        // checks if the Player is too close to the edge
-        if (x < urgentDistance && velocityX != 0) {
-            if (y < 250) {
-                velocityY = velocity;
-            } else {
-                velocityY = -velocity;
-            }
-            velocityX = 0;
-            time = 40;
-            return;
-        }
-        if (rightBound - x < urgentDistance && velocityX != 0) {
-            if (y < 250) {
-                velocityY = velocity;
-            } else {
-                velocityY = -velocity;
-            }
-            velocityX = 0;
-            time = 40;
-            return;
-        }
-        if (y < urgentDistance && velocityY != 0) {
-            if (x < 250) {
-                velocityX = velocity;
-            } else {
-                velocityX = -velocity;
-            }
-            velocityY = 0;
-            time = 40;
-            return;
-        }
-        if (bottomBound - y < urgentDistance && velocityY != 0) {
-            if (x < 250) {
-                velocityX = velocity;
-            } else {
-                velocityX = -velocity;
-            }
-            velocityY = 0;
-            time = 40;
-            return;
-        }
+	/**
+	 * Head into one of the four directions at the current speed.
+	 * @param dx x direction (-1, 0 or 1)
+	 * @param dy y direction (-1, 0 or 1)
+	 */
+	public void steer(int dx, int dy) {
+		int speed = getSpeed();
+		velocityX = dx * speed;
+		velocityY = dy * speed;
+	}
 
-		// moves randomly if all others do not
-		// cause the Player to change direction
-		if (time == 0) {
-			int rando = rand.nextInt(4);
-			if (rando == 0 && velocityX != velocity) {
-				if (x > 6) {
-					velocityX = -velocity;
-					velocityY = 0;
-				}
-			} else if (rando == 1 && velocityX != -velocity) {
-				if (rightBound - x > 6) {
-					velocityX = velocity;
-					velocityY = 0;
-				}
-			} else if (rando == 2 && velocityY != velocity) {
-				if (y > 6) {
-					velocityX = 0;
-					velocityY = -velocity;
-				}
-			} else if (rando == 3 && velocityY != -velocity) {
-				if (bottomBound - y > 6) {
-					velocityX = 0;
-					velocityY = velocity;
-				}
+	/**
+	 * Distance from the head to the nearest obstacle in one of the four directions:
+	 * the edge of the play area, a wall edge or a trail. Trails are ray-cast through
+	 * the collision engine's index when the AI is in a match.
+	 * @param dx x direction (-1, 0 or 1)
+	 * @param dy y direction (-1, 0 or 1)
+	 * @param range how far to look
+	 * @return distance to the nearest obstacle, or range if none is closer
+	 */
+	public int look(int dx, int dy, int range) {
+		int edge = dx > 0 ? rightBound - x : dx < 0 ? x : dy > 0 ? bottomBound - y : y;
+		int distance = wallEdges.castRay(x, y, dx, dy, Math.min(range, edge));
+		CollisionEngine engine = getCollisionEngine();
+		if (engine != null) {
+			return engine.castRay(x, y, dx, dy, distance);
+		}
+		// not in a match: scan the trails we were given
+		for (Player p : players) {
+			if (p == null) {
+				continue;
+			}
+			TrailBuffer trail = p.getPath();
+			for (int i = 0; i < trail.size(); i++) {
+				distance = Math.min(distance, CollisionEngine.distanceAlong(x, y, dx, dy,
+						trail.startX(i), trail.startY(i), trail.endX(i), trail.endY(i)));
 			}
-			time = 40;
 		}
-		time--;
+		return distance;
 	}
 
 	// moves the Player based on its conditions
@@ -295,29 +233,20 @@ public class PlayerAI extends Player {
 		int a = x;
 		int b = y;
 		boost();
-		reactProximity();
+		if (!decided) {
+			policy.steer(this);
+		}
+		decided = false;
+		policy.onMove(this);
+		if (boostRequested) {
+			boostRequested = false;
+			startBoost();
+		}
 
 		if (!jumping) {
 			x += velocityX;
 			y += velocityY;
-			if (getPath().size() > 1) {
-				Line l1 = getPath().get(getPath().size() - 2);
-				Line l2 = getPath().get(getPath().size() - 1);
-				if (a == l1.getStartX() &&
-						l1.getEndY() == l2.getStartY()) {
-					getPath().add(new Line(l1.getStartX(), l1.getStartY(),
-							l2.getEndX(), l2.getEndY()));
-					getPath().remove(getPath().size() - 2);
-					getPath().remove(getPath().size() - 2);
-				} else if (b == l1.getStartY() &&
-						l1.getEndX() == l2.getStartX()) {
-					getPath().add(new Line(l1.getStartX(), l1.getStartY(),
-							l2.getEndX(), l2.getEndY()));
-					getPath().remove(getPath().size() - 2);
-					getPath().remove(getPath().size() - 2);
-				}
-			}
-			getPath().add(new Line(a, b, x, y));
+			extendPath(a, b);
 		} else {
 			if (velocityX > 0) {
 				x += JUMPHEIGHT;
@@ -329,6 +258,7 @@ public class PlayerAI extends Player {
 				y -= JUMPHEIGHT;
 			}
 			jumping = false;
+			landJump(a, b);
 		}
 		accelerate();
 		clip();
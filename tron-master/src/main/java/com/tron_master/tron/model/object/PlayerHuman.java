@@ -1,7 +1,7 @@
 package com.tron_master.tron.model.object;
 
 import com.tron_master.tron.model.data.ColorValue;
-import com.tron_master.tron.view.utils.Line;
+import com.tron_master.tron.model.data.MatchContext;
 
 /**
  * Human-controlled player implementation.
@@ -20,6 +20,20 @@ public class PlayerHuman extends Player {
 	public PlayerHuman(int randX, int randY, int velx, int vely, ColorValue color, String mode) {
 		super(randX, randY, velx, vely, color, mode);
 	}
+
+	/**
+	 * Human player constructor bound to a specific match's data.
+	 * @param randX x coordinate
+	 * @param randY y coordinate
+	 * @param velx starting velocity x
+	 * @param vely starting velocity y
+	 * @param color player color
+	 * @param mode game mode ("story", "survival", "twoPlayer")
+	 * @param context data of the match this player belongs to
+	 */
+	public PlayerHuman(int randX, int randY, int velx, int vely, ColorValue color, String mode, MatchContext context) {
+		super(randX, randY, velx, vely, color, mode, context);
+	}
 	
 	@Override
 	public Boolean isHuman() {
@@ -40,24 +54,7 @@ public class PlayerHuman extends Player {
 		if (!jumping) {
 			x += velocityX;
 			y += velocityY;
-			if (getPath().size() > 1) {
-				Line l1 = getPath().get(getPath().size() - 2);
-				Line l2 = getPath().get(getPath().size() - 1);
-				if (a == l1.getStartX() &&
-						l1.getEndY() == l2.getStartY()) {
-					getPath().add(new Line(l1.getStartX(), l1.getStartY(),
-							l2.getEndX(), l2.getEndY()));
-					getPath().remove(getPath().size() - 2);
-					getPath().remove(getPath().size() - 2);
-				} else if (b == l1.getStartY() &&
-						l1.getEndX() == l2.getStartX()) {
-					getPath().add(new Line(l1.getStartX(), l1.getStartY(),
-							l2.getEndX(), l2.getEndY()));
-					getPath().remove(getPath().size() - 2);
-					getPath().remove(getPath().size() - 2);
-				}
-			}
-			getPath().add(new Line(a, b, x, y));
+			extendPath(a, b);
 		} else {
 			if (velocityX > 0) {
 				x += JUMPHEIGHT;
@@ -69,6 +66,7 @@ public class PlayerHuman extends Player {
 				y -= JUMPHEIGHT;
 			}
 			jumping = false;
+			landJump(a, b);
 		}
 		accelerate();
 		clip();
@@ -28,4 +28,11 @@ public interface PlayerStateListener {
      */
     default void onPlayerJumped(Player player) {
     }
+
+    /**
+     * Called when a object is teleported through a portal.
+     * @param player The object that teleported
+     */
+    default void onPlayerTeleported(Player player) {
+    }
 }
@@ -119,6 +119,7 @@ public class Portal extends Wall {
         
         // Clear player's trail to avoid visual glitches
         player.clearPath();
+        player.notifyPlayerTeleported();
         
         return true;
     }
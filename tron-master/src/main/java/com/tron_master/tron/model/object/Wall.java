@@ -1,9 +1,7 @@
 package com.tron_master.tron.model.object;
 
-import java.util.ArrayList;
-
 import com.tron_master.tron.model.data.ColorValue;
-import com.tron_master.tron.view.utils.Line;
+import com.tron_master.tron.model.data.TrailBuffer;
 
 /**
  * Represents a static wall (obstacle) in the game area.
@@ -83,11 +81,11 @@ public class Wall extends GameObject {
     /**
      * Walls have no path/trail.
      *
-     * @return empty list
+     * @return shared read-only empty trail
      */
     @Override
-    public ArrayList<Line> getPath() {
-        return new ArrayList<>();
+    public TrailBuffer getPath() {
+        return TrailBuffer.empty();
     }
 
     /**
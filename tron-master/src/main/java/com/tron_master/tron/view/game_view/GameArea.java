@@ -1,20 +1,47 @@
 package com.tron_master.tron.view.game_view;
 
+import java.util.List;
+
 import com.tron_master.tron.constant.GameConstant;
 import com.tron_master.tron.model.data.GameData;
+import com.tron_master.tron.model.data.TrailBuffer;
+import com.tron_master.tron.model.logic_strategy.WorldSnapshot;
 import com.tron_master.tron.model.object.Player;
 import com.tron_master.tron.model.object.Portal;
 import com.tron_master.tron.model.object.Wall;
+import com.tron_master.tron.view.utils.ColorCache;
 
+import javafx.scene.SnapshotParameters;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.WritableImage;
 import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
 
 /**
  * Game area abstract base class (parent class for all game mode canvases)
  * Encapsulates Canvas initialization, background drawing, common reset logic
+ *
+ * <p>The canvas is kept between frames. A frame normally only erases the heads of
+ * the previous frame, draws the trail segments that are new in the snapshot and the
+ * heads at their new positions. Between ticks a head is drawn part of the way along
+ * its latest step, and its trail is drawn up to the head, never past it. The whole scene is repainted only when the canvas
+ * has been wiped (reset, countdown, overlays go through {@link #drawBackground()}),
+ * when a trail was cleared (teleport), when the walls or portals change, or when the
+ * background color changes.</p>
+ *
+ * <p>Background, boundary, walls and portals only change on a layout reload, so they
+ * are rasterized once into an image (the static layer) that full repaints and head
+ * erasing copy from, instead of drawing every wall again.</p>
  */
 public abstract class GameArea extends Canvas {
+    private static final Color BOUNDARY_COLOR = Color.web("#FFFFFF", 0.7);
+    private static final Color OVERLAY_BACKGROUND = Color.rgb(0, 0, 0, 0.6);
+    private static final Font OVERLAY_FONT = Font.font("Monospaced", 10);
+    private static final double OVERLAY_MARGIN = 8;
+    private static final double OVERLAY_WIDTH = 300;
+    private static final double OVERLAY_LINE_HEIGHT = 12;
+
     protected GraphicsContext gc;
     protected final GameData gameData = GameData.getInstance();
     private final PlayerRenderer playerRenderer = new PlayerRenderer();
@@ -25,6 +52,38 @@ public abstract class GameArea extends Canvas {
     protected Wall[] walls;
     protected Portal[] portals;
 
+    /** The view's own copy of each player's trail, kept up to date from snapshot deltas. */
+    private TrailBuffer[] trails = new TrailBuffer[0];
+
+    /** Off-screen canvas the static layer is drawn on before it is rasterized. */
+    private final Canvas staticCanvas = new Canvas(GameConstant.GAME_AREA_WIDTH, GameConstant.GAME_AREA_HEIGHT);
+    /** Rasterized background, boundary, walls and portals. */
+    private WritableImage staticLayer;
+    /** Set when the walls or portals changed since the static layer was rasterized. */
+    private boolean staticDirty = true;
+
+    /** Set whenever the canvas no longer shows the last rendered scene. */
+    private boolean repaintAll = true;
+    /** Tick of the last rendered snapshot; its trail segments are already on the canvas. */
+    private long paintedTick = -1;
+    /** Background color of the static layer. */
+    private String paintedBackground;
+    /** Centers of the heads drawn by the last frame, erased by the next one. */
+    private double[] headX = new double[0];
+    private double[] headY = new double[0];
+    private int headCount;
+    /** Per player, whether this frame draws the head along its latest step (see {@link #planTrailEnds}). */
+    private boolean[] interpolated = new boolean[0];
+
+    /** Lines of the overlay box, or null when hidden. */
+    private List<String> overlayLines;
+    /** Size of the overlay box drawn by the last frame (0 when none was drawn). */
+    private double overlayDrawnWidth;
+    private double overlayDrawnHeight;
+
+    /** Fraction of the next logic tick elapsed at render time (1 = draw the current state). */
+    private double interpolation = 1.0;
+
     /**
      * Create a game area canvas with default dimensions and initialize it.
      */
@@ -39,7 +98,9 @@ public abstract class GameArea extends Canvas {
      * @param walls array of Wall objects
      */
     public void setWalls(Wall[] walls) {
-        this.walls = walls != null ? walls : new Wall[0];
+        Wall[] next = walls != null ? walls : new Wall[0];
+        staticDirty |= next != this.walls;
+        this.walls = next;
     }
 
     /**
@@ -47,7 +108,18 @@ public abstract class GameArea extends Canvas {
      * @param portals array of Portal objects
      */
     public void setPortals(Portal[] portals) {
-        this.portals = portals != null ? portals : new Portal[0];
+        Portal[] next = portals != null ? portals : new Portal[0];
+        staticDirty |= next != this.portals;
+        this.portals = next;
+    }
+
+    /**
+     * Set how far rendering is between the previous and the current logic tick.
+     * Heads are drawn at {@code previous + (current - previous) * alpha}.
+     * @param alpha interpolation factor in [0, 1]
+     */
+    public void setInterpolation(double alpha) {
+        this.interpolation = Math.clamp(alpha, 0.0, 1.0);
     }
 
     /** Initialize game-specific resources. */
@@ -57,16 +129,35 @@ public abstract class GameArea extends Canvas {
     public abstract void reset();
 
     protected void drawBackground() {
-        Color bgColor = Color.valueOf(gameData.getBackgroundColor());
-        gc.setFill(bgColor);
+        repaintAll = true;
+        gc.setFill(ColorCache.background(gameData.getBackgroundColor()));
         gc.fillRect(0, 0, GameConstant.GAME_AREA_WIDTH, GameConstant.GAME_AREA_HEIGHT);
         drawBoundary();
     }
     
     protected void drawBoundary() {
-        gc.setStroke(Color.web("#FFFFFF", 0.7));
-        gc.setLineWidth(5);
-        gc.strokeRect(0, 0, GameConstant.GAME_AREA_WIDTH, GameConstant.GAME_AREA_HEIGHT);
+        drawBoundary(gc);
+    }
+
+    private static void drawBoundary(GraphicsContext g) {
+        g.setStroke(BOUNDARY_COLOR);
+        g.setLineWidth(5);
+        g.strokeRect(0, 0, GameConstant.GAME_AREA_WIDTH, GameConstant.GAME_AREA_HEIGHT);
+    }
+
+    /** Rasterize background, boundary, walls and portals into the static layer. */
+    private void rasterizeStaticLayer() {
+        GraphicsContext g = staticCanvas.getGraphicsContext2D();
+        paintedBackground = gameData.getBackgroundColor();
+        g.setFill(ColorCache.background(paintedBackground));
+        g.fillRect(0, 0, GameConstant.GAME_AREA_WIDTH, GameConstant.GAME_AREA_HEIGHT);
+        drawBoundary(g);
+        wallRenderer.drawWalls(g, walls);
+        wallRenderer.drawWalls(g, portals);
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+        staticLayer = staticCanvas.snapshot(params, staticLayer);
+        staticDirty = false;
     }
 
     /**
@@ -79,29 +170,231 @@ public abstract class GameArea extends Canvas {
     }
 
     /**
-     * Render the full scene: background, walls/portals, then players.
-     * This centralizes wall/portal rendering for all view strategies.
+     * Render the full scene from the live players and the configured walls/portals.
+     * Only safe while no simulation is running (e.g. before a countdown).
      * @param players players to render
      */
     public void renderScene(Player[] players) {
-        drawBackground();
-        renderWalls();
-        renderPortals();
-        // draw players on top
-        for (Player player : players) {
-            if (player == null) {
+        renderScene(WorldSnapshot.of(players, walls, portals));
+    }
+
+    /**
+     * Render the scene: background, walls/portals, then players, either in full or
+     * incrementally on top of the previous frame (see the class comment).
+     * This centralizes wall/portal rendering for all view strategies.
+     * The snapshot's walls and portals also become the configured ones, and its
+     * trail changes are applied to the view's copy of the trails.
+     * @param snapshot state to render
+     */
+    public void renderScene(WorldSnapshot snapshot) {
+        setWalls(snapshot.walls());
+        setPortals(snapshot.portals());
+        if (staticDirty || !gameData.getBackgroundColor().equals(paintedBackground)) {
+            rasterizeStaticLayer();
+            repaintAll = true;
+        }
+        boolean full = syncTrails(snapshot) || repaintAll || snapshot.layoutChanged();
+        planTrailEnds(snapshot);
+        for (int i = 0; i < snapshot.playerCount() && !full; i++) {
+            full = snapshot.trailReset(i);
+        }
+
+        if (full) {
+            gc.drawImage(staticLayer, 0, 0);
+            for (int i = 0; i < snapshot.playerCount(); i++) {
+                if (snapshot.present(i)) {
+                    drawSettledTrail(snapshot, i, 0);
+                }
+            }
+        } else {
+            eraseHeads(snapshot);
+            if (overlayDrawnWidth > 0) {
+                restoreRegion(snapshot, OVERLAY_MARGIN, OVERLAY_MARGIN,
+                        OVERLAY_MARGIN + overlayDrawnWidth, OVERLAY_MARGIN + overlayDrawnHeight);
+            }
+            if (snapshot.tick() != paintedTick) {
+                for (int i = 0; i < snapshot.playerCount(); i++) {
+                    if (snapshot.present(i)) {
+                        drawSettledTrail(snapshot, i, snapshot.trailFrom(i));
+                    }
+                }
+            }
+        }
+        drawHeads(snapshot);
+        drawOverlay();
+        paintedTick = snapshot.tick();
+        repaintAll = false;
+    }
+
+    /** Paint the regions under the previous frame's heads back to what lies beneath them. */
+    private void eraseHeads(WorldSnapshot snapshot) {
+        for (int h = 0; h < headCount; h++) {
+            // one extra pixel for the anti-aliased edges of interpolated (fractional) heads
+            double minX = Math.max(0, Math.floor(headX[h] - Player.WIDTH / 2.0) - 1);
+            double minY = Math.max(0, Math.floor(headY[h] - Player.HEIGHT / 2.0) - 1);
+            double maxX = Math.min(GameConstant.GAME_AREA_WIDTH, Math.ceil(headX[h] + Player.WIDTH / 2.0) + 1);
+            double maxY = Math.min(GameConstant.GAME_AREA_HEIGHT, Math.ceil(headY[h] + Player.HEIGHT / 2.0) + 1);
+            restoreRegion(snapshot, minX, minY, maxX, maxY);
+        }
+    }
+
+    /**
+     * Paint a region back to the static layer and the trails on top of it.
+     * @param snapshot snapshot whose trails are shown
+     */
+    private void restoreRegion(WorldSnapshot snapshot, double minX, double minY, double maxX, double maxY) {
+        if (maxX <= minX || maxY <= minY) {
+            return;
+        }
+        double width = maxX - minX;
+        double height = maxY - minY;
+        gc.drawImage(staticLayer, minX, minY, width, height, minX, minY, width, height);
+        gc.save();
+        gc.beginPath();
+        gc.rect(minX, minY, width, height);
+        gc.clip();
+        for (int i = 0; i < snapshot.playerCount(); i++) {
+            if (snapshot.present(i)) {
+                TrailBuffer trail = trails[i];
+                if (!trail.isEmpty()) {
+                    playerRenderer.drawTrailWithin(gc, snapshot.color(i), trail, settledX(snapshot, i),
+                            settledY(snapshot, i), minX - 1, minY - 1, maxX + 1, maxY + 1);
+                }
+            }
+        }
+        gc.restore();
+    }
+
+    /**
+     * Show text (e.g. performance metrics) in a box in the top-left corner of the
+     * playfield, drawn on top of every frame.
+     * @param lines lines to show, or null to hide the overlay
+     */
+    public void setOverlay(List<String> lines) {
+        if (lines == null && overlayLines != null) {
+            repaintAll = true;
+        }
+        overlayLines = lines;
+    }
+
+    private void drawOverlay() {
+        if (overlayLines == null) {
+            overlayDrawnWidth = 0;
+            return;
+        }
+        overlayDrawnWidth = OVERLAY_WIDTH;
+        overlayDrawnHeight = Math.min(GameConstant.GAME_AREA_HEIGHT - 2 * OVERLAY_MARGIN,
+                overlayLines.size() * OVERLAY_LINE_HEIGHT + 8);
+        gc.setFill(OVERLAY_BACKGROUND);
+        gc.fillRect(OVERLAY_MARGIN, OVERLAY_MARGIN, overlayDrawnWidth, overlayDrawnHeight);
+        gc.setFill(Color.WHITE);
+        gc.setFont(OVERLAY_FONT);
+        double y = OVERLAY_MARGIN + OVERLAY_LINE_HEIGHT;
+        for (String line : overlayLines) {
+            gc.fillText(line, OVERLAY_MARGIN + 4, y);
+            y += OVERLAY_LINE_HEIGHT;
+        }
+    }
+
+    /**
+     * Decide for every player whether its head is drawn part of the way along its latest
+     * step. Jumps and teleports are discrete moves, and a step that is not the end of the
+     * trail's last segment could not be cut, so those heads are drawn where they are.
+     */
+    private void planTrailEnds(WorldSnapshot snapshot) {
+        if (interpolated.length < snapshot.playerCount()) {
+            interpolated = new boolean[snapshot.playerCount()];
+        }
+        for (int i = 0; i < snapshot.playerCount(); i++) {
+            interpolated[i] = interpolation < 1.0 && snapshot.present(i) && snapshot.alive(i)
+                    && !snapshot.jumped(i) && endsWithLatestStep(snapshot, i);
+        }
+    }
+
+    private boolean endsWithLatestStep(WorldSnapshot snapshot, int i) {
+        TrailBuffer trail = trails[i];
+        if (trail.isEmpty()) {
+            return false;
+        }
+        int last = trail.size() - 1;
+        int x = snapshot.x(i);
+        int y = snapshot.y(i);
+        int fromX = snapshot.lastX(i);
+        int fromY = snapshot.lastY(i);
+        if (trail.endX(last) != x || trail.endY(last) != y) {
+            return false;
+        }
+        if (fromX == x) {
+            return trail.startX(last) == x && isBetween(fromY, trail.startY(last), y);
+        }
+        return fromY == y && trail.startY(last) == y && isBetween(fromX, trail.startX(last), x);
+    }
+
+    private static boolean isBetween(int value, int a, int b) {
+        return value >= Math.min(a, b) && value <= Math.max(a, b);
+    }
+
+    /** Where the trail is drawn to before the head's part of the latest step: x. */
+    private int settledX(WorldSnapshot snapshot, int i) {
+        return interpolated[i] ? snapshot.lastX(i) : trails[i].endX(trails[i].size() - 1);
+    }
+
+    /** Where the trail is drawn to before the head's part of the latest step: y. */
+    private int settledY(WorldSnapshot snapshot, int i) {
+        return interpolated[i] ? snapshot.lastY(i) : trails[i].endY(trails[i].size() - 1);
+    }
+
+    /** Draw a trail from a segment on, up to where it is settled for this frame. */
+    private void drawSettledTrail(WorldSnapshot snapshot, int i, int from) {
+        if (from < trails[i].size()) {
+            playerRenderer.drawTrail(gc, snapshot.color(i), trails[i], from,
+                    settledX(snapshot, i), settledY(snapshot, i));
+        }
+    }
+
+    /**
+     * Draw every head at its (interpolated) position and remember where it went. An
+     * interpolated head pulls the end of its trail along, so it never lags its own line.
+     */
+    private void drawHeads(WorldSnapshot snapshot) {
+        if (headX.length < snapshot.playerCount()) {
+            headX = new double[snapshot.playerCount()];
+            headY = new double[snapshot.playerCount()];
+        }
+        headCount = 0;
+        for (int i = 0; i < snapshot.playerCount(); i++) {
+            if (!snapshot.present(i)) {
                 continue;
             }
-            playerRenderer.drawPlayer(
-                    gc,
-                    player.getColor(),
-                    player.getX(),
-                    player.getY(),
-                    Player.WIDTH,
-                    Player.HEIGHT,
-                    player.getPath()
-            );
+            double x = snapshot.x(i);
+            double y = snapshot.y(i);
+            if (interpolated[i]) {
+                x = snapshot.lastX(i) + (x - snapshot.lastX(i)) * interpolation;
+                y = snapshot.lastY(i) + (y - snapshot.lastY(i)) * interpolation;
+                playerRenderer.drawTrail(gc, snapshot.color(i), trails[i], trails[i].size() - 1, x, y);
+            }
+            playerRenderer.drawHead(gc, snapshot.color(i), x, y, Player.WIDTH, Player.HEIGHT);
+            headX[headCount] = x;
+            headY[headCount] = y;
+            headCount++;
+        }
+    }
+
+    /** Apply the snapshot's trail changes to the view's copy; true if the roster size changed. */
+    private boolean syncTrails(WorldSnapshot snapshot) {
+        int count = snapshot.playerCount();
+        boolean resized = trails.length != count;
+        if (resized) {
+            TrailBuffer[] copies = new TrailBuffer[count];
+            for (int i = 0; i < count; i++) {
+                copies[i] = i < trails.length ? trails[i] : new TrailBuffer();
+            }
+            trails = copies;
+        }
+        for (int i = 0; i < count; i++) {
+            snapshot.applyTrail(i, trails[i]);
         }
+        return resized;
     }
 
     /**
@@ -1,12 +1,10 @@
 package com.tron_master.tron.view.game_view;
 
-import java.util.List;
-
 import com.tron_master.tron.model.data.ColorValue;
-import com.tron_master.tron.view.utils.Line;
+import com.tron_master.tron.model.data.TrailBuffer;
+import com.tron_master.tron.view.utils.ColorCache;
 
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.paint.Color;
 
 /**
  * View class responsible for rendering Player objects.
@@ -26,18 +24,118 @@ public class PlayerRenderer {
      * @param height player height
      * @param path trail segments to draw
      */
-    public void drawPlayer(GraphicsContext gc, ColorValue colorValue, int x, int y,
-                       int width, int height, List<Line> path) {
-        Color fxColor = toFxColor(colorValue);
-        gc.setFill(fxColor);
+    public void drawPlayer(GraphicsContext gc, ColorValue colorValue, double x, double y,
+                       int width, int height, TrailBuffer path) {
+        drawHead(gc, colorValue, x, y, width, height);
+        drawTrail(gc, colorValue, path, 0);
+    }
+
+    /**
+     * Draw only the player's head.
+     * @param gc JavaFX graphics context
+     * @param colorValue player color
+     * @param x player x coordinate
+     * @param y player y coordinate
+     * @param width player width
+     * @param height player height
+     */
+    public void drawHead(GraphicsContext gc, ColorValue colorValue, double x, double y, int width, int height) {
+        gc.setFill(ColorCache.of(colorValue));
         gc.fillRect(x - (double)width/2, y - (double)height/2, width, height);
+    }
 
-        for (Line segment : path) {
-            segment.draw(gc, fxColor);
+    /**
+     * Draw the trail segments from a given index on, as one path.
+     * @param gc JavaFX graphics context
+     * @param colorValue player color
+     * @param path trail segments
+     * @param from index of the first segment to draw
+     */
+    public void drawTrail(GraphicsContext gc, ColorValue colorValue, TrailBuffer path, int from) {
+        if (from >= path.size()) {
+            return;
+        }
+        int last = path.size() - 1;
+        drawTrail(gc, colorValue, path, from, path.endX(last), path.endY(last));
+    }
+
+    /**
+     * Draw the trail segments from a given index on, as one path, with the last segment
+     * ending at a given point on it instead (e.g. at an interpolated head).
+     * @param gc JavaFX graphics context
+     * @param colorValue player color
+     * @param path trail segments
+     * @param from index of the first segment to draw
+     * @param lastEndX x where the last segment ends
+     * @param lastEndY y where the last segment ends
+     */
+    public void drawTrail(GraphicsContext gc, ColorValue colorValue, TrailBuffer path, int from,
+                          double lastEndX, double lastEndY) {
+        if (from >= path.size()) {
+            return;
+        }
+        beginTrail(gc, colorValue);
+        TrailBuffer.Cursor segment = path.cursor().moveTo(from);
+        int last = path.size() - 1;
+        double endX = Double.NaN;
+        double endY = Double.NaN;
+        do {
+            // a segment that does not start where the last one ended (after a jump) opens a new subpath
+            if (segment.getStartX() != endX || segment.getStartY() != endY) {
+                gc.moveTo(segment.getStartX(), segment.getStartY());
+            }
+            endX = segment.index() == last ? lastEndX : segment.getEndX();
+            endY = segment.index() == last ? lastEndY : segment.getEndY();
+            gc.lineTo(endX, endY);
+        } while (segment.next());
+        gc.stroke();
+    }
+
+    /**
+     * Draw the trail segments that touch a rectangle, as one path, e.g. to restore
+     * a region that has been painted over.
+     * @param gc JavaFX graphics context
+     * @param colorValue player color
+     * @param path trail segments
+     * @param lastEndX x where the last segment ends (a point on it)
+     * @param lastEndY y where the last segment ends
+     * @param minX left edge of the region
+     * @param minY top edge of the region
+     * @param maxX right edge of the region
+     * @param maxY bottom edge of the region
+     */
+    public void drawTrailWithin(GraphicsContext gc, ColorValue colorValue, TrailBuffer path,
+                                double lastEndX, double lastEndY,
+                                double minX, double minY, double maxX, double maxY) {
+        boolean begun = false;
+        int last = path.size() - 1;
+        double endX = Double.NaN;
+        double endY = Double.NaN;
+        for (TrailBuffer.Cursor segment = path.cursor(); segment.next(); ) {
+            if (segment.getMaxX() < minX || segment.getMinX() > maxX
+                    || segment.getMaxY() < minY || segment.getMinY() > maxY) {
+                continue;
+            }
+            if (!begun) {
+                beginTrail(gc, colorValue);
+                begun = true;
+            }
+            if (segment.getStartX() != endX || segment.getStartY() != endY) {
+                gc.moveTo(segment.getStartX(), segment.getStartY());
+            }
+            endX = segment.index() == last ? lastEndX : segment.getEndX();
+            endY = segment.index() == last ? lastEndY : segment.getEndY();
+            gc.lineTo(endX, endY);
+        }
+        if (begun) {
+            gc.stroke();
         }
     }
 
-    private Color toFxColor(ColorValue colorValue) {
-        return Color.color(colorValue.red(), colorValue.green(), colorValue.blue());
+    /** Set the trail stroke once and start a new path. */
+    private void beginTrail(GraphicsContext gc, ColorValue colorValue) {
+        gc.setLineWidth(1.0);
+        gc.setStroke(ColorCache.of(colorValue));
+        gc.beginPath();
     }
 }
@@ -2,9 +2,9 @@ package com.tron_master.tron.view.game_view;
 
 import com.tron_master.tron.model.data.ColorValue;
 import com.tron_master.tron.model.object.Wall;
+import com.tron_master.tron.view.utils.ColorCache;
 
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.paint.Color;
 
 /**
  * Renders wall objects on the game canvas.
@@ -30,7 +30,6 @@ public class WallRenderer {
         }
 
         ColorValue colorValue = wall.getColor();
-        Color fxColor = toFxColor(colorValue);
 
         int x = wall.getX();
         int y = wall.getY();
@@ -38,21 +37,16 @@ public class WallRenderer {
         int height = wall.getHeight();
 
         // Draw glow effect (semi-transparent outer layer)
-        gc.setFill(Color.color(fxColor.getRed(), fxColor.getGreen(), fxColor.getBlue(), 0.3));
+        gc.setFill(ColorCache.glow(colorValue));
         gc.fillRect(x - GLOW_SIZE, y - GLOW_SIZE, 
                     width + GLOW_SIZE * 2, height + GLOW_SIZE * 2);
 
         // Draw main wall body
-        gc.setFill(fxColor);
+        gc.setFill(ColorCache.of(colorValue));
         gc.fillRect(x, y, width, height);
 
         // Draw inner highlight for 3D effect
-        gc.setFill(Color.color(
-            Math.min(1.0, fxColor.getRed() + 0.2),
-            Math.min(1.0, fxColor.getGreen() + 0.2),
-            Math.min(1.0, fxColor.getBlue() + 0.2),
-            0.5
-        ));
+        gc.setFill(ColorCache.highlight(colorValue));
         gc.fillRect(x + 2, y + 2, width - 4, height - 4);
     }
 
@@ -70,14 +64,4 @@ public class WallRenderer {
             drawWall(gc, wall);
         }
     }
-
-    /**
-     * Converts model ColorValue to JavaFX Color.
-     *
-     * @param colorValue Model color value
-     * @return JavaFX Color
-     */
-    private Color toFxColor(ColorValue colorValue) {
-        return Color.color(colorValue.red(), colorValue.green(), colorValue.blue());
-    }
 }
@@ -0,0 +1,88 @@
+package com.tron_master.tron.view.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.tron_master.tron.model.data.ColorValue;
+
+import javafx.scene.paint.Color;
+
+/**
+ * Cache of JavaFX colors used by the game renderers, so drawing a frame does not
+ * allocate a new {@link Color} for every player, wall and background fill.
+ * Model colors are keyed by value; each entry also holds the derived glow and
+ * highlight variants used for walls. Only used from the JavaFX application thread.
+ */
+public final class ColorCache {
+
+    private static final Map<ColorValue, Variants> COLORS = new HashMap<>();
+
+    private static String backgroundHex;
+    private static Color background;
+
+    /** Utility class; prevent instantiation. */
+    private ColorCache() {}
+
+    /**
+     * Get the JavaFX color of a model color.
+     * @param colorValue model color
+     * @return opaque JavaFX color
+     */
+    public static Color of(ColorValue colorValue) {
+        return variants(colorValue).base();
+    }
+
+    /**
+     * Get the semi-transparent glow drawn around a wall.
+     * @param colorValue wall color
+     * @return glow color (30% opacity)
+     */
+    public static Color glow(ColorValue colorValue) {
+        return variants(colorValue).glow();
+    }
+
+    /**
+     * Get the lighter inner highlight drawn on a wall.
+     * @param colorValue wall color
+     * @return highlight color (channels +0.2, 50% opacity)
+     */
+    public static Color highlight(ColorValue colorValue) {
+        return variants(colorValue).highlight();
+    }
+
+    /**
+     * Get the parsed background color. The string is parsed again only when it
+     * differs from the previous call, i.e. after the settings have changed.
+     * @param hex background color as stored in the settings
+     * @return background color
+     */
+    public static Color background(String hex) {
+        if (!hex.equals(backgroundHex)) {
+            background = Color.valueOf(hex);
+            backgroundHex = hex;
+        }
+        return background;
+    }
+
+    private static Variants variants(ColorValue colorValue) {
+        Variants variants = COLORS.get(colorValue);
+        if (variants == null) {
+            variants = Variants.of(colorValue);
+            COLORS.put(colorValue, variants);
+        }
+        return variants;
+    }
+
+    private record Variants(Color base, Color glow, Color highlight) {
+        static Variants of(ColorValue c) {
+            return new Variants(
+                    Color.color(c.red(), c.green(), c.blue()),
+                    Color.color(c.red(), c.green(), c.blue(), 0.3),
+                    Color.color(
+                            Math.min(1.0, c.red() + 0.2),
+                            Math.min(1.0, c.green() + 0.2),
+                            Math.min(1.0, c.blue() + 0.2),
+                            0.5));
+        }
+    }
+}
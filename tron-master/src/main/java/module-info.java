@@ -6,6 +6,8 @@ module com.tron_master.tron {
     requires javafx.fxml;
     requires javafx.media;
     requires java.desktop;
+    requires java.xml;
+    requires jdk.management;
 
     opens com.tron_master.tron to javafx.fxml;
     opens com.tron_master.tron.controller to javafx.fxml;
@@ -15,6 +17,8 @@ module com.tron_master.tron {
     exports com.tron_master.tron.model.sound;
     exports com.tron_master.tron.controller.sound;
     exports com.tron_master.tron.model.object;
+    exports com.tron_master.tron.model.ai;
+    exports com.tron_master.tron.model.collision;
     exports com.tron_master.tron.model.data;
     exports com.tron_master.tron.view.utils;
     exports com.tron_master.tron.controller;
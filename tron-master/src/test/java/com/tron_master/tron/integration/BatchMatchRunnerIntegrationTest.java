@@ -0,0 +1,89 @@
+package com.tron_master.tron.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import com.tron_master.tron.model.data.GameData;
+import com.tron_master.tron.model.logic_strategy.BatchMatchRunner;
+import com.tron_master.tron.model.logic_strategy.BatchMatchRunner.BatchStats;
+import com.tron_master.tron.model.logic_strategy.BatchMatchRunner.Mode;
+
+/**
+ * Integration tests for BatchMatchRunner.
+ * Matches run concurrently and must neither share state with each other
+ * nor touch the data set used by the UI.
+ */
+class BatchMatchRunnerIntegrationTest {
+
+    private static final long MAX_TICKS = 20_000;
+
+    @BeforeEach
+    void setUp() {
+        GameData.getInstance().resetAllData();
+    }
+
+    @Test
+    void survivalBatch_aggregatesStats() {
+        BatchMatchRunner runner = new BatchMatchRunner(Mode.SURVIVAL, 1, MAX_TICKS);
+
+        BatchStats stats = runner.run(8, new ForkJoinPool(4));
+
+        assertEquals(8, stats.matches());
+        assertEquals(0.0, stats.winRate(), "An unsteered player never survives the tick limit");
+        assertTrue(stats.meanSurvivalTicks() > 0);
+        assertTrue(stats.collisionsPerTick() > 0);
+        assertTrue(stats.ticksPerSecond() > 0);
+    }
+
+    @Test
+    void storyBatch_statsStayInRange() {
+        BatchMatchRunner runner = new BatchMatchRunner(Mode.STORY, 4, MAX_TICKS);
+
+        BatchStats stats = runner.run(6);
+
+        assertEquals(6, stats.matches());
+        assertTrue(stats.winRate() >= 0.0 && stats.winRate() <= 1.0);
+        assertTrue(stats.meanSurvivalTicks() > 0);
+        assertTrue(stats.collisionsPerTick() > 0, "Every story level ends with at least one crash");
+    }
+
+    @Test
+    void storyMatch_cutOffByTickLimitIsNotWon() {
+        BatchMatchRunner runner = new BatchMatchRunner(Mode.STORY, 4, 5);
+
+        BatchMatchRunner.MatchResult result = runner.runMatch();
+
+        assertEquals(5, result.ticks());
+        assertFalse(result.won(), "AI opponents are still alive");
+    }
+
+    @Test
+    void batch_replaysFromItsBaseSeed() {
+        BatchStats first = new BatchMatchRunner(Mode.STORY, 3, MAX_TICKS, 42).run(4, new ForkJoinPool(2));
+        BatchStats second = new BatchMatchRunner(Mode.STORY, 3, MAX_TICKS, 42).run(4, new ForkJoinPool(2));
+
+        assertEquals(first.winRate(), second.winRate());
+        assertEquals(first.meanSurvivalTicks(), second.meanSurvivalTicks());
+        assertEquals(first.collisionsPerTick(), second.collisionsPerTick());
+        BatchMatchRunner runner = new BatchMatchRunner(Mode.SURVIVAL, 1, MAX_TICKS);
+        assertEquals(runner.runMatch(7), runner.runMatch(7), "A match replays from its seed");
+    }
+
+    @Test
+    void batch_leavesUiGameDataUntouched() {
+        GameData ui = GameData.getInstance();
+        ui.setSurvivalScore(42);
+        ui.setStoryScore(7);
+
+        new BatchMatchRunner(Mode.SURVIVAL, 1, MAX_TICKS).run(4);
+        new BatchMatchRunner(Mode.STORY, 3, MAX_TICKS).run(4);
+
+        assertEquals(42, ui.getSurvivalScore());
+        assertEquals(7, ui.getStoryScore());
+    }
+}
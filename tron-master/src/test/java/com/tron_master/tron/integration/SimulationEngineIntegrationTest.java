@@ -0,0 +1,250 @@
+package com.tron_master.tron.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.tron_master.tron.model.data.GameData;
+import com.tron_master.tron.model.data.GameState;
+import com.tron_master.tron.model.data.MatchContext;
+import com.tron_master.tron.model.data.TrailBuffer;
+import com.tron_master.tron.model.logic_strategy.SimulationEngine;
+import com.tron_master.tron.model.logic_strategy.WorldSnapshot;
+import com.tron_master.tron.model.object.Player;
+import com.tron_master.tron.model.object.Wall;
+
+/**
+ * Integration tests for the headless SimulationEngine.
+ * Matches are advanced without the JavaFX toolkit until a strategy stops them.
+ */
+class SimulationEngineIntegrationTest {
+
+    private static final long MAX_TICKS = 20_000;
+
+    @BeforeEach
+    void setUp() {
+        GameData.getInstance().resetAllData();
+    }
+
+    @Test
+    void survival_runsUntilPlayerCrashes() {
+        SimulationEngine engine = SimulationEngine.survival();
+
+        long ticks = engine.run(MAX_TICKS);
+
+        assertTrue(engine.isStopped(), "An unsteered player must eventually crash");
+        assertEquals(ticks, engine.getTicks());
+        assertFalse(engine.getPlayers()[0].getAlive());
+        assertFalse(engine.step(), "A stopped match does not advance");
+    }
+
+    @Test
+    void story_runsToEndOfLevel() {
+        SimulationEngine engine = SimulationEngine.story(4);
+
+        engine.run(MAX_TICKS);
+
+        assertTrue(engine.isStopped());
+        Player[] players = engine.getPlayers();
+        int aliveAi = 0;
+        for (int i = 1; i < players.length; i++) {
+            if (players[i].getAlive()) {
+                aliveAi++;
+            }
+        }
+        assertTrue(!players[0].getAlive() || aliveAi == 0,
+                "Level ends when the human dies or is the last one alive");
+    }
+
+    @Test
+    void twoPlayer_humanDriverIsCalledEveryTick() {
+        SimulationEngine engine = SimulationEngine.twoPlayer();
+        int[] calls = {0};
+        engine.setHumanDriver(p -> calls[0]++);
+
+        engine.step();
+        engine.step();
+
+        assertEquals(4, calls[0]);
+    }
+
+    @Test
+    void reset_startsFreshMatch() {
+        SimulationEngine engine = SimulationEngine.survival();
+        engine.run(MAX_TICKS);
+
+        engine.reset();
+
+        assertFalse(engine.isStopped());
+        assertEquals(0, engine.getTicks());
+        assertTrue(engine.getPlayers()[0].getAlive());
+    }
+
+    @Test
+    void twoPlayer_matchesKeepSeparateContexts() {
+        MatchContext first = new MatchContext();
+        MatchContext second = new MatchContext();
+        SimulationEngine a = SimulationEngine.twoPlayer(first);
+        SimulationEngine b = SimulationEngine.twoPlayer(second);
+
+        a.run(MAX_TICKS);
+
+        assertEquals(GameState.GAME_OVER, first.getTwoPlayerState());
+        assertEquals(GameState.PLAYING, second.getTwoPlayerState());
+        assertEquals(GameState.PLAYING, GameData.getInstance().getTwoPlayerState());
+        assertEquals(first, a.getContext());
+        assertFalse(b.isStopped());
+    }
+
+    @Test
+    void snapshot_isUnaffectedByLaterTicks() {
+        SimulationEngine engine = SimulationEngine.story(3);
+        engine.run(10);
+
+        WorldSnapshot snapshot = engine.getLogic().snapshot();
+        Player human = engine.getPlayers()[0];
+        int x = human.getX();
+        int y = human.getY();
+        int segments = human.getPath().size();
+        int endX = human.getPath().endX(segments - 1);
+        int endY = human.getPath().endY(segments - 1);
+        engine.run(10);
+
+        TrailBuffer trail = new TrailBuffer(false);
+        snapshot.applyTrail(0, trail);
+        assertEquals(3, snapshot.playerCount());
+        assertEquals(x, snapshot.x(0));
+        assertEquals(y, snapshot.y(0));
+        assertEquals(segments, trail.size());
+        assertEquals(endX, trail.endX(segments - 1));
+        assertEquals(endY, trail.endY(segments - 1));
+        assertEquals(engine.getLogic().getWalls().length, snapshot.walls().length);
+    }
+
+    @Test
+    void snapshotDeltas_rebuildTrails() {
+        SimulationEngine engine = SimulationEngine.story(4);
+        WorldSnapshot.Recorder recorder = new WorldSnapshot.Recorder();
+        WorldSnapshot first = new WorldSnapshot();
+        WorldSnapshot second = new WorldSnapshot();
+        TrailBuffer[] copies = new TrailBuffer[4];
+        for (int i = 0; i < copies.length; i++) {
+            copies[i] = new TrailBuffer(false);
+        }
+
+        int tick = 0;
+        while (engine.step() && tick < 500) {
+            tick++;
+            if (tick % 3 == 0) {
+                // an unread snapshot is folded into the next one instead of being lost
+                engine.getLogic().snapshot(recorder, first, null);
+                engine.step();
+                engine.getLogic().snapshot(recorder, second, first);
+            } else {
+                engine.getLogic().snapshot(recorder, second, null);
+            }
+            for (int i = 0; i < copies.length; i++) {
+                second.applyTrail(i, copies[i]);
+            }
+        }
+        engine.getLogic().snapshot(recorder, second, null);
+        for (int i = 0; i < copies.length; i++) {
+            second.applyTrail(i, copies[i]);
+        }
+
+        Player[] players = engine.getPlayers();
+        for (int i = 0; i < players.length; i++) {
+            assertTrailsEqual(players[i].getPath(), copies[i]);
+        }
+        recorder.detach();
+    }
+
+    @Test
+    void snapshot_reportsDeathsOnce() {
+        SimulationEngine engine = SimulationEngine.survival();
+        WorldSnapshot.Recorder recorder = new WorldSnapshot.Recorder();
+        WorldSnapshot snapshot = new WorldSnapshot();
+        int deaths = 0;
+
+        engine.getLogic().snapshot(recorder, snapshot, null);
+        while (engine.step()) {
+            engine.getLogic().snapshot(recorder, snapshot, null);
+            deaths += snapshot.hasEvent(0, WorldSnapshot.DIED) ? 1 : 0;
+        }
+        engine.getLogic().snapshot(recorder, snapshot, null);
+        deaths += snapshot.hasEvent(0, WorldSnapshot.DIED) ? 1 : 0;
+
+        assertEquals(1, deaths);
+        assertFalse(snapshot.alive(0));
+        assertFalse(snapshot.running());
+        recorder.detach();
+    }
+
+    @Test
+    void story_sameSeedReplaysMatch() {
+        SimulationEngine first = SimulationEngine.story(4, new MatchContext(7));
+        SimulationEngine second = SimulationEngine.story(4, new MatchContext(7));
+
+        long ticks = first.run(MAX_TICKS);
+
+        assertEquals(ticks, second.run(MAX_TICKS));
+        Player[] expected = first.getPlayers();
+        Player[] actual = second.getPlayers();
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i].getAlive(), actual[i].getAlive());
+            assertTrailsEqual(expected[i].getPath(), actual[i].getPath());
+        }
+    }
+
+    @Test
+    void story_searchLevelReplaysFromSeed() {
+        SimulationEngine[] runs = new SimulationEngine[2];
+        for (int r = 0; r < runs.length; r++) {
+            MatchContext context = new MatchContext(7);
+            context.setStoryLevel(4);
+            runs[r] = SimulationEngine.story(5, context);
+        }
+
+        long ticks = runs[0].run(MAX_TICKS);
+
+        assertEquals(ticks, runs[1].run(MAX_TICKS));
+        Player[] expected = runs[0].getPlayers();
+        Player[] actual = runs[1].getPlayers();
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i].getAlive(), actual[i].getAlive());
+            assertTrailsEqual(expected[i].getPath(), actual[i].getPath());
+        }
+    }
+
+    @Test
+    void survival_seedDeterminesLayout() {
+        Wall[] first = SimulationEngine.survival(new MatchContext(11)).getLogic().getWalls();
+        Wall[] same = SimulationEngine.survival(new MatchContext(11)).getLogic().getWalls();
+        Wall[] other = SimulationEngine.survival(new MatchContext(12)).getLogic().getWalls();
+
+        assertEquals(layout(first), layout(same));
+        assertNotEquals(layout(first), layout(other), "Gaps follow the seed");
+    }
+
+    private static String layout(Wall[] walls) {
+        StringBuilder text = new StringBuilder();
+        for (Wall w : walls) {
+            text.append(w.getX()).append(',').append(w.getY()).append(',')
+                    .append(w.getWidth()).append(',').append(w.getHeight()).append(';');
+        }
+        return text.toString();
+    }
+
+    private static void assertTrailsEqual(TrailBuffer expected, TrailBuffer actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int k = 0; k < expected.size(); k++) {
+            assertEquals(expected.startX(k), actual.startX(k));
+            assertEquals(expected.startY(k), actual.startY(k));
+            assertEquals(expected.endX(k), actual.endX(k));
+            assertEquals(expected.endY(k), actual.endY(k));
+        }
+    }
+}
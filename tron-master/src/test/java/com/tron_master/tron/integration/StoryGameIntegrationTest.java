@@ -11,6 +11,7 @@ import com.tron_master.tron.model.data.GameData;
 import com.tron_master.tron.model.data.GameState;
 import com.tron_master.tron.model.logic_strategy.StoryLogicStrategy;
 import com.tron_master.tron.model.object.Player;
+import com.tron_master.tron.model.object.PlayerAI;
 import com.tron_master.tron.model.object.Portal;
 import com.tron_master.tron.model.object.Wall;
 
@@ -220,6 +221,31 @@ class StoryGameIntegrationTest {
         assertTrue(gameLogic.getPortals().length > 0, "Should have portals");
     }
 
+    @Test
+    void portal_teleportsOnePlayerPerTick() {
+        Player[] players = gameLogic.getPlayers();
+        ((PlayerAI) players[1]).setPolicy(ai -> { }); // keep heading into the portal
+        // both heads inside the first entrance (x 58-68, y 54-81), far enough apart not to collide
+        int[] ys = {60, 74};
+        for (int i = 0; i < 2; i++) {
+            players[i].setX(60);
+            players[i].setY(ys[i]);
+            players[i].setVelocityX(3);
+            players[i].setVelocityY(0);
+            players[i].clearPath();
+        }
+
+        gameLogic.tick(new MockStopCallback());
+
+        int teleported = 0;
+        for (int i = 0; i < 2; i++) {
+            if (players[i].getX() > 400) {
+                teleported++;
+            }
+        }
+        assertEquals(1, teleported, "An entrance teleports at most one player per tick");
+    }
+
     /**
      * Mock stop callback for testing tick() behavior.
      */
@@ -0,0 +1,89 @@
+package com.tron_master.tron.unit.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.tron_master.tron.controller.game_controller.FixedTimestep;
+
+/**
+ * Unit tests for FixedTimestep.
+ * Frame timestamps are fed by hand, so no JavaFX pulse is involved.
+ */
+@DisplayName("FixedTimestep Tests")
+class FixedTimestepTest {
+
+    private static final long STEP = 20_000_000;
+    private static final long MS = 1_000_000;
+
+    private FixedTimestep timestep;
+
+    @BeforeEach
+    void setUp() {
+        timestep = new FixedTimestep(STEP, 5);
+    }
+
+    @Test
+    @DisplayName("First frame runs one step")
+    void firstFrame_runsOneStep() {
+        assertEquals(1, timestep.advance(1_000 * MS));
+        assertEquals(0.0, timestep.alpha(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("60 Hz frames yield exactly 50 steps per second")
+    void sixtyHzFrames_yieldFiftyStepsPerSecond() {
+        long now = 0;
+        timestep.advance(now);
+        int steps = 0;
+        for (int frame = 1; frame <= 60; frame++) {
+            now = frame * 1_000_000_000L / 60;
+            steps += timestep.advance(now);
+        }
+        assertEquals(50, steps);
+    }
+
+    @Test
+    @DisplayName("Frame jitter does not accumulate")
+    void jitter_doesNotAccumulate() {
+        long now = 0;
+        timestep.advance(now);
+        int steps = 0;
+        long[] frames = {13, 21, 7, 30, 19, 10};
+        for (int i = 0; i < 100; i++) {
+            now += frames[i % frames.length] * MS;
+            steps += timestep.advance(now);
+        }
+        // every whole step elapsed since the first frame has been paid out
+        assertEquals(now / STEP, steps);
+    }
+
+    @Test
+    @DisplayName("Alpha reports the elapsed fraction of the next step")
+    void alpha_isFractionOfStep() {
+        timestep.advance(0);
+        assertEquals(0, timestep.advance(5 * MS));
+        assertEquals(0.25, timestep.alpha(), 1e-9);
+        assertEquals(1, timestep.advance(30 * MS));
+        assertEquals(0.5, timestep.alpha(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Long frames are capped and the excess is dropped")
+    void longFrame_isCapped() {
+        timestep.advance(0);
+        assertEquals(5, timestep.advance(1_000 * MS));
+        assertEquals(45, timestep.getDroppedSteps());
+        assertEquals(1, timestep.advance(1_020 * MS), "No backlog survives the cap");
+    }
+
+    @Test
+    @DisplayName("Reset forgets the previous frame")
+    void reset_forgetsPreviousFrame() {
+        timestep.advance(0);
+        timestep.reset();
+        assertEquals(1, timestep.advance(10_000 * MS));
+        assertEquals(0, timestep.getDroppedSteps());
+    }
+}
@@ -0,0 +1,110 @@
+package com.tron_master.tron.unit.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.tron_master.tron.controller.metrics.GameMetrics;
+import com.tron_master.tron.controller.metrics.LatencyHistogram;
+
+/**
+ * Unit tests for GameMetrics and LatencyHistogram.
+ * Timestamps are fed by hand, so the tests do not depend on the machine's speed.
+ */
+@DisplayName("GameMetrics Tests")
+class GameMetricsTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    @DisplayName("Percentiles report the upper bound of their power-of-two bucket")
+    void histogram_percentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(1_000);
+        }
+        histogram.record(1_000_000);
+
+        assertEquals(100, histogram.count());
+        assertEquals(1_023, histogram.percentile(50));
+        assertEquals(1_023, histogram.percentile(99));
+        assertEquals(1_000_000, histogram.percentile(100), "Capped at the maximum");
+        assertEquals(1_000_000, histogram.max());
+        assertEquals(10_990, histogram.mean(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("An empty or reset histogram reports zeros")
+    void histogram_emptyAndReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.percentile(99));
+        histogram.record(0);
+        histogram.record(-5);
+        assertEquals(0, histogram.percentile(100));
+
+        histogram.reset();
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.max());
+    }
+
+    @Test
+    @DisplayName("Samples turn counters into per-second rates once a second")
+    void sample_computesRates() {
+        GameMetrics metrics = new GameMetrics();
+        assertFalse(metrics.sample(0), "The first call only starts the clock");
+
+        for (int i = 0; i < 100; i++) {
+            metrics.countTick();
+        }
+        metrics.addAllocatedBytes(4096);
+        metrics.setTimestepCounters(3, 7);
+        metrics.setTrailSegments(42);
+        assertFalse(metrics.sample(SECOND / 2));
+        assertTrue(metrics.sample(2 * SECOND));
+
+        GameMetrics.Sample sample = metrics.getSamples().get(0);
+        assertEquals(50.0, sample.ticksPerSecond(), 1e-9);
+        assertEquals(2048.0, sample.allocatedBytesPerSecond(), 1e-9);
+        assertEquals(3, sample.droppedTicks());
+        assertEquals(7, sample.lateTicks());
+        assertEquals(42, sample.trailSegments());
+        assertTrue(metrics.getOverlayLines().get(0).startsWith("TPS 50.0"));
+    }
+
+    @Test
+    @DisplayName("A notice is shown under the overlay text until it is cleared")
+    void setNotice_addsOverlayLine() {
+        GameMetrics metrics = new GameMetrics();
+        int lines = metrics.getOverlayLines().size();
+
+        metrics.setNotice("saved ~/tron-metrics.csv");
+        assertEquals(lines + 1, metrics.getOverlayLines().size());
+        assertEquals("saved ~/tron-metrics.csv", metrics.getOverlayLines().get(lines));
+
+        metrics.setNotice(null);
+        assertEquals(lines, metrics.getOverlayLines().size());
+    }
+
+    @Test
+    @DisplayName("CSV export has one row per phase and one per sample")
+    void writeCsv_listsPhasesAndSamples() {
+        GameMetrics metrics = new GameMetrics();
+        metrics.record(GameMetrics.Phase.TICK, System.nanoTime());
+        metrics.sample(0);
+        metrics.sample(SECOND);
+        metrics.sample(2 * SECOND);
+
+        StringBuilder csv = new StringBuilder();
+        metrics.writeCsv(csv);
+        String[] lines = csv.toString().split("\\R");
+
+        assertTrue(lines[0].startsWith("phase,count"));
+        assertTrue(lines[1].startsWith("tick,1,"));
+        int phases = GameMetrics.Phase.values().length;
+        assertEquals("", lines[phases + 1]);
+        assertTrue(lines[phases + 2].startsWith("time_ns,ticks_per_second"));
+        assertEquals(phases + 5, lines.length, "Header, phases, blank, header and two samples");
+    }
+}
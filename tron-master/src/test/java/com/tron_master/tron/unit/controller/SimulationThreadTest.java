@@ -0,0 +1,195 @@
+package com.tron_master.tron.unit.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.tron_master.tron.controller.game_controller.SimulationThread;
+
+/**
+ * Unit tests for SimulationThread.
+ * Uses a plain counter as the "game" and one-element arrays as snapshot buffers,
+ * so no JavaFX toolkit is needed.
+ */
+@DisplayName("SimulationThread Tests")
+class SimulationThreadTest {
+
+    private static final long STEP = 2_000_000; // 2 ms keeps the tests fast
+
+    private final AtomicInteger steps = new AtomicInteger();
+    private final AtomicInteger created = new AtomicInteger();
+    private SimulationThread<int[]> simulation;
+
+    @AfterEach
+    void tearDown() {
+        if (simulation != null) {
+            simulation.stop();
+        }
+    }
+
+    private SimulationThread<int[]> counting(Runnable step) {
+        return new SimulationThread<>(STEP, 5, step, () -> {
+            created.incrementAndGet();
+            return new int[1];
+        }, (target, carryOver) -> target[0] = steps.get());
+    }
+
+    private int[] awaitSnapshot() throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            int[] snapshot = simulation.take();
+            if (snapshot != null) {
+                return snapshot;
+            }
+            Thread.sleep(2);
+        }
+        return null;
+    }
+
+    @Test
+    @DisplayName("Steps run off the calling thread and publish snapshots")
+    void start_publishesSnapshots() throws InterruptedException {
+        Thread caller = Thread.currentThread();
+        List<Thread> stepThreads = new ArrayList<>();
+        simulation = counting(() -> {
+            stepThreads.add(Thread.currentThread());
+            steps.incrementAndGet();
+        });
+
+        simulation.start();
+        int[] snapshot = awaitSnapshot();
+
+        assertNotNull(snapshot);
+        assertTrue(snapshot[0] > 0);
+        assertTrue(simulation.isRunning());
+        simulation.stop();
+        assertFalse(stepThreads.contains(caller));
+    }
+
+    @Test
+    @DisplayName("Take empties the slot")
+    void take_emptiesSlot() throws InterruptedException {
+        simulation = counting(steps::incrementAndGet);
+        simulation.start();
+        assertNotNull(awaitSnapshot());
+        simulation.stop();
+
+        simulation.take();
+        assertNull(simulation.take());
+    }
+
+    @Test
+    @DisplayName("Snapshot buffers are reused instead of allocated per step")
+    void buffers_areReused() throws InterruptedException {
+        simulation = counting(steps::incrementAndGet);
+        simulation.start();
+        for (int i = 0; i < 20; i++) {
+            assertNotNull(awaitSnapshot());
+        }
+        simulation.stop();
+
+        assertTrue(steps.get() >= 20);
+        // reader, slot, capture and one in transit; a handed-back buffer may be replaced once in a while
+        assertTrue(created.get() <= 6, "Created " + created.get() + " buffers");
+    }
+
+    @Test
+    @DisplayName("An unread snapshot is passed to the next capture as carry-over")
+    void unreadSnapshot_isCarriedOver() throws InterruptedException {
+        List<Integer> carried = new ArrayList<>();
+        simulation = new SimulationThread<>(STEP, 5, steps::incrementAndGet, () -> new int[1],
+                (target, carryOver) -> {
+                    if (carryOver != null) {
+                        carried.add(carryOver[0]);
+                    }
+                    target[0] = steps.get();
+                });
+
+        simulation.start();
+        for (int i = 0; i < 500 && steps.get() < 10; i++) {
+            Thread.sleep(2);
+        }
+        simulation.stop();
+
+        assertFalse(carried.isEmpty(), "Nobody read the snapshots, so each was carried into the next");
+    }
+
+    @Test
+    @DisplayName("A step can stop the simulation; its snapshot is still published")
+    void stopFromStep_publishesFinalSnapshot() throws InterruptedException {
+        AtomicReference<SimulationThread<int[]>> self = new AtomicReference<>();
+        simulation = counting(() -> {
+            if (steps.incrementAndGet() == 3) {
+                self.get().stop();
+            }
+        });
+        self.set(simulation);
+
+        simulation.start();
+        for (int i = 0; i < 500 && simulation.isRunning(); i++) {
+            Thread.sleep(2);
+        }
+        simulation.stop(); // waits for the final wake-up to publish
+        int[] last = simulation.take();
+
+        assertFalse(simulation.isRunning());
+        assertNotNull(last);
+        assertEquals(3, last[0]);
+        assertEquals(3, steps.get());
+    }
+
+    @Test
+    @DisplayName("A failing step stops the simulation and is reported once")
+    void failingStep_stopsAndReports() throws InterruptedException {
+        AtomicReference<RuntimeException> reported = new AtomicReference<>();
+        AtomicInteger reports = new AtomicInteger();
+        simulation = counting(() -> {
+            if (steps.incrementAndGet() == 3) {
+                throw new IllegalStateException("broken tick");
+            }
+        });
+        simulation.setOnFailure(e -> {
+            reported.set(e);
+            reports.incrementAndGet();
+        });
+
+        simulation.start();
+        for (int i = 0; i < 500 && simulation.isRunning(); i++) {
+            Thread.sleep(2);
+        }
+        simulation.stop();
+        Thread.sleep(10 * STEP / 1_000_000);
+
+        assertFalse(simulation.isRunning());
+        assertEquals("broken tick", reported.get().getMessage());
+        assertEquals(1, reports.get());
+        assertEquals(3, steps.get(), "No step ran after the failure");
+    }
+
+    @Test
+    @DisplayName("Submitted commands run on the simulation thread, or inline when stopped")
+    void submit_runsOnSimulationThread() throws InterruptedException {
+        simulation = counting(steps::incrementAndGet);
+        Thread[] ranOn = new Thread[1];
+
+        simulation.submit(() -> ranOn[0] = Thread.currentThread());
+        assertEquals(Thread.currentThread(), ranOn[0]);
+
+        simulation.start();
+        simulation.submit(() -> ranOn[0] = Thread.currentThread());
+        awaitSnapshot();
+        awaitSnapshot();
+        simulation.stop();
+        assertNotNull(ranOn[0]);
+        assertFalse(ranOn[0] == Thread.currentThread());
+    }
+}
@@ -0,0 +1,120 @@
+package com.tron_master.tron.unit.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.tron_master.tron.model.ai.HeuristicPolicy;
+import com.tron_master.tron.model.ai.SearchPolicy;
+import com.tron_master.tron.model.collision.ArenaField;
+import com.tron_master.tron.model.data.ColorValue;
+import com.tron_master.tron.model.object.Player;
+import com.tron_master.tron.model.object.PlayerAI;
+import com.tron_master.tron.model.object.Wall;
+
+/**
+ * Unit tests for the AI policies.
+ * The search policy gets a zero budget, so every move runs exactly one iteration
+ * and the tests do not depend on the machine's speed.
+ */
+@DisplayName("AiPolicy Tests")
+class AiPolicyTest {
+
+    private static final ColorValue TEST_COLOR = new ColorValue(1.0, 0.0, 0.0);
+    private PlayerAI ai;
+    private ArenaField field;
+    private Player[] players;
+
+    @BeforeEach
+    void setUp() {
+        ai = new PlayerAI(100, 252, 3, 0, TEST_COLOR, "story");
+        ai.setBounds(560, 500);
+        field = new ArenaField(560, 500);
+        players = new Player[]{ai};
+    }
+
+    private void tick(Wall[] walls) {
+        field.update(players, walls);
+        ai.move();
+    }
+
+    @Test
+    @DisplayName("The heuristic is the default policy")
+    void defaultPolicy_isHeuristic() {
+        assertInstanceOf(HeuristicPolicy.class, ai.getPolicy());
+
+        ai.setPolicy(new SearchPolicy());
+        ai.setPolicy(null);
+
+        assertInstanceOf(HeuristicPolicy.class, ai.getPolicy());
+    }
+
+    @Test
+    @DisplayName("The search runs one iteration per move on a zero budget")
+    void search_respectsBudget() {
+        SearchPolicy search = new SearchPolicy(0);
+        ai.setPolicy(search);
+
+        for (int i = 0; i < 10; i++) {
+            tick(new Wall[0]);
+        }
+
+        assertEquals(10, search.getIterations());
+    }
+
+    @Test
+    @DisplayName("A deadline that has passed still runs one iteration, however large the budget")
+    void search_stopsAtPassedDeadline() {
+        SearchPolicy search = new SearchPolicy(Long.MAX_VALUE);
+        ai.setPolicy(search);
+        field.update(players, new Wall[0]);
+
+        ai.think(System.nanoTime() - 1);
+
+        assertEquals(1, search.getIterations());
+    }
+
+    @Test
+    @DisplayName("An iteration budget ignores the clock and the deadline")
+    void search_runsFixedIterations() {
+        SearchPolicy search = SearchPolicy.withIterations(5);
+        ai.setPolicy(search);
+        field.update(players, new Wall[0]);
+
+        ai.think(System.nanoTime() - 1);
+        ai.think(System.nanoTime() + 1_000_000_000L);
+
+        assertEquals(10, search.getIterations());
+    }
+
+    @Test
+    @DisplayName("The search tree is kept when the AI moves into an explored cell")
+    void search_reusesTree() {
+        SearchPolicy search = new SearchPolicy(0);
+        ai.setPolicy(search);
+        Wall[] walls = new Wall[0];
+
+        tick(walls);
+        int cell = field.cellOf(ai.getX(), ai.getY());
+        while (field.cellOf(ai.getX(), ai.getY()) == cell) {
+            tick(walls);
+        }
+
+        // a fresh root would have seen only this move's iteration
+        assertTrue(search.getRootVisits() >= 2, "Root visits " + search.getRootVisits());
+    }
+
+    @Test
+    @DisplayName("The search turns away from a wall just ahead")
+    void search_avoidsWallAhead() {
+        ai.setPolicy(new SearchPolicy(0));
+        Wall[] walls = {new Wall(105, 0, 10, 500, TEST_COLOR)};
+
+        tick(walls);
+
+        assertEquals(0, ai.getVelocityX());
+    }
+}
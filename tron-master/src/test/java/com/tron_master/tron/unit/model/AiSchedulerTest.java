@@ -0,0 +1,247 @@
+package com.tron_master.tron.unit.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.tron_master.tron.model.ai.AiPolicy;
+import com.tron_master.tron.model.ai.AiScheduler;
+import com.tron_master.tron.model.collision.ArenaField;
+import com.tron_master.tron.model.data.ColorValue;
+import com.tron_master.tron.model.object.Player;
+import com.tron_master.tron.model.object.PlayerAI;
+import com.tron_master.tron.model.object.Wall;
+
+/**
+ * Unit tests for the AiScheduler.
+ * The AIs use a counting policy that keeps their heading, so every decision is visible.
+ */
+@DisplayName("AiScheduler Tests")
+class AiSchedulerTest {
+
+    private static final ColorValue TEST_COLOR = new ColorValue(1.0, 0.0, 0.0);
+
+    private final Map<PlayerAI, AtomicInteger> plans = new ConcurrentHashMap<>();
+    private final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+    private final AiPolicy counting = new AiPolicy() {
+        @Override
+        public void steer(PlayerAI ai) {
+            plans.computeIfAbsent(ai, k -> new AtomicInteger()).incrementAndGet();
+            threads.add(Thread.currentThread().getName());
+        }
+    };
+
+    /** AIs heading right on separate rows, far from each other and from the edges. */
+    private Player[] openField(int count) {
+        Player[] players = new Player[count];
+        for (int i = 0; i < count; i++) {
+            PlayerAI ai = new PlayerAI(50, 50 + 50 * i, 3, 0, TEST_COLOR, "story");
+            ai.setBounds(560, 500);
+            ai.setPolicy(counting);
+            players[i] = ai;
+        }
+        return players;
+    }
+
+    private int plansOf(Player p) {
+        AtomicInteger count = plans.get((PlayerAI) p);
+        return count != null ? count.get() : 0;
+    }
+
+    @Test
+    @DisplayName("Each AI plans once per interval when nothing is close")
+    void think_staggersPlans() {
+        Player[] players = openField(3);
+        AiScheduler scheduler = new AiScheduler(3, 1_000_000);
+
+        for (int tick = 0; tick < 3; tick++) {
+            scheduler.think(players);
+            assertEquals(tick + 1, plans.values().stream().mapToInt(AtomicInteger::get).sum(),
+                    "One plan per tick");
+        }
+
+        for (Player p : players) {
+            assertEquals(1, plansOf(p));
+        }
+        assertEquals(6, scheduler.getCoasted());
+    }
+
+    @Test
+    @DisplayName("An AI close to a wall plans every tick")
+    void think_urgentOverride() {
+        Player[] players = openField(2);
+        ((PlayerAI) players[0]).setWalls(new Wall[]{new Wall(60, 0, 10, 80, TEST_COLOR)});
+        AiScheduler scheduler = new AiScheduler(4, 1_000_000);
+
+        for (int tick = 0; tick < 4; tick++) {
+            scheduler.think(players);
+        }
+
+        assertEquals(4, plansOf(players[0]));
+        assertEquals(1, plansOf(players[1]));
+        assertEquals(3, scheduler.getUrgent(), "Tick 0 is its own turn");
+    }
+
+    @Test
+    @DisplayName("An AI plans out of turn whenever it enters a new field cell")
+    void think_cellEntryOverride() {
+        Player[] players = openField(1);
+        PlayerAI ai = (PlayerAI) players[0];
+        ArenaField field = new ArenaField(560, 500);
+        Wall[] walls = new Wall[0];
+        AiScheduler scheduler = new AiScheduler(100, 1_000_000);
+
+        int cells = 0;
+        int lastCell = -1;
+        for (int tick = 0; tick < 30; tick++) {
+            field.update(players, walls);
+            int cell = field.cellOf(ai.getX(), ai.getY());
+            if (cell != lastCell) {
+                cells++;
+                lastCell = cell;
+            }
+            scheduler.think(players);
+            ai.move();
+        }
+
+        assertTrue(cells > 1 && cells < 30, "Cells entered " + cells);
+        assertEquals(cells, plansOf(ai), "One plan per cell, none in between");
+        assertEquals(cells - 1, scheduler.getUrgent(), "Tick 0 is its own turn");
+        assertEquals(30 - cells, scheduler.getCoasted());
+    }
+
+    @Test
+    @DisplayName("A move keeps the scheduler's decision instead of planning again")
+    void move_usesScheduledDecision() {
+        Player[] players = openField(2);
+        AiScheduler scheduler = new AiScheduler(2, 1_000_000);
+
+        scheduler.think(players);
+        for (Player p : players) {
+            p.move();
+        }
+        assertEquals(1, plansOf(players[0]));
+        assertEquals(0, plansOf(players[1]), "Coasting AI did not plan");
+
+        players[1].move();
+        assertEquals(1, plansOf(players[1]), "Without a scheduler the AI plans in its move");
+    }
+
+    @Test
+    @DisplayName("Every move reaches the policy's per-move hook, planned or coasting")
+    void move_callsOnMoveWhenCoasting() {
+        Player[] players = openField(1);
+        AtomicInteger moves = new AtomicInteger();
+        ((PlayerAI) players[0]).setPolicy(new AiPolicy() {
+            @Override
+            public void steer(PlayerAI ai) {
+                counting.steer(ai);
+            }
+
+            @Override
+            public void onMove(PlayerAI ai) {
+                moves.incrementAndGet();
+            }
+        });
+        AiScheduler scheduler = new AiScheduler(4, 1_000_000);
+
+        for (int tick = 0; tick < 4; tick++) {
+            scheduler.think(players);
+            players[0].move();
+        }
+
+        assertEquals(1, plansOf(players[0]));
+        assertEquals(4, moves.get());
+    }
+
+    @Test
+    @DisplayName("Decisions run on the given executor within a share of the tick budget")
+    void think_runsInParallelWithinBudget() {
+        Player[] players = openField(4);
+        long budget = 400_000;
+        AtomicInteger late = new AtomicInteger();
+        AiPolicy timed = new AiPolicy() {
+            @Override
+            public void steer(PlayerAI ai) {
+                counting.steer(ai);
+            }
+
+            @Override
+            public void steer(PlayerAI ai, long deadlineNanos) {
+                // four planners on four threads: each may take the whole budget, no more
+                if (deadlineNanos - System.nanoTime() > budget) {
+                    late.incrementAndGet();
+                }
+                steer(ai);
+            }
+        };
+        for (Player p : players) {
+            ((PlayerAI) p).setPolicy(timed);
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(3,
+                Thread.ofPlatform().name("tron-ai-", 0).daemon().factory());
+        AiScheduler scheduler = new AiScheduler(1, budget, pool, 4);
+
+        try {
+            for (int tick = 0; tick < 5; tick++) {
+                scheduler.think(players);
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        for (Player p : players) {
+            assertEquals(5, plansOf(p));
+        }
+        assertEquals(0, late.get(), "No AI got more than its share");
+        assertTrue(threads.stream().anyMatch(name -> name.startsWith("tron-ai-")), "Threads " + threads);
+    }
+
+    @Test
+    @DisplayName("An interrupted tick still waits for its workers and keeps the interrupt")
+    void think_interruptedWaitsForWorkers() {
+        Player[] players = openField(2);
+        AtomicBoolean workerDone = new AtomicBoolean();
+        AiPolicy slowWorker = new AiPolicy() {
+            @Override
+            public void steer(PlayerAI ai) {
+                if (!Thread.currentThread().getName().startsWith("tron-ai-")) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                workerDone.set(true);
+            }
+        };
+        for (Player p : players) {
+            ((PlayerAI) p).setPolicy(slowWorker);
+        }
+        ExecutorService pool = Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("tron-ai-", 0).daemon().factory());
+        AiScheduler scheduler = new AiScheduler(1, 1_000_000, pool, 2);
+
+        try {
+            scheduler.think(players);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertTrue(Thread.interrupted(), "Interrupt is kept");
+        assertTrue(workerDone.get(), "Returned only after the worker finished");
+    }
+}
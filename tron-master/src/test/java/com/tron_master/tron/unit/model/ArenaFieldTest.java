@@ -0,0 +1,105 @@
+package com.tron_master.tron.unit.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.tron_master.tron.model.collision.ArenaField;
+import com.tron_master.tron.model.data.ColorValue;
+import com.tron_master.tron.model.object.Player;
+import com.tron_master.tron.model.object.PlayerAI;
+import com.tron_master.tron.model.object.PlayerHuman;
+import com.tron_master.tron.model.object.Wall;
+
+/**
+ * Unit tests for the coarse ArenaField used by the AI.
+ * Verifies incremental marking of trails and walls and the territory estimate.
+ */
+class ArenaFieldTest {
+
+    private static final ColorValue TEST_COLOR = new ColorValue(1.0, 0.0, 0.0);
+    private static final Wall[] NO_WALLS = new Wall[0];
+    private ArenaField field;
+    private PlayerHuman mover;
+    private PlayerAI ai;
+    private Player[] players;
+
+    @BeforeEach
+    void setUp() {
+        field = new ArenaField(560, 500);
+        mover = new PlayerHuman(100, 100, 3, 0, TEST_COLOR, "survival");
+        ai = new PlayerAI(300, 300, 0, 3, TEST_COLOR, "story");
+        mover.setBounds(560, 500);
+        ai.setBounds(560, 500);
+        players = new Player[]{mover, ai};
+        field.update(players, NO_WALLS);
+    }
+
+    private void moveMover(int steps) {
+        for (int i = 0; i < steps; i++) {
+            mover.move();
+            field.update(players, NO_WALLS);
+        }
+    }
+
+    @Test
+    void update_marksStepsAsTheyAreTaken() {
+        moveMover(20);
+
+        assertTrue(field.isBlocked(130, 100), "Cell under the trail");
+        assertFalse(field.isBlocked(130, 130), "Cell away from the trail");
+        assertTrue(field.isBlocked(-1, 100), "Outside the arena");
+    }
+
+    @Test
+    void update_redrawsTrailAfterClear() {
+        moveMover(20);
+        mover.clearPath();
+        field.update(players, NO_WALLS);
+
+        assertFalse(field.isBlocked(110, 100));
+        assertTrue(field.isBlocked(mover.getX(), mover.getY()), "Head cell stays marked");
+    }
+
+    @Test
+    void update_followsWallReloads() {
+        Wall[] walls = {new Wall(200, 200, 40, 40, TEST_COLOR)};
+        field.update(players, walls);
+        assertTrue(field.isBlocked(220, 220));
+
+        field.update(players, NO_WALLS);
+        assertFalse(field.isBlocked(220, 220));
+    }
+
+    @Test
+    void territory_prefersTheOpenSide() {
+        // walls above, below and left of the AI, closed by its own trail on the right,
+        // leave a small pocket to its left
+        ai.getPath().add(300, 240, 300, 300);
+        ArenaField fresh = new ArenaField(560, 500);
+        fresh.update(players, new Wall[]{
+                new Wall(200, 264, 100, 8, TEST_COLOR),
+                new Wall(200, 304, 100, 8, TEST_COLOR),
+                new Wall(200, 264, 8, 48, TEST_COLOR)});
+
+        int left = fresh.territory(ai, -1, 0, 5000);
+        int right = fresh.territory(ai, 1, 0, 5000);
+
+        assertEquals(30, left, "Pocket of 10 x 3 cells");
+        assertTrue(right > left, "right " + right + " vs left " + left);
+    }
+
+    @Test
+    void territory_blockedNextCell() {
+        field.update(players, new Wall[]{new Wall(296, 304, 10, 10, TEST_COLOR)});
+
+        assertEquals(-1, field.territory(ai, 0, 1, 5000));
+    }
+
+    @Test
+    void territory_isBoundedByLimit() {
+        assertTrue(field.territory(ai, 1, 0, 50) <= 50);
+    }
+}
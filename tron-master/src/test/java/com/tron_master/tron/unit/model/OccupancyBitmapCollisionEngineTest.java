@@ -0,0 +1,112 @@
+package com.tron_master.tron.unit.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.tron_master.tron.model.collision.OccupancyBitmapCollisionEngine;
+import com.tron_master.tron.model.collision.TrailGrid;
+import com.tron_master.tron.model.data.ColorValue;
+import com.tron_master.tron.model.data.Intersection;
+import com.tron_master.tron.model.object.Player;
+import com.tron_master.tron.model.object.PlayerHuman;
+
+/**
+ * Unit tests for the occupancy-bitmap collision engine.
+ * Checks pixel painting, the pending-step rule, and agreement with the segment-scan grid.
+ */
+class OccupancyBitmapCollisionEngineTest {
+
+    private static final ColorValue TEST_COLOR = new ColorValue(1.0, 0.0, 0.0);
+    private OccupancyBitmapCollisionEngine engine;
+    private PlayerHuman mover;
+    private PlayerHuman probe;
+
+    @BeforeEach
+    void setUp() {
+        engine = new OccupancyBitmapCollisionEngine(560, 500);
+        mover = new PlayerHuman(100, 100, 3, 0, TEST_COLOR, "survival");
+        probe = new PlayerHuman(300, 300, 0, 3, TEST_COLOR, "survival");
+        mover.setBounds(560, 500);
+        probe.setBounds(560, 500);
+        engine.track(new Player[]{mover, probe});
+    }
+
+    @Test
+    void onStep_paintsPreviousStepOnly() {
+        mover.move(); // 100 -> 103, pending
+        assertEquals(0, engine.occupiedCount());
+
+        mover.move(); // commits 100..103
+        assertTrue(engine.isOccupied(100, 100));
+        assertTrue(engine.isOccupied(103, 100));
+        assertFalse(engine.isOccupied(106, 100));
+    }
+
+    @Test
+    void intersects_detectsCrossingHead() {
+        for (int i = 0; i < 10; i++) {
+            mover.move();
+        }
+        probe.setX(110);
+        probe.setY(102);
+
+        assertEquals(Intersection.UP, engine.intersects(probe));
+    }
+
+    @Test
+    void intersects_ownHeadIsNotACrash() {
+        for (int i = 0; i < 10; i++) {
+            mover.move();
+        }
+
+        assertEquals(Intersection.NONE, engine.intersects(mover));
+    }
+
+    @Test
+    void onPathCleared_erasesTrail() {
+        for (int i = 0; i < 10; i++) {
+            mover.move();
+        }
+        mover.clearPath();
+
+        assertEquals(0, engine.occupiedCount());
+    }
+
+    @Test
+    void agreesWithSegmentScanGrid() {
+        TrailGrid grid = new TrailGrid(560, 500);
+        for (int i = 0; i < 10; i++) {
+            mover.move();
+        }
+        grid.track(new Player[]{mover, probe});
+
+        // Away from the open trail end both engines must give the same answer.
+        for (int x = 100; x <= 127; x++) {
+            for (int y = 96; y <= 104; y++) {
+                probe.setX(x);
+                probe.setY(y);
+                assertEquals(grid.intersects(probe), engine.intersects(probe),
+                        "mismatch at " + x + "," + y);
+            }
+        }
+    }
+
+    @Test
+    void castRay_agreesWithSegmentScanGrid() {
+        TrailGrid grid = new TrailGrid(560, 500);
+        for (int i = 0; i < 10; i++) {
+            mover.move();
+        }
+        grid.track(new Player[]{mover, probe});
+
+        int[][] rays = {{110, 150, 0, -1}, {110, 50, 0, 1}, {50, 100, 1, 0}, {200, 100, -1, 0}, {110, 150, 1, 0}};
+        for (int[] ray : rays) {
+            assertEquals(grid.castRay(ray[0], ray[1], ray[2], ray[3], 200),
+                    engine.castRay(ray[0], ray[1], ray[2], ray[3], 200),
+                    "mismatch from " + ray[0] + "," + ray[1]);
+        }
+    }
+}
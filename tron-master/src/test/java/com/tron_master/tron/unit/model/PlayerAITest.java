@@ -1,10 +1,9 @@
 package com.tron_master.tron.unit.model;
 
-import java.lang.reflect.Method;
-import java.util.ArrayList;
-
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,15 +11,17 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 
+import com.tron_master.tron.model.collision.ArenaField;
+import com.tron_master.tron.model.collision.WallEdges;
 import com.tron_master.tron.model.data.ColorValue;
-import com.tron_master.tron.model.data.LineSegment;
+import com.tron_master.tron.model.object.Player;
 import com.tron_master.tron.model.object.PlayerAI;
 import com.tron_master.tron.model.object.Wall;
 
 /**
  * Unit tests for PlayerAI class.
  * Focuses on two critical aspects:
- * 1. Wall detection foundation (getWallLines)
+ * 1. Wall detection foundation (getWallEdges)
  * 2. Random turn behavior (ensures AI is not a straight-line robot)
  */
 @DisplayName("PlayerAI Tests")
@@ -29,8 +30,8 @@ class PlayerAITest {
     private static final ColorValue TEST_COLOR = new ColorValue(1.0, 0.0, 0.0);
 
     @Nested
-    @DisplayName("getWallLines - Wall to LineSegment conversion")
-    class GetWallLinesTest {
+    @DisplayName("getWallEdges - Wall to edge table conversion")
+    class GetWallEdgesTest {
 
         private PlayerAI ai;
 
@@ -40,70 +41,124 @@ class PlayerAITest {
             ai.setBounds(500, 500);
         }
 
-        /**
-         * Invokes the private getWallLines() method via reflection.
-         */
-        @SuppressWarnings("unchecked")
-        private ArrayList<LineSegment> invokeGetWallLines(PlayerAI ai) throws Exception {
-            Method method = PlayerAI.class.getDeclaredMethod("getWallLines");
-            method.setAccessible(true);
-            return (ArrayList<LineSegment>) method.invoke(ai);
+        private boolean hasEdge(WallEdges edges, int x1, int y1, int x2, int y2) {
+            for (int i = 0; i < edges.size(); i++) {
+                if (edges.startX(i) == x1 && edges.startY(i) == y1 && edges.endX(i) == x2 && edges.endY(i) == y2) {
+                    return true;
+                }
+            }
+            return false;
         }
 
         @Test
-        @DisplayName("Single wall converts to 4 edge LineSegments")
-        void singleWall_convertsToFourEdges() throws Exception {
+        @DisplayName("Single wall converts to 4 edges")
+        void singleWall_convertsToFourEdges() {
             // Wall at (100, 100) with size 50x20
             Wall wall = new Wall(100, 100, 50, 20, TEST_COLOR);
             ai.setWalls(new Wall[]{wall});
 
-            ArrayList<LineSegment> lines = invokeGetWallLines(ai);
-
-            assertEquals(4, lines.size(), "One wall should produce 4 edge lines");
-
-            // Verify the edges exist (top, bottom, left, right)
-            // Wall: x=100, y=100, width=50, height=20
-            // Expected edges:
-            // - Top:    (100,100) -> (150,100)
-            // - Bottom: (100,120) -> (150,120)
-            // - Left:   (100,100) -> (100,120)
-            // - Right:  (150,100) -> (150,120)
-
-            boolean hasTopEdge = lines.stream().anyMatch(l ->
-                    l.getMinY() == 100 && l.getMaxY() == 100 && l.getMinX() == 100 && l.getMaxX() == 150);
-            boolean hasBottomEdge = lines.stream().anyMatch(l ->
-                    l.getMinY() == 120 && l.getMaxY() == 120 && l.getMinX() == 100 && l.getMaxX() == 150);
-            boolean hasLeftEdge = lines.stream().anyMatch(l ->
-                    l.getMinX() == 100 && l.getMaxX() == 100 && l.getMinY() == 100 && l.getMaxY() == 120);
-            boolean hasRightEdge = lines.stream().anyMatch(l ->
-                    l.getMinX() == 150 && l.getMaxX() == 150 && l.getMinY() == 100 && l.getMaxY() == 120);
-
-            assertTrue(hasTopEdge, "Should have top edge");
-            assertTrue(hasBottomEdge, "Should have bottom edge");
-            assertTrue(hasLeftEdge, "Should have left edge");
-            assertTrue(hasRightEdge, "Should have right edge");
+            WallEdges edges = ai.getWallEdges();
+
+            assertEquals(4, edges.size(), "One wall should produce 4 edges");
+            assertTrue(hasEdge(edges, 100, 100, 150, 100), "Should have top edge");
+            assertTrue(hasEdge(edges, 100, 120, 150, 120), "Should have bottom edge");
+            assertTrue(hasEdge(edges, 100, 100, 100, 120), "Should have left edge");
+            assertTrue(hasEdge(edges, 150, 100, 150, 120), "Should have right edge");
         }
 
         @Test
-        @DisplayName("Null walls array returns empty list")
-        void nullWalls_returnsEmptyList() throws Exception {
+        @DisplayName("Null walls array gives an empty table")
+        void nullWalls_returnsEmptyTable() {
             ai.setWalls(null);
 
-            ArrayList<LineSegment> lines = invokeGetWallLines(ai);
-
-            assertNotNull(lines);
-            assertTrue(lines.isEmpty());
+            assertNotNull(ai.getWallEdges());
+            assertEquals(0, ai.getWallEdges().size());
         }
 
         @Test
-        @DisplayName("Empty walls array returns empty list")
-        void emptyWalls_returnsEmptyList() throws Exception {
+        @DisplayName("Empty walls array gives an empty table")
+        void emptyWalls_returnsEmptyTable() {
             ai.setWalls(new Wall[0]);
 
-            ArrayList<LineSegment> lines = invokeGetWallLines(ai);
+            assertEquals(0, ai.getWallEdges().size());
+        }
+
+        @Test
+        @DisplayName("The AIs of a match share one table, a reload builds a new one")
+        void sameLayout_sharesTable() {
+            Wall[] layout = {new Wall(100, 100, 50, 20, TEST_COLOR)};
+            PlayerAI other = new PlayerAI(50, 50, 0, 3, TEST_COLOR, "story");
+            Player[] players = {ai, other};
+            ArenaField field = new ArenaField(500, 500);
+            field.update(players, layout);
+
+            WallEdges shared = ai.getWallEdges();
+            assertSame(shared, other.getWallEdges());
+
+            field.update(players, new Wall[]{new Wall(100, 100, 50, 20, TEST_COLOR)});
+            assertNotSame(shared, ai.getWallEdges());
+            assertSame(ai.getWallEdges(), other.getWallEdges());
+        }
+
+        @Test
+        @DisplayName("Matches on the same layout keep their own tables")
+        void separateMatches_doNotShareTables() {
+            Wall[] layout = {new Wall(100, 100, 50, 20, TEST_COLOR)};
+            PlayerAI other = new PlayerAI(50, 50, 0, 3, TEST_COLOR, "story");
+            new ArenaField(500, 500).update(new Player[]{ai}, layout);
+            WallEdges first = ai.getWallEdges();
+
+            new ArenaField(500, 500).update(new Player[]{other}, layout);
+
+            assertSame(first, ai.getWallEdges(), "The other match did not replace this one's table");
+            assertNotSame(first, other.getWallEdges());
+        }
+
+        @Test
+        @DisplayName("The arena field hands a reloaded layout to its AIs")
+        void fieldReload_updatesEdges() {
+            ArenaField field = new ArenaField(500, 500);
+            Player[] players = {ai};
+            field.update(players, new Wall[0]);
+            assertEquals(0, ai.getWallEdges().size());
+
+            field.update(players, new Wall[]{new Wall(100, 100, 50, 20, TEST_COLOR)});
+
+            assertEquals(4, ai.getWallEdges().size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Obstacle avoidance")
+    class ObstacleAvoidanceTest {
+
+        @Test
+        @DisplayName("AI turns away from a wall just ahead, towards the roomier side")
+        void wallAhead_turnsTowardsOpenSide() {
+            // moving right near the top edge, a tall wall 5 px ahead
+            PlayerAI ai = new PlayerAI(100, 50, 3, 0, TEST_COLOR, "story");
+            ai.setBounds(500, 500);
+            ai.setWalls(new Wall[]{new Wall(105, 0, 10, 500, TEST_COLOR)});
+
+            ai.move();
+
+            assertEquals(0, ai.getVelocityX());
+            assertTrue(ai.getVelocityY() > 0, "More room below than above");
+        }
+
+        @Test
+        @DisplayName("AI turns away from another player's trail just ahead")
+        void trailAhead_turns() {
+            PlayerAI ai = new PlayerAI(60, 50, 0, 3, TEST_COLOR, "story");
+            PlayerAI other = new PlayerAI(300, 300, 3, 0, TEST_COLOR, "story");
+            ai.setBounds(500, 500);
+            other.getPath().add(0, 56, 400, 56);
+            ai.addPlayers(new Player[]{ai, other});
+
+            ai.move();
 
-            assertNotNull(lines);
-            assertTrue(lines.isEmpty());
+            assertEquals(0, ai.getVelocityY());
+            assertTrue(ai.getVelocityX() > 0, "More room to the right than to the left");
         }
     }
 
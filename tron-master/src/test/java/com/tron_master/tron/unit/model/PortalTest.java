@@ -2,6 +2,7 @@ package com.tron_master.tron.unit.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
@@ -93,4 +94,12 @@ class PortalTest {
         
         assertFalse(result);
     }
-}
\ No newline at end of file
+
+    // ===== getPath Tests =====
+
+    @Test
+    void getPath_isOneSharedEmptyTrail() {
+        assertEquals(0, entrance.getPath().size());
+        assertSame(entrance.getPath(), exit.getPath(), "Walls share one empty trail instead of allocating");
+    }
+}
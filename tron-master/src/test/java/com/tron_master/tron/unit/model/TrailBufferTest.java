@@ -0,0 +1,186 @@
+package com.tron_master.tron.unit.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.tron_master.tron.model.data.ColorValue;
+import com.tron_master.tron.model.data.TrailBuffer;
+import com.tron_master.tron.model.object.PlayerHuman;
+
+/**
+ * Unit tests for the primitive trail buffer and its flyweight cursor.
+ */
+class TrailBufferTest {
+
+    @Test
+    void add_storesCoordinatesIncludingNegatives() {
+        TrailBuffer trail = new TrailBuffer();
+        trail.add(10, 20, 30, 20);
+        trail.add(-5, 7, -5, -9);
+
+        assertEquals(2, trail.size());
+        assertEquals(10, trail.startX(0));
+        assertEquals(20, trail.startY(0));
+        assertEquals(30, trail.endX(0));
+        assertEquals(-5, trail.startX(1));
+        assertEquals(-9, trail.endY(1));
+    }
+
+    @Test
+    void add_growsPastInitialCapacity() {
+        TrailBuffer trail = new TrailBuffer();
+        for (int i = 0; i < 1000; i++) {
+            trail.add(i, i, i + 1, i);
+        }
+
+        assertEquals(1000, trail.size());
+        assertEquals(999, trail.startX(999));
+        assertEquals(1000, trail.endX(999));
+    }
+
+    @Test
+    void setEnd_extendsSegmentInPlace() {
+        TrailBuffer trail = new TrailBuffer();
+        trail.add(0, 0, 3, 0);
+        trail.setEnd(0, 9, 0);
+
+        assertEquals(1, trail.size());
+        assertEquals(9, trail.endX(0));
+    }
+
+    @Test
+    void cursor_visitsSegmentsInOrder() {
+        TrailBuffer trail = new TrailBuffer();
+        trail.add(0, 0, 5, 0);
+        trail.add(5, 0, 5, 8);
+        TrailBuffer.Cursor cursor = trail.cursor();
+
+        assertTrue(cursor.next());
+        assertFalse(cursor.isVertical());
+        assertEquals(5, cursor.getMaxX());
+        assertTrue(cursor.next());
+        assertTrue(cursor.isVertical());
+        assertEquals(8, cursor.getMaxY());
+        assertFalse(cursor.next());
+    }
+
+    @Test
+    void clear_emptiesAndRejectsStaleIndex() {
+        TrailBuffer trail = new TrailBuffer();
+        trail.add(0, 0, 5, 0);
+        trail.clear();
+
+        assertTrue(trail.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> trail.startX(0));
+    }
+
+    @Test
+    void copyFrom_isIndependentOfSource() {
+        TrailBuffer source = new TrailBuffer(true);
+        for (int i = 0; i < 200; i++) {
+            source.add(i, 0, i, 5);
+        }
+        TrailBuffer copy = new TrailBuffer(false);
+        copy.add(9, 9, 9, 9);
+
+        copy.copyFrom(source);
+        source.setEnd(0, 0, 99);
+        source.add(1, 1, 2, 1);
+
+        assertEquals(200, copy.size());
+        assertEquals(5, copy.endY(0));
+        assertEquals(199, copy.startX(199));
+    }
+
+    @Test
+    void offHeapStore_readsBackLikeHeapStore() {
+        TrailBuffer heap = new TrailBuffer(false);
+        TrailBuffer offHeap = new TrailBuffer(true);
+        for (int i = 0; i < 500; i++) {
+            heap.add(i, -i, i + 3, -i);
+            offHeap.add(i, -i, i + 3, -i);
+        }
+        offHeap.setEnd(499, 600, -499);
+        heap.setEnd(499, 600, -499);
+
+        assertTrue(offHeap.isOffHeap());
+        assertFalse(heap.isOffHeap());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(heap.startX(i), offHeap.startX(i));
+            assertEquals(heap.startY(i), offHeap.startY(i));
+            assertEquals(heap.endX(i), offHeap.endX(i));
+            assertEquals(heap.endY(i), offHeap.endY(i));
+        }
+    }
+
+    @Test
+    void memoryUsage_countsReservedAndUsedBytes() {
+        TrailBuffer.MemoryUsage before = TrailBuffer.memoryUsage();
+        TrailBuffer offHeap = new TrailBuffer(true);
+        for (int i = 0; i < 100; i++) {
+            offHeap.add(0, 0, 1, 0);
+        }
+        TrailBuffer.MemoryUsage after = TrailBuffer.memoryUsage();
+
+        assertTrue(after.offHeapBytes() - before.offHeapBytes() >= 100 * 2 * Integer.BYTES);
+        assertEquals(100 * 2 * Integer.BYTES, after.usedBytes() - before.usedBytes());
+        assertEquals(100, offHeap.size());
+    }
+
+    @Test
+    void playerMove_straightRunIsSingleSegment() {
+        PlayerHuman player = new PlayerHuman(100, 100, 3, 0, new ColorValue(1.0, 0.0, 0.0), "survival");
+        player.setBounds(560, 500);
+        for (int i = 0; i < 20; i++) {
+            player.move();
+        }
+
+        TrailBuffer trail = player.getPath();
+        assertEquals(1, trail.size());
+        assertEquals(100, trail.startX(0));
+        assertEquals(160, trail.endX(0));
+    }
+
+    @Test
+    void playerMove_newSegmentOnlyOnTurnOrJump() {
+        PlayerHuman player = new PlayerHuman(100, 100, 3, 0, new ColorValue(1.0, 0.0, 0.0), "survival");
+        player.setBounds(560, 500);
+        for (int i = 0; i < 5; i++) {
+            player.move();
+        }
+        player.setVelocityX(0);
+        player.setVelocityY(3);
+        for (int i = 0; i < 5; i++) {
+            player.move();
+        }
+        player.jump();
+        player.move();
+        for (int i = 0; i < 5; i++) {
+            player.move();
+        }
+
+        TrailBuffer trail = player.getPath();
+        assertEquals(3, trail.size());
+        assertEquals(115, trail.endX(0));
+        assertEquals(115, trail.endY(1));
+        assertEquals(131, trail.startY(2));
+        assertEquals(146, trail.endY(2));
+    }
+
+    @Test
+    void empty_rejectsEveryChange() {
+        TrailBuffer empty = TrailBuffer.empty();
+        TrailBuffer source = new TrailBuffer(false);
+        source.add(1, 2, 3, 2);
+
+        assertTrue(empty.isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> empty.add(1, 2, 3, 2));
+        assertThrows(UnsupportedOperationException.class, () -> empty.copyFrom(source));
+        assertThrows(UnsupportedOperationException.class, empty::clear);
+        assertTrue(empty.isEmpty());
+        assertFalse(empty.cursor().next());
+    }
+}
@@ -0,0 +1,161 @@
+package com.tron_master.tron.unit.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.tron_master.tron.model.collision.TrailGrid;
+import com.tron_master.tron.model.data.ColorValue;
+import com.tron_master.tron.model.data.Intersection;
+import com.tron_master.tron.model.object.Player;
+import com.tron_master.tron.model.object.PlayerHuman;
+
+/**
+ * Unit tests for the TrailGrid spatial index.
+ * Verifies that incremental step reporting matches the segment-scan collision rule.
+ */
+class TrailGridTest {
+
+    private static final ColorValue TEST_COLOR = new ColorValue(1.0, 0.0, 0.0);
+    private TrailGrid grid;
+    private PlayerHuman mover;
+    private PlayerHuman probe;
+
+    @BeforeEach
+    void setUp() {
+        grid = new TrailGrid(560, 500);
+        mover = new PlayerHuman(100, 100, 3, 0, TEST_COLOR, "survival");
+        probe = new PlayerHuman(300, 300, 0, 3, TEST_COLOR, "survival");
+        mover.setBounds(560, 500);
+        probe.setBounds(560, 500);
+        grid.track(new Player[]{mover, probe});
+    }
+
+    @Test
+    void intersects_detectsCommittedTrail() {
+        for (int i = 0; i < 10; i++) {
+            mover.move();
+        }
+        // probe sits on the trail left behind by the mover
+        probe.setX(110);
+        probe.setY(100);
+
+        assertEquals(Intersection.UP, grid.intersects(probe));
+    }
+
+    @Test
+    void intersects_ignoresLatestStep() {
+        mover.move();
+
+        // only one step exists: it is still pending and must not count
+        assertEquals(0, grid.size());
+        assertEquals(Intersection.NONE, grid.intersects(mover));
+    }
+
+    @Test
+    void intersects_noneWhenFarFromTrail() {
+        for (int i = 0; i < 10; i++) {
+            mover.move();
+        }
+
+        assertEquals(Intersection.NONE, grid.intersects(probe));
+    }
+
+    @Test
+    void clearPath_removesTrailFromGrid() {
+        for (int i = 0; i < 10; i++) {
+            mover.move();
+        }
+        mover.clearPath();
+        probe.setX(110);
+        probe.setY(100);
+
+        assertEquals(0, grid.size());
+        assertEquals(Intersection.NONE, grid.intersects(probe));
+    }
+
+    @Test
+    void clearPath_keepsOtherTrailsAndReusesSteps() {
+        for (int i = 0; i < 10; i++) {
+            mover.move();
+            probe.move();
+        }
+        mover.clearPath();
+        assertEquals(9, grid.size(), "The probe's trail stays");
+        for (int i = 0; i < 5; i++) {
+            mover.move();
+        }
+
+        assertEquals(13, grid.size());
+        PlayerHuman head = new PlayerHuman(300, 310, 0, 0, TEST_COLOR, "survival");
+        assertEquals(Intersection.UP, grid.intersects(head), "On the probe's trail");
+        head.setX(120);
+        head.setY(100);
+        assertEquals(Intersection.NONE, grid.intersects(head), "On the cleared part of the mover's trail");
+        head.setX(mover.getX() - 6);
+        head.setY(mover.getY());
+        assertEquals(Intersection.UP, grid.intersects(head), "On the mover's new trail");
+    }
+
+    @Test
+    void sweep_catchesFastHeadCrossingTrail() {
+        for (int i = 0; i < 10; i++) {
+            mover.move();
+        }
+        // moves 93 -> 103 in one tick: the end point alone is clear of the trail at y=100
+        PlayerHuman crosser = new PlayerHuman(110, 93, 0, 10, TEST_COLOR, "survival");
+        crosser.setBounds(560, 500);
+        crosser.move();
+
+        assertEquals(Intersection.NONE, grid.intersects(crosser));
+        assertEquals(Intersection.UP, grid.sweep(crosser));
+    }
+
+    @Test
+    void sweep_jumpOnlyTestsLanding() {
+        for (int i = 0; i < 10; i++) {
+            mover.move();
+        }
+        PlayerHuman jumper = new PlayerHuman(110, 92, 0, 3, TEST_COLOR, "survival");
+        jumper.setBounds(560, 500);
+        jumper.jump();
+        jumper.move();
+
+        assertTrue(jumper.hasJustJumped());
+        assertEquals(Intersection.NONE, grid.sweep(jumper));
+    }
+
+    @Test
+    void sweep_ownCornerIsNotACrash() {
+        for (int i = 0; i < 10; i++) {
+            mover.move();
+        }
+        mover.setVelocityY(3);
+        mover.setVelocityX(0);
+        mover.move();
+        mover.move();
+
+        assertEquals(Intersection.NONE, grid.sweep(mover));
+    }
+
+    @Test
+    void castRay_measuresDistanceAcrossCells() {
+        for (int i = 0; i < 10; i++) {
+            mover.move();
+        }
+
+        assertEquals(50, grid.castRay(110, 150, 0, -1, 200), "Up to the trail at y=100");
+        assertEquals(200, grid.castRay(110, 150, 0, 1, 200), "Nothing below");
+        assertEquals(30, grid.castRay(110, 150, 0, -1, 30), "Capped at the range");
+        assertEquals(50, grid.castRay(50, 100, 1, 0, 200), "Along the trail to its near end");
+        assertEquals(200, grid.castRay(140, 100, 1, 0, 200), "Trail lies behind the origin");
+    }
+
+    @Test
+    void castRay_ignoresLatestStep() {
+        mover.move();
+
+        assertEquals(100, grid.castRay(101, 120, 0, -1, 100));
+    }
+}
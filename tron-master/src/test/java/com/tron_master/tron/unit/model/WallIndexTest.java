@@ -0,0 +1,104 @@
+package com.tron_master.tron.unit.model;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.tron_master.tron.controller.WallLayoutController;
+import com.tron_master.tron.model.collision.WallIndex;
+import com.tron_master.tron.model.data.ColorValue;
+import com.tron_master.tron.model.object.PlayerHuman;
+import com.tron_master.tron.model.object.Portal;
+import com.tron_master.tron.model.object.Wall;
+
+/**
+ * Unit tests for the static wall/portal bounding-volume hierarchy.
+ * The index must report exactly the walls a linear scan would.
+ */
+class WallIndexTest {
+
+    private static final ColorValue TEST_COLOR = new ColorValue(1.0, 0.0, 0.0);
+
+    private static PlayerHuman playerAt(int x, int y) {
+        PlayerHuman player = new PlayerHuman(x, y, 3, 0, TEST_COLOR, "survival");
+        player.setBounds(560, 500);
+        return player;
+    }
+
+    @Test
+    void collides_onlyNearbyWallsHit() {
+        WallIndex<Wall> index = new WallIndex<>(new Wall[]{new Wall(295, 297, 20, 5), new Wall(10, 10, 5, 5)});
+
+        assertTrue(index.collides(playerAt(300, 300)));
+        assertFalse(index.collides(playerAt(100, 100)));
+    }
+
+    @Test
+    void emptyOrNullLayout_neverCollides() {
+        assertFalse(new WallIndex<>(new Wall[0]).collides(playerAt(100, 100)));
+        assertFalse(new WallIndex<Wall>(null).collides(playerAt(100, 100)));
+        assertEquals(0, new WallIndex<>(new Wall[]{null}).size());
+    }
+
+    @Test
+    void collides_matchesLinearScanOnManyWalls() {
+        Wall[] walls = new Wall[40];
+        for (int i = 0; i < walls.length; i++) {
+            walls[i] = new Wall(10 + (i % 8) * 65, 10 + (i / 8) * 95, 30, 6);
+        }
+        WallIndex<Wall> index = new WallIndex<>(walls);
+
+        for (int x = 0; x < 560; x += 3) {
+            for (int y = 0; y < 500; y += 3) {
+                PlayerHuman player = playerAt(x, y);
+                boolean linear = false;
+                for (Wall wall : walls) {
+                    linear |= wall.collidesWithPlayer(player);
+                }
+                assertEquals(linear, index.collides(player), "mismatch at " + x + "," + y);
+            }
+        }
+    }
+
+    @Test
+    void find_returnsMatchingPortal() {
+        Portal entrance = new Portal(100, 100, 10, 10, true);
+        Portal exit = new Portal(104, 104, 10, 10, false);
+        WallIndex<Portal> index = new WallIndex<>(new Portal[]{entrance, exit});
+        PlayerHuman player = playerAt(106, 106);
+
+        assertSame(entrance, index.find(player, Portal::isEntrance));
+        assertNull(index.find(playerAt(300, 300), Portal::isEntrance));
+    }
+
+    @Test
+    void find_visitsEveryOverlappingWallOfADeepTree() {
+        Wall[] walls = new Wall[1000];
+        for (int i = 0; i < walls.length; i++) {
+            walls[i] = new Wall(100 + i % 7, 100 + i % 5, 20, 20);
+        }
+        WallIndex<Wall> index = new WallIndex<>(walls);
+        int[] tested = new int[1];
+
+        for (int query = 0; query < 2; query++) {
+            tested[0] = 0;
+            assertNull(index.find(playerAt(110, 110), wall -> ++tested[0] < 0));
+            assertEquals(walls.length, tested[0], "query " + query);
+        }
+    }
+
+    @Test
+    void collides_survivalLayout() {
+        Wall[] walls = WallLayoutController.loadSurvivalWalls(new SplittableRandom(1));
+        WallIndex<Wall> index = new WallIndex<>(walls);
+        Wall first = walls[0];
+
+        assertEquals(walls.length, index.size());
+        assertTrue(index.collides(playerAt(first.getX() + first.getWidth() / 2, first.getY() + first.getHeight() / 2)));
+    }
+}